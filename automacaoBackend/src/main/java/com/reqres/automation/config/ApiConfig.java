@@ -39,6 +39,192 @@ public class ApiConfig {
     
     @Value("${api.key:QpwL5tke4Pnpja7X4}")
     private String apiKey;
+    
+    @Value("${api.http.pool.max.total:50}")
+    private int poolMaxTotal;
+    
+    @Value("${api.http.pool.max.per.route:20}")
+    private int poolMaxPerRoute;
+    
+    @Value("${api.http.pool.idle.timeout.ms:30000}")
+    private long poolIdleTimeoutMs;
+    
+    @Value("${api.http.pool.eviction.interval.ms:5000}")
+    private long poolEvictionIntervalMs;
+    
+    @Value("${api.http.connect.timeout.ms:10000}")
+    private int connectTimeoutMs;
+    
+    @Value("${api.async.threads:4}")
+    private int asyncThreads;
+    
+    @Value("${api.transport:http1}")
+    private String transport;
+    
+    @Value("${api.execution.mode:platform}")
+    private String executionMode;
+    
+    @Value("${api.bulk.concurrency:8}")
+    private int bulkConcurrency;
+    
+    @Value("${api.http.conditional.enabled:false}")
+    private boolean conditionalRequestsEnabled;
+    
+    @Value("${api.cache.enabled:false}")
+    private boolean responseCacheEnabled;
+    
+    @Value("${api.cache.ttl.ms:30000}")
+    private long responseCacheTtlMs;
+    
+    @Value("${api.cache.max.entries:256}")
+    private int responseCacheMaxEntries;
+    
+    @Value("${api.mode:passthrough}")
+    private String mode;
+    
+    @Value("${api.cassette.path:src/test/resources/cassettes/reqres.json}")
+    private String cassettePath;
+    
+    @Value("${api.http.compression.enabled:true}")
+    private boolean compressionEnabled;
+    
+    @Value("${api.http.compression.request.enabled:false}")
+    private boolean requestCompressionEnabled;
+    
+    @Value("${api.http.compression.request.min.bytes:1024}")
+    private int requestCompressionMinBytes;
+    
+    @Value("${api.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+    
+    @Value("${api.hedge.percentile:95}")
+    private double hedgePercentile;
+    
+    @Value("${api.hedge.min.delay.ms:20}")
+    private long hedgeMinDelayMs;
+    
+    @Value("${api.hedge.min.samples:20}")
+    private int hedgeMinSamples;
+    
+    @Value("${api.hedge.budget.percent:10}")
+    private double hedgeBudgetPercent;
+    
+    @Value("${api.retry.enabled:true}")
+    private boolean retryEnabled;
+    
+    @Value("${api.retry.max.attempts:3}")
+    private int retryMaxAttempts;
+    
+    @Value("${api.retry.base.delay.ms:200}")
+    private long retryBaseDelayMs;
+    
+    @Value("${api.retry.max.delay.ms:5000}")
+    private long retryMaxDelayMs;
+    
+    @Value("${api.retry.max.retry.after.ms:30000}")
+    private long retryMaxRetryAfterMs;
+    
+    @Value("${api.retry.budget.percent:20}")
+    private double retryBudgetPercent;
+    
+    @Value("${api.retry.budget.min:10}")
+    private int retryBudgetMin;
+    
+    @Value("${api.circuit.enabled:true}")
+    private boolean circuitEnabled;
+    
+    @Value("${api.circuit.window.size:20}")
+    private int circuitWindowSize;
+    
+    @Value("${api.circuit.min.calls:10}")
+    private int circuitMinCalls;
+    
+    @Value("${api.circuit.failure.rate.percent:50}")
+    private double circuitFailureRatePercent;
+    
+    @Value("${api.circuit.slow.call.ms:5000}")
+    private long circuitSlowCallMs;
+    
+    @Value("${api.circuit.slow.rate.percent:80}")
+    private double circuitSlowRatePercent;
+    
+    @Value("${api.circuit.open.ms:30000}")
+    private long circuitOpenMs;
+    
+    @Value("${api.circuit.half.open.calls:3}")
+    private int circuitHalfOpenCalls;
+    
+    @Value("${api.endpoint.timeout.ms:30000}")
+    private int endpointTimeoutMs;
+    
+    @Value("${api.endpoint.rate.per.second:0}")
+    private double endpointRatePerSecond;
+    
+    @Value("${api.endpoint.cacheable:true}")
+    private boolean endpointCacheable;
+    
+    @Value("${api.rate.limit.enabled:true}")
+    private boolean rateLimitEnabled;
+    
+    @Value("${api.rate.limit.per.second:2}")
+    private double rateLimitPerSecond;
+    
+    @Value("${api.rate.limit.burst:2}")
+    private int rateLimitBurst;
+    
+    @Value("${api.aimd.enabled:false}")
+    private boolean aimdEnabled;
+    
+    @Value("${api.aimd.min.rate:0.5}")
+    private double aimdMinRate;
+    
+    @Value("${api.aimd.max.rate:20}")
+    private double aimdMaxRate;
+    
+    @Value("${api.aimd.increase:1}")
+    private double aimdIncrease;
+    
+    @Value("${api.aimd.decrease.factor:0.5}")
+    private double aimdDecreaseFactor;
+    
+    @Value("${api.aimd.latency.threshold.ms:2000}")
+    private long aimdLatencyThresholdMs;
+    
+    @Value("${api.aimd.cooldown.ms:1000}")
+    private long aimdCooldownMs;
+    
+    @Value("${api.aimd.series.path:target/aimd-rate.csv}")
+    private String aimdSeriesPath;
+    
+    @Value("${api.deadline.enabled:true}")
+    private boolean deadlineEnabled;
+    
+    @Value("${api.deadline.default.ms:60000}")
+    private long deadlineDefaultMs;
+    
+    @Value("${api.auth.token.cache.enabled:true}")
+    private boolean authTokenCacheEnabled;
+    
+    @Value("${api.auth.token.ttl.ms:600000}")
+    private long authTokenTtlMs;
+    
+    @Value("${api.auth.token.refresh.enabled:true}")
+    private boolean authTokenRefreshEnabled;
+    
+    @Value("${api.auth.token.refresh.fraction:0.8}")
+    private double authTokenRefreshFraction;
+    
+    @Value("${api.auth.token.refresh.backoff.base.ms:500}")
+    private long authTokenRefreshBackoffBaseMs;
+    
+    @Value("${api.auth.token.refresh.backoff.max.ms:30000}")
+    private long authTokenRefreshBackoffMaxMs;
+    
+    @Value("${api.auth.credentials.file:}")
+    private String authCredentialsFile;
+    
+    @Value("${api.auth.credentials:}")
+    private String authCredentials;
 
     /**
      * Obtém a URL base da API
@@ -112,4 +298,599 @@ public class ApiConfig {
     public String getApiKey() {
         return apiKey;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Obtém o número máximo de conexões HTTP mantidas no pool compartilhado
+     * 
+     * @return Limite total de conexões abertas simultaneamente
+     */
+    public int getPoolMaxTotal() {
+        return poolMaxTotal;
+    }
+    
+    /**
+     * Obtém o número máximo de conexões por rota (host:porta) no pool
+     * 
+     * @return Limite de conexões simultâneas para um mesmo destino
+     */
+    public int getPoolMaxPerRoute() {
+        return poolMaxPerRoute;
+    }
+    
+    /**
+     * Obtém o tempo após o qual uma conexão ociosa é removida do pool
+     * 
+     * @return Tempo máximo de ociosidade em milissegundos
+     */
+    public long getPoolIdleTimeoutMs() {
+        return poolIdleTimeoutMs;
+    }
+    
+    /**
+     * Obtém o intervalo de execução da rotina de remoção de conexões ociosas
+     * 
+     * @return Intervalo entre varreduras em milissegundos
+     */
+    public long getPoolEvictionIntervalMs() {
+        return poolEvictionIntervalMs;
+    }
+    
+    /**
+     * Obtém o tempo máximo para estabelecimento de uma nova conexão
+     * 
+     * @return Timeout de conexão em milissegundos
+     */
+    public int getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+    
+    /**
+     * Obtém o número de threads que processam as respostas das chamadas assíncronas
+     * 
+     * @return Tamanho do pool de callbacks do transporte não bloqueante
+     */
+    public int getAsyncThreads() {
+        return asyncThreads;
+    }
+    
+    /**
+     * Obtém o transporte HTTP configurado para as chamadas de API
+     * 
+     * @return "http1" para RestAssured com pool keep-alive ou "h2" para HTTP/2 multiplexado
+     */
+    public String getTransport() {
+        return transport;
+    }
+    
+    /**
+     * Indica se as chamadas devem usar o transporte HTTP/2 (com h2c em URLs http)
+     * 
+     * @return true quando {@code api.transport=h2}
+     */
+    public boolean isHttp2Transport() {
+        return "h2".equalsIgnoreCase(transport) || "http2".equalsIgnoreCase(transport);
+    }
+    
+    /**
+     * Obtém o modo de execução do trabalho limitado por I/O
+     * 
+     * @return "platform" para threads de plataforma ou "virtual" para virtual threads (Java 21+)
+     */
+    public String getExecutionMode() {
+        return executionMode;
+    }
+    
+    /**
+     * Indica se as chamadas de I/O devem ser executadas em virtual threads
+     * 
+     * @return true quando {@code api.execution.mode=virtual}
+     */
+    public boolean isVirtualThreadExecution() {
+        return "virtual".equalsIgnoreCase(executionMode);
+    }
+    
+    /**
+     * Obtém o número máximo de requisições simultâneas em operações em lote
+     * 
+     * @return Limite de concorrência usado por createUsers, deleteUsers e patchUsers
+     */
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+    
+    /**
+     * Indica se as chamadas GET devem ser revalidadas com ETag/Last-Modified
+     * 
+     * @return true quando {@code api.http.conditional.enabled=true}
+     */
+    public boolean isConditionalRequestsEnabled() {
+        return conditionalRequestsEnabled;
+    }
+    
+    /**
+     * Indica se as respostas de chamadas GET devem ser mantidas em cache local
+     * 
+     * @return true quando {@code api.cache.enabled=true}
+     */
+    public boolean isResponseCacheEnabled() {
+        return responseCacheEnabled;
+    }
+    
+    /**
+     * Obtém o tempo de vida das respostas em cache
+     * 
+     * @return Tempo em milissegundos após o qual uma entrada é descartada
+     */
+    public long getResponseCacheTtlMs() {
+        return responseCacheTtlMs;
+    }
+    
+    /**
+     * Obtém o número máximo de respostas mantidas em cache
+     * 
+     * @return Limite de entradas; as menos usadas recentemente são removidas primeiro
+     */
+    public int getResponseCacheMaxEntries() {
+        return responseCacheMaxEntries;
+    }
+    
+    /**
+     * Obtém o modo de acesso à rede das chamadas de API
+     * 
+     * @return "passthrough" (rede, sem gravação), "record" (rede, gravando o cassete)
+     * ou "replay" (somente cassete, sem rede)
+     */
+    public String getMode() {
+        return mode;
+    }
+    
+    /**
+     * Indica se as interações devem ser gravadas no cassete
+     * 
+     * @return true quando {@code api.mode=record}
+     */
+    public boolean isRecordMode() {
+        return "record".equalsIgnoreCase(mode);
+    }
+    
+    /**
+     * Indica se as respostas devem ser servidas exclusivamente pelo cassete
+     * 
+     * @return true quando {@code api.mode=replay}
+     */
+    public boolean isReplayMode() {
+        return "replay".equalsIgnoreCase(mode);
+    }
+    
+    /**
+     * Obtém o caminho do arquivo de cassete
+     * 
+     * @return Caminho, relativo ao diretório do módulo, do JSON com as interações gravadas
+     */
+    public String getCassettePath() {
+        return cassettePath;
+    }
+    
+    /**
+     * Indica se as respostas devem ser negociadas com gzip/deflate
+     * 
+     * @return true quando {@code api.http.compression.enabled=true} (padrão)
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+    
+    /**
+     * Indica se os corpos das requisições devem ser enviados comprimidos com gzip
+     * 
+     * @return true quando {@code api.http.compression.request.enabled=true}
+     */
+    public boolean isRequestCompressionEnabled() {
+        return requestCompressionEnabled;
+    }
+    
+    /**
+     * Obtém o tamanho mínimo de corpo para compressão das requisições
+     * 
+     * @return Número de bytes a partir do qual o corpo é comprimido
+     */
+    public int getRequestCompressionMinBytes() {
+        return requestCompressionMinBytes;
+    }
+    
+    /**
+     * Indica se chamadas GET lentas devem ser duplicadas (hedging)
+     * 
+     * @return true quando {@code api.hedge.enabled=true}
+     */
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+    
+    /**
+     * Obtém o percentil de latência usado como atraso antes da requisição duplicada
+     * 
+     * @return Percentil entre 0 e 100, por exemplo 95 para o p95 do endpoint
+     */
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+    
+    /**
+     * Obtém o atraso mínimo antes da requisição duplicada
+     * 
+     * @return Atraso mínimo em milissegundos, independente do percentil observado
+     */
+    public long getHedgeMinDelayMs() {
+        return hedgeMinDelayMs;
+    }
+    
+    /**
+     * Obtém o número de amostras de latência exigido antes de duplicar chamadas de um endpoint
+     * 
+     * @return Quantidade mínima de amostras na janela do endpoint
+     */
+    public int getHedgeMinSamples() {
+        return hedgeMinSamples;
+    }
+    
+    /**
+     * Obtém o limite de requisições duplicadas em relação ao total de chamadas GET
+     * 
+     * @return Percentual máximo de carga extra gerada pelo hedging
+     */
+    public double getHedgeBudgetPercent() {
+        return hedgeBudgetPercent;
+    }
+    
+    /**
+     * Indica se falhas transitórias (429, 5XX de gateway, falhas de conexão) devem ser repetidas
+     * 
+     * @return true quando {@code api.retry.enabled=true} (padrão)
+     */
+    public boolean isRetryEnabled() {
+        return retryEnabled;
+    }
+    
+    /**
+     * Obtém o número máximo de tentativas por chamada, incluindo a primeira
+     * 
+     * @return Total de tentativas permitidas
+     */
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+    
+    /**
+     * Obtém o atraso base do backoff exponencial
+     * 
+     * @return Atraso em milissegundos antes da primeira repetição (teto do jitter)
+     */
+    public long getRetryBaseDelayMs() {
+        return retryBaseDelayMs;
+    }
+    
+    /**
+     * Obtém o teto do backoff exponencial
+     * 
+     * @return Atraso máximo em milissegundos entre tentativas
+     */
+    public long getRetryMaxDelayMs() {
+        return retryMaxDelayMs;
+    }
+    
+    /**
+     * Obtém o maior {@code Retry-After} aceito pelo cliente
+     * 
+     * @return Tempo máximo de espera em milissegundos; acima dele a chamada não é repetida
+     */
+    public long getRetryMaxRetryAfterMs() {
+        return retryMaxRetryAfterMs;
+    }
+    
+    /**
+     * Obtém o orçamento de repetições em relação ao total de chamadas da execução
+     * 
+     * @return Percentual máximo de repetições sobre as chamadas realizadas
+     */
+    public double getRetryBudgetPercent() {
+        return retryBudgetPercent;
+    }
+    
+    /**
+     * Obtém o número de repetições sempre permitido, independente do percentual
+     * 
+     * @return Repetições liberadas no início da execução, antes de haver volume de chamadas
+     */
+    public int getRetryBudgetMin() {
+        return retryBudgetMin;
+    }
+    
+    /**
+     * Indica se as chamadas devem passar pelo circuit breaker por endpoint
+     * 
+     * @return true quando {@code api.circuit.enabled=true} (padrão)
+     */
+    public boolean isCircuitEnabled() {
+        return circuitEnabled;
+    }
+    
+    /**
+     * Obtém o tamanho da janela deslizante do circuit breaker
+     * 
+     * @return Número de chamadas recentes avaliadas por endpoint
+     */
+    public int getCircuitWindowSize() {
+        return circuitWindowSize;
+    }
+    
+    /**
+     * Obtém o mínimo de chamadas na janela antes de avaliar as taxas
+     * 
+     * @return Quantidade mínima de chamadas para que o circuito possa abrir
+     */
+    public int getCircuitMinCalls() {
+        return circuitMinCalls;
+    }
+    
+    /**
+     * Obtém a taxa de falhas que abre o circuito
+     * 
+     * @return Percentual de falhas (exceções e respostas 5XX) na janela
+     */
+    public double getCircuitFailureRatePercent() {
+        return circuitFailureRatePercent;
+    }
+    
+    /**
+     * Obtém a latência a partir da qual uma chamada é considerada lenta
+     * 
+     * @return Limite em milissegundos
+     */
+    public long getCircuitSlowCallMs() {
+        return circuitSlowCallMs;
+    }
+    
+    /**
+     * Obtém a taxa de chamadas lentas que abre o circuito
+     * 
+     * @return Percentual de chamadas lentas na janela
+     */
+    public double getCircuitSlowRatePercent() {
+        return circuitSlowRatePercent;
+    }
+    
+    /**
+     * Obtém o tempo em que o circuito permanece aberto antes de testar o endpoint
+     * 
+     * @return Duração do estado aberto em milissegundos
+     */
+    public long getCircuitOpenMs() {
+        return circuitOpenMs;
+    }
+    
+    /**
+     * Obtém o número de chamadas de teste permitidas no estado semiaberto
+     * 
+     * @return Chamadas que precisam ter sucesso para fechar o circuito novamente
+     */
+    public int getCircuitHalfOpenCalls() {
+        return circuitHalfOpenCalls;
+    }
+    
+    /**
+     * Obtém o timeout de leitura padrão por requisição dos endpoints registrados
+     * 
+     * @return Timeout em milissegundos, sobrescrito por {@code api.endpoint.<nome>.timeout.ms}
+     */
+    public int getEndpointTimeoutMs() {
+        return endpointTimeoutMs;
+    }
+    
+    /**
+     * Obtém o orçamento padrão de requisições por segundo de cada endpoint
+     * 
+     * @return Taxa máxima por endpoint, ou zero para não limitar
+     */
+    public double getEndpointRatePerSecond() {
+        return endpointRatePerSecond;
+    }
+    
+    /**
+     * Indica se as respostas GET dos endpoints podem, por padrão, ser servidas pelo cache local
+     * 
+     * @return true se os endpoints são cacheáveis quando o cache está habilitado
+     */
+    public boolean isEndpointCacheable() {
+        return endpointCacheable;
+    }
+    
+    /**
+     * Indica se as requisições devem respeitar o limite de taxa global da JVM
+     * 
+     * @return true se o token bucket compartilhado estiver habilitado
+     */
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+    
+    /**
+     * Obtém a taxa sustentada de requisições permitida pela API
+     * 
+     * @return Requisições por segundo somadas de todas as threads
+     */
+    public double getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+    
+    /**
+     * Obtém o número de requisições que podem ser enviadas em rajada após um período ocioso
+     * 
+     * @return Capacidade do token bucket
+     */
+    public int getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+    
+    /**
+     * Indica se a taxa do limitador global deve ser ajustada dinamicamente (AIMD)
+     * 
+     * @return true se o controle adaptativo estiver habilitado; requer {@code api.rate.limit.enabled}
+     */
+    public boolean isAimdEnabled() {
+        return aimdEnabled;
+    }
+    
+    /**
+     * Obtém a menor taxa que o controle adaptativo pode atingir
+     * 
+     * @return Piso em requisições por segundo
+     */
+    public double getAimdMinRate() {
+        return aimdMinRate;
+    }
+    
+    /**
+     * Obtém a maior taxa que o controle adaptativo pode atingir
+     * 
+     * @return Teto em requisições por segundo
+     */
+    public double getAimdMaxRate() {
+        return aimdMaxRate;
+    }
+    
+    /**
+     * Obtém o aumento aditivo da taxa a cada segundo de respostas saudáveis
+     * 
+     * @return Incremento em requisições por segundo
+     */
+    public double getAimdIncrease() {
+        return aimdIncrease;
+    }
+    
+    /**
+     * Obtém o fator multiplicativo aplicado à taxa em caso de 429 ou latência elevada
+     * 
+     * @return Fator entre 0 e 1, por exemplo 0.5 para reduzir a taxa à metade
+     */
+    public double getAimdDecreaseFactor() {
+        return aimdDecreaseFactor;
+    }
+    
+    /**
+     * Obtém a latência a partir da qual uma resposta indica sobrecarga da API
+     * 
+     * @return Limite em milissegundos
+     */
+    public long getAimdLatencyThresholdMs() {
+        return aimdLatencyThresholdMs;
+    }
+    
+    /**
+     * Obtém o intervalo mínimo entre duas reduções consecutivas da taxa
+     * 
+     * @return Intervalo em milissegundos
+     */
+    public long getAimdCooldownMs() {
+        return aimdCooldownMs;
+    }
+    
+    /**
+     * Obtém o arquivo CSV em que a série de ajustes da taxa é gravada
+     * 
+     * @return Caminho relativo ao diretório de execução
+     */
+    public String getAimdSeriesPath() {
+        return aimdSeriesPath;
+    }
+    
+    /**
+     * Indica se os casos de teste devem ter um prazo propagado às chamadas HTTP
+     * 
+     * @return true se o prazo por teste estiver habilitado
+     */
+    public boolean isDeadlineEnabled() {
+        return deadlineEnabled;
+    }
+    
+    /**
+     * Obtém o prazo padrão de um caso de teste sem prazo explícito nem por severidade
+     * 
+     * @return Orçamento em milissegundos, sobrescrito por {@code api.deadline.<severidade>.ms}
+     */
+    public long getDeadlineDefaultMs() {
+        return deadlineDefaultMs;
+    }
+    
+    /**
+     * Indica se o token de autenticação é reaproveitado entre as chamadas
+     * 
+     * @return true quando {@code api.auth.token.cache.enabled=true}
+     */
+    public boolean isAuthTokenCacheEnabled() {
+        return authTokenCacheEnabled;
+    }
+    
+    /**
+     * Obtém o tempo de vida de um token de autenticação em cache
+     * 
+     * @return TTL em milissegundos, após o qual um novo login é realizado
+     */
+    public long getAuthTokenTtlMs() {
+        return authTokenTtlMs;
+    }
+    
+    /**
+     * Indica se os tokens em cache são renovados em segundo plano antes de expirar
+     * 
+     * @return true quando {@code api.auth.token.refresh.enabled=true}
+     */
+    public boolean isAuthTokenRefreshEnabled() {
+        return authTokenRefreshEnabled;
+    }
+    
+    /**
+     * Obtém a fração do tempo de vida do token após a qual ele é renovado
+     * 
+     * @return Fração entre 0 e 1 do TTL, por exemplo 0.8 para renovar aos 80%
+     */
+    public double getAuthTokenRefreshFraction() {
+        return authTokenRefreshFraction;
+    }
+    
+    /**
+     * Obtém o intervalo inicial entre tentativas de login ou renovação que falharam
+     * 
+     * @return Intervalo em milissegundos, dobrado a cada nova falha
+     */
+    public long getAuthTokenRefreshBackoffBaseMs() {
+        return authTokenRefreshBackoffBaseMs;
+    }
+    
+    /**
+     * Obtém o intervalo máximo entre tentativas de login ou renovação que falharam
+     * 
+     * @return Intervalo em milissegundos
+     */
+    public long getAuthTokenRefreshBackoffMaxMs() {
+        return authTokenRefreshBackoffMaxMs;
+    }
+    
+    /**
+     * Obtém o caminho do arquivo JSON com as credenciais do pool de identidades
+     * 
+     * @return Caminho do arquivo, ou vazio para usar {@link #getAuthCredentials()}
+     */
+    public String getAuthCredentialsFile() {
+        return authCredentialsFile;
+    }
+    
+    /**
+     * Obtém a lista de credenciais do pool de identidades
+     * 
+     * @return Pares {@code email:senha} separados por vírgula, ou vazio para usar apenas a conta padrão
+     */
+    public String getAuthCredentials() {
+        return authCredentials;
+    }
+}
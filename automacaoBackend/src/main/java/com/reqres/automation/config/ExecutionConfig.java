@@ -0,0 +1,57 @@
+package com.reqres.automation.config;
+
+import com.reqres.automation.util.VirtualThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuração do executor utilizado para trabalho limitado por I/O
+ * 
+ * @implNote Chamadas de API passam quase todo o tempo bloqueadas aguardando a rede.
+ * Com {@code api.execution.mode=virtual} esse trabalho é executado em virtual threads,
+ * permitindo milhares de chamadas simultâneas sem dimensionar um pool de threads
+ * de plataforma
+ * 
+ * @implSpec Quando o modo virtual é solicitado em um JDK sem suporte (anterior ao 21),
+ * a configuração registra um aviso e recai para um pool de threads de plataforma
+ * sob demanda, mantendo o comportamento funcional
+ */
+@Configuration
+public class ExecutionConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionConfig.class);
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    /**
+     * Executor compartilhado para fan-out de chamadas de API
+     * 
+     * @return Executor de virtual threads ou de threads de plataforma, conforme o modo configurado
+     */
+    @Bean(name = "ioExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService ioExecutor() {
+        if (apiConfig.isVirtualThreadExecution()) {
+            if (VirtualThreads.isSupported()) {
+                logger.info("Executando chamadas de I/O em virtual threads");
+                return VirtualThreads.newPerTaskExecutor();
+            }
+            logger.warn("api.execution.mode=virtual requer Java 21+ (atual: {}); utilizando threads de plataforma",
+                    System.getProperty("java.version"));
+        }
+        
+        AtomicInteger threadCounter = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-io-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
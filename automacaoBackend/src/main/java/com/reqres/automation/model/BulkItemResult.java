@@ -0,0 +1,40 @@
+package com.reqres.automation.model;
+
+import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Resultado individual de um item processado em uma operação em lote
+ * 
+ * @implNote Implementa o padrão de design Value Object, preservando a chave do item
+ * (usuário ou ID) junto da resposta ou da falha, para que o chamador identifique
+ * exatamente quais itens precisam de nova tentativa
+ * 
+ * @param <K> Tipo da chave que identifica o item no lote
+ */
+@Data
+@AllArgsConstructor
+public class BulkItemResult<K> {
+    /** Item de entrada que originou a requisição */
+    private K key;
+    
+    /** Resposta HTTP recebida, ou null quando a requisição falhou antes de responder */
+    private Response response;
+    
+    /** Exceção lançada durante a requisição, ou null em caso de resposta */
+    private Throwable error;
+    
+    /** Tempo gasto na requisição do item, em milissegundos */
+    private long durationMs;
+    
+    /**
+     * Indica se o item foi processado com sucesso
+     * 
+     * @return true quando houve resposta com status 2XX
+     */
+    public boolean isSuccess() {
+        return error == null && response != null
+                && response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+    }
+}
@@ -0,0 +1,82 @@
+package com.reqres.automation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Resultado agregado de uma operação em lote sobre a API
+ * 
+ * @implNote Mantém os resultados por item na mesma ordem da entrada e expõe
+ * métricas de tempo agregadas para dimensionamento da concorrência
+ * 
+ * @param <K> Tipo da chave que identifica cada item no lote
+ */
+@Data
+@AllArgsConstructor
+public class BulkResult<K> {
+    /** Resultados individuais, na mesma ordem dos itens de entrada */
+    private List<BulkItemResult<K>> items;
+    
+    /** Tempo total de parede da operação, em milissegundos */
+    private long totalDurationMs;
+    
+    /** Limite de requisições simultâneas utilizado */
+    private int concurrency;
+    
+    /**
+     * Obtém a quantidade de itens processados com sucesso
+     * 
+     * @return Número de itens com resposta 2XX
+     */
+    public long getSuccessCount() {
+        return items.stream().filter(BulkItemResult::isSuccess).count();
+    }
+    
+    /**
+     * Obtém a quantidade de itens que falharam
+     * 
+     * @return Número de itens com erro ou status fora da faixa 2XX
+     */
+    public long getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+    
+    /**
+     * Obtém os itens que falharam, para nova tentativa ou diagnóstico
+     * 
+     * @return Lista de resultados sem sucesso
+     */
+    public List<BulkItemResult<K>> getFailures() {
+        return items.stream().filter(item -> !item.isSuccess()).collect(Collectors.toList());
+    }
+    
+    /**
+     * Obtém a vazão obtida na operação
+     * 
+     * @return Itens processados por segundo
+     */
+    public double getThroughputPerSecond() {
+        return totalDurationMs == 0 ? items.size() : items.size() * 1000.0 / totalDurationMs;
+    }
+    
+    /**
+     * Obtém o tempo médio por item
+     * 
+     * @return Média das durações individuais em milissegundos
+     */
+    public double getAverageItemDurationMs() {
+        return items.stream().mapToLong(BulkItemResult::getDurationMs).average().orElse(0);
+    }
+    
+    /**
+     * Obtém o maior tempo individual observado
+     * 
+     * @return Duração do item mais lento em milissegundos
+     */
+    public long getMaxItemDurationMs() {
+        return items.stream().mapToLong(BulkItemResult::getDurationMs).max().orElse(0);
+    }
+}
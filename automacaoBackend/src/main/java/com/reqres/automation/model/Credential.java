@@ -0,0 +1,26 @@
+package com.reqres.automation.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Identidade usada no login da API
+ * 
+ * @implNote Utiliza o padrão de design DTO para a leitura do arquivo de credenciais
+ * em JSON. A senha é omitida do {@code toString} para não aparecer nos logs
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Credential {
+    /** E-mail da conta, que identifica o token no cache */
+    private String email;
+    
+    /** Senha da conta */
+    @ToString.Exclude
+    private String password;
+}
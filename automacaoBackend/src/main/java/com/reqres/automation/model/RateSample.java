@@ -0,0 +1,26 @@
+package com.reqres.automation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Ponto da série temporal do controlador adaptativo de taxa
+ *
+ * @implNote Implementa o padrão de design Value Object: cada ajuste da taxa
+ * permitida gera uma amostra, permitindo reconstruir a curva de convergência
+ */
+@Data
+@AllArgsConstructor
+public class RateSample {
+    /** Tempo decorrido desde o início da execução, em milissegundos */
+    private long elapsedMs;
+
+    /** Taxa permitida após o ajuste, em requisições por segundo */
+    private double ratePerSecond;
+
+    /** Tipo do ajuste: INCREASE ou DECREASE */
+    private String event;
+
+    /** Motivo do ajuste, por exemplo "429" ou a latência observada */
+    private String cause;
+}
@@ -0,0 +1,52 @@
+package com.reqres.automation.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Par requisição/resposta gravado em um cassete
+ * 
+ * @implNote Utiliza o padrão de design DTO para a serialização do cassete em JSON.
+ * Da requisição são guardados apenas os elementos que a identificam (método, URL,
+ * headers relevantes e corpo normalizado); da resposta, tudo o que é necessário
+ * para reconstruí-la sem acesso à rede
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RecordedInteraction {
+    /** Método HTTP da requisição */
+    private String method;
+    
+    /** URL completa da requisição, incluindo parâmetros de query */
+    private String url;
+    
+    /** Headers da requisição que diferenciam respostas (API key, token, content type) */
+    private Map<String, String> requestHeaders;
+    
+    /** Corpo da requisição normalizado, ou vazio quando não houver */
+    private String requestBody;
+    
+    /** Código de status da resposta */
+    private int statusCode;
+    
+    /** Linha de status da resposta */
+    private String statusLine;
+    
+    /** Content-Type da resposta */
+    private String contentType;
+    
+    /** Headers da resposta, agrupados por nome */
+    private Map<String, List<String>> responseHeaders;
+    
+    /** Corpo da resposta em UTF-8 */
+    private String responseBody;
+}
@@ -0,0 +1,88 @@
+package com.reqres.automation.service;
+
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.transport.RequestCancellation;
+import com.reqres.automation.util.ReportContext;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Implementação assíncrona dos serviços de API sobre a mesma cadeia de interceptores da versão síncrona
+ * Aplica os princípios de Responsabilidade Única (S) e Inversão de Dependência (D) do SOLID
+ *
+ * @implNote Cada chamada é executada pelo {@link IApiService} no executor de I/O
+ * compartilhado, passando por cassete, cache, prazo, retry, circuit breaker, hedging
+ * e limites de taxa exatamente como uma chamada síncrona. O transporte segue
+ * {@code api.transport}; em modo de virtual threads a thread bloqueada na rede é virtual
+ */
+@Service
+public class AsyncApiServiceImpl implements IAsyncApiService {
+
+    @Autowired
+    private IApiService apiService;
+
+    @Autowired
+    @Qualifier("ioExecutor")
+    private ExecutorService ioExecutor;
+
+    @Override
+    public CompletableFuture<Response> getAsync(RequestSpecification spec, String endpoint) {
+        return submit(Method.GET, endpoint, () -> apiService.get(spec, endpoint));
+    }
+
+    @Override
+    public CompletableFuture<Response> postAsync(RequestSpecification spec, String endpoint, Object payload) {
+        return submit(Method.POST, endpoint, () -> apiService.post(spec, endpoint, payload));
+    }
+
+    @Override
+    public CompletableFuture<Response> putAsync(RequestSpecification spec, String endpoint, Object payload) {
+        return submit(Method.PUT, endpoint, () -> apiService.put(spec, endpoint, payload));
+    }
+
+    @Override
+    public CompletableFuture<Response> patchAsync(RequestSpecification spec, String endpoint, Object payload) {
+        return submit(Method.PATCH, endpoint, () -> apiService.patch(spec, endpoint, payload));
+    }
+
+    @Override
+    public CompletableFuture<Response> deleteAsync(RequestSpecification spec, String endpoint) {
+        return submit(Method.DELETE, endpoint, () -> apiService.delete(spec, endpoint));
+    }
+
+    /**
+     * Executa a chamada síncrona no executor de I/O com o contexto da thread chamadora
+     *
+     * @param method Método HTTP, usado no nome do passo do relatório
+     * @param endpoint Path relativo do endpoint
+     * @param call Chamada pelo {@link IApiService}
+     * @return Futuro completado com a resposta ou com a falha da cadeia
+     * @implNote O prazo e o {@link ReportContext} são capturados na thread chamadora,
+     * de modo que a chamada respeita o prazo do teste e os anexos vão para o teste que
+     * a fez. Cancelar o futuro aborta a requisição em andamento pelo {@link RequestCancellation}
+     */
+    private CompletableFuture<Response> submit(Method method, String endpoint, Supplier<Response> call) {
+        Deadline deadline = DeadlineContext.current();
+        ReportContext reportContext = ReportContext.capture();
+        RequestCancellation cancellation = new RequestCancellation();
+
+        CompletableFuture<Response> future = CompletableFuture.supplyAsync(() -> DeadlineContext.callWith(deadline,
+                () -> reportContext.call("Requisição assíncrona: " + method + " " + endpoint,
+                        () -> cancellation.run(call))), ioExecutor);
+        future.whenComplete((response, failure) -> {
+            if (future.isCancelled()) {
+                cancellation.cancel();
+            }
+        });
+        return future;
+    }
+}
@@ -1,6 +1,11 @@
 package com.reqres.automation.service;
 
 import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.Credential;
+import com.reqres.automation.service.auth.AuthTokenCache;
+import com.reqres.automation.service.auth.CredentialPool;
+import com.reqres.automation.service.endpoint.ApiEndpoint;
+import com.reqres.automation.service.endpoint.EndpointRegistry;
 import com.reqres.automation.util.ReportManager;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.http.ContentType;
@@ -15,6 +20,14 @@ import java.util.Map;
 /**
  * Implementação do serviço de autenticação
  * Aplica os princípios de Responsabilidade Única (S) e Inversão de Dependência (D) do SOLID
+ * 
+ * @implNote O token é mantido no {@link AuthTokenCache} pelo TTL configurado e
+ * compartilhado por todos os testes; logins concorrentes da mesma identidade são
+ * unificados em uma única chamada a {@code /login}
+ * 
+ * @implNote A identidade de cada chamada é alugada do {@link CredentialPool}, por
+ * thread ou por usuário virtual, e há um token em cache por identidade. Com uma única
+ * credencial configurada todas as threads compartilham o mesmo token
  */
 @Service
 public class AuthServiceImpl implements IAuthService {
@@ -24,12 +37,57 @@ public class AuthServiceImpl implements IAuthService {
     
     @Autowired
     private IApiService apiService;
+    
+    @Autowired
+    private EndpointRegistry endpointRegistry;
+    
+    @Autowired
+    private AuthTokenCache tokenCache;
+    
+    @Autowired
+    private CredentialPool credentialPool;
 
     @Override
     public String getAuthToken() {
+        return getAuthToken(credentialPool.lease());
+    }
+    
+    @Override
+    public String getAuthToken(String virtualUserId) {
+        return getAuthToken(credentialPool.lease(virtualUserId));
+    }
+    
+    @Override
+    public void invalidateToken() {
+        Credential credential = credentialPool.current();
+        if (credential != null) {
+            tokenCache.invalidate(credential.getEmail());
+        }
+    }
+    
+    @Override
+    public void releaseCredential() {
+        credentialPool.release();
+    }
+    
+    @Override
+    public void releaseCredential(String virtualUserId) {
+        credentialPool.release(virtualUserId);
+    }
+    
+    private String getAuthToken(Credential credential) {
+        return tokenCache.get(credential.getEmail(), () -> login(credential));
+    }
+    
+    /**
+     * Realiza o login na API
+     * @param credential Identidade usada no login
+     * @return Token obtido ou string vazia em caso de falha
+     */
+    private String login(Credential credential) {
         try {
             
-            Map<String, String> credentials = createCredentials();
+            Map<String, String> credentials = createCredentials(credential);
             ReportManager.attachRequestBody(credentials.toString());
             
     
@@ -40,7 +98,7 @@ public class AuthServiceImpl implements IAuthService {
                 
             RequestSpecification authSpec = requestBuilder.build();
 
-            Response response = apiService.post(authSpec, apiConfig.getLoginEndpoint(), credentials);
+            Response response = apiService.post(authSpec, endpointRegistry.expand(ApiEndpoint.LOGIN), credentials);
             
             if (response.getStatusCode() != 200) {
                 String errorMessage = "Erro na autenticação: código " + response.getStatusCode();
@@ -58,12 +116,13 @@ public class AuthServiceImpl implements IAuthService {
     
     /**
      * Cria o mapa de credenciais para autenticação
+     * @param credential Identidade usada no login
      * @return Mapa com as credenciais
      */
-    private Map<String, String> createCredentials() {
+    private Map<String, String> createCredentials(Credential credential) {
         Map<String, String> credentials = new HashMap<>();
-        credentials.put("email", apiConfig.getAuthEmail());
-        credentials.put("password", apiConfig.getAuthPassword());
+        credentials.put("email", credential.getEmail());
+        credentials.put("password", credential.getPassword());
         return credentials;
     }
 } 
\ No newline at end of file
@@ -1,11 +1,25 @@
 package com.reqres.automation.service;
 
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.endpoint.EndpointPolicy;
+import com.reqres.automation.service.endpoint.EndpointRegistry;
+import com.reqres.automation.service.interceptor.ApiInterceptor;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import com.reqres.automation.service.ratelimit.GlobalRateLimiter;
+import com.reqres.automation.service.transport.HttpTransport;
+import com.reqres.automation.service.transport.JdkHttpTransport;
+import com.reqres.automation.service.transport.RequestTimeouts;
+import com.reqres.automation.service.transport.RestAssuredTransport;
 import com.reqres.automation.util.ReportManager;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import static io.restassured.RestAssured.given;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Implementação base para serviços de API
@@ -14,88 +28,105 @@ import static io.restassured.RestAssured.given;
 @Service
 public class BaseApiService implements IApiService {
 
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private RestAssuredTransport restAssuredTransport;
+
+    @Autowired
+    private JdkHttpTransport jdkHttpTransport;
+
+    @Autowired
+    private EndpointRegistry endpointRegistry;
+
+    @Autowired
+    private GlobalRateLimiter rateLimiter;
+
+    /** Interceptores da aplicação, ordenados pelo Spring conforme {@code @Order} */
+    @Autowired(required = false)
+    private List<ApiInterceptor> interceptors = Collections.emptyList();
+
     @Override
     public Response get(RequestSpecification spec, String endpoint) {
-        Response response = given()
-                .spec(spec)
-                .when()
-                .get(endpoint)
-                .then()
-                .extract()
-                .response();
-        
-        ReportManager.attachResponseBody(response);
-        return response;
+        return execute(Method.GET, spec, endpoint, null);
     }
 
     @Override
     public Response post(RequestSpecification spec, String endpoint, Object payload) {
-        if (payload != null) {
-            ReportManager.attachRequestBody(payload.toString());
-        }
-        
-        Response response = given()
-                .spec(spec)
-                .body(payload)
-                .when()
-                .post(endpoint)
-                .then()
-                .extract()
-                .response();
-        
-        ReportManager.attachResponseBody(response);
-        return response;
+        return execute(Method.POST, spec, endpoint, payload);
     }
 
     @Override
     public Response put(RequestSpecification spec, String endpoint, Object payload) {
-        if (payload != null) {
-            ReportManager.attachRequestBody(payload.toString());
-        }
-        
-        Response response = given()
-                .spec(spec)
-                .body(payload)
-                .when()
-                .put(endpoint)
-                .then()
-                .extract()
-                .response();
-        
-        ReportManager.attachResponseBody(response);
-        return response;
+        return execute(Method.PUT, spec, endpoint, payload);
     }
 
     @Override
     public Response patch(RequestSpecification spec, String endpoint, Object payload) {
+        return execute(Method.PATCH, spec, endpoint, payload);
+    }
+
+    @Override
+    public Response delete(RequestSpecification spec, String endpoint) {
+        return execute(Method.DELETE, spec, endpoint, null);
+    }
+
+    /**
+     * Executa a requisição pela cadeia de interceptores e anexa os corpos ao relatório
+     *
+     * @param method Método HTTP da requisição
+     * @param spec Especificação completa da requisição
+     * @param endpoint Path relativo do endpoint
+     * @param payload Corpo da requisição ou null quando não houver
+     * @return Resposta HTTP completa
+     * @implNote A política do endpoint é localizada no {@link EndpointRegistry} e
+     * acompanha a requisição por toda a cadeia
+     */
+    private Response execute(Method method, RequestSpecification spec, String endpoint, Object payload) {
         if (payload != null) {
             ReportManager.attachRequestBody(payload.toString());
         }
-        
-        Response response = given()
-                .spec(spec)
-                .body(payload)
-                .when()
-                .patch(endpoint)
-                .then()
-                .extract()
-                .response();
-        
+
+        Response response = proceed(0, new ApiRequest(method, spec, endpoint, payload,
+                endpointRegistry.policyFor(endpoint)));
+
         ReportManager.attachResponseBody(response);
         return response;
     }
 
-    @Override
-    public Response delete(RequestSpecification spec, String endpoint) {
-        Response response = given()
-                .spec(spec)
-                .when()
-                .delete(endpoint)
-                .then()
-                .extract()
-                .response();
-        
-        ReportManager.attachResponseBody(response);
-        return response;
+    /**
+     * Repassa a requisição ao interceptor da posição informada ou, ao final, ao transporte
+     *
+     * @param index Posição do próximo interceptor na lista ordenada
+     * @param request Requisição, possivelmente alterada pelos interceptores anteriores
+     * @return Resposta produzida pelo restante da cadeia
+     * @implNote Antes do envio pela rede aguarda o orçamento de taxa do endpoint e o
+     * global da JVM, ambos limitados ao prazo do chamador, e só então calcula o timeout
+     * de leitura do endpoint sobre o tempo que restou; respostas servidas por
+     * interceptores (cache, cassete) não consomem o orçamento
+     *
+     * @implNote O timeout de leitura limita cada espera por dados do socket, não a
+     * duração total da resposta: um servidor que envia o corpo aos poucos pode
+     * ultrapassar o prazo, que é então apontado pela {@code DeadlineExtension} ao fim do teste
+     */
+    private Response proceed(int index, ApiRequest request) {
+        if (index < interceptors.size()) {
+            return interceptors.get(index).intercept(request, next -> proceed(index + 1, next));
+        }
+        EndpointPolicy policy = request.getPolicy();
+        Deadline deadline = request.getDeadline();
+        policy.acquirePermit(deadline, request.toString());
+        return rateLimiter.call(deadline, request.toString(), () -> RequestTimeouts.apply(request.getTimeoutMs(),
+                () -> transport().send(request.getMethod(), request.toSpec(), request.getEndpoint(), request.getPayload())));
+    }
+
+    /**
+     * Seleciona o transporte conforme a propriedade {@code api.transport}
+     *
+     * @return Cliente HTTP/2 do JDK quando configurado como h2, ou o RestAssured com pool
+     */
+    private HttpTransport transport() {
+        return apiConfig.isHttp2Transport() ? jdkHttpTransport : restAssuredTransport;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+package com.reqres.automation.service;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.BulkItemResult;
+import com.reqres.automation.model.BulkResult;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.util.ReportContext;
+import com.reqres.automation.util.ReportManager;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Executor de operações em lote com concorrência limitada
+ * 
+ * @implNote Implementa backpressure por meio de um {@link Semaphore}: a thread
+ * chamadora só submete um novo item quando há uma vaga livre, de modo que no
+ * máximo {@code concurrency} requisições ficam em andamento e a fila de tarefas
+ * nunca cresce com o tamanho do lote
+ * 
+ * @implSpec As requisições são executadas no executor de I/O compartilhado
+ * (threads de plataforma ou virtual threads, conforme {@code api.execution.mode})
+ * 
+ * @implNote O prazo ({@link DeadlineContext}) e o contexto de relatório
+ * ({@link ReportContext}) da thread chamadora são capturados na submissão e
+ * restaurados em cada tarefa: as chamadas do lote respeitam o orçamento do teste e
+ * seus anexos ficam em um passo por item dentro do teste que iniciou o lote
+ */
+@Component
+public class BulkExecutor {
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    @Autowired
+    @Qualifier("ioExecutor")
+    private ExecutorService ioExecutor;
+    
+    /**
+     * Executa uma chamada por item com o limite de concorrência configurado
+     * 
+     * @param items Itens de entrada, processados na ordem de iteração
+     * @param call Função que executa a requisição de um item
+     * @param <K> Tipo do item
+     * @return Resultado por item, na ordem de entrada, com métricas agregadas
+     */
+    public <K> BulkResult<K> execute(Collection<K> items, Function<K, Response> call) {
+        return execute(items, call, apiConfig.getBulkConcurrency());
+    }
+    
+    /**
+     * Executa uma chamada por item com um limite de concorrência específico
+     * 
+     * @param items Itens de entrada, processados na ordem de iteração
+     * @param call Função que executa a requisição de um item
+     * @param concurrency Número máximo de requisições simultâneas
+     * @param <K> Tipo do item
+     * @return Resultado por item, na ordem de entrada, com métricas agregadas
+     */
+    @SuppressWarnings("unchecked")
+    public <K> BulkResult<K> execute(Collection<K> items, Function<K, Response> call, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("A concorrência deve ser maior que zero: " + concurrency);
+        }
+        
+        BulkItemResult<K>[] results = new BulkItemResult[items.size()];
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(items.size());
+        Semaphore permits = new Semaphore(concurrency);
+        Deadline deadline = DeadlineContext.current();
+        ReportContext reportContext = ReportContext.capture();
+        long start = System.nanoTime();
+        
+        int index = 0;
+        for (K item : items) {
+            acquire(permits);
+            int position = index++;
+            Function<K, Response> contextualCall = it -> DeadlineContext.callWith(deadline, () ->
+                    reportContext.call("Item " + (position + 1) + " do lote", () -> call.apply(it)));
+            try {
+                inFlight.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        results[position] = invoke(item, contextualCall);
+                    } finally {
+                        permits.release();
+                    }
+                }, ioExecutor));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        BulkResult<K> result = new BulkResult<>(Arrays.asList(results), totalMs, concurrency);
+        ReportManager.attachMetrics("Operação em lote", summary(result));
+        return result;
+    }
+    
+    /**
+     * Executa a chamada de um item e registra a resposta ou a falha
+     *
+     * @implNote Qualquer {@link Throwable}, inclusive erros como {@link AssertionError}
+     * lançados pela função do item ou a expiração do prazo, vira a falha do próprio
+     * item: o lote sempre termina com um resultado por item e a vaga do semáforo é
+     * devolvida pela tarefa em qualquer caso
+     */
+    private <K> BulkItemResult<K> invoke(K item, Function<K, Response> call) {
+        long start = System.nanoTime();
+        try {
+            Response response = call.apply(item);
+            return new BulkItemResult<>(item, response, null, elapsedMs(start));
+        } catch (Throwable e) {
+            return new BulkItemResult<>(item, null, e, elapsedMs(start));
+        }
+    }
+    
+    private void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Operação em lote interrompida", e);
+        }
+    }
+    
+    private long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+    
+    private Map<String, Object> summary(BulkResult<?> result) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Itens", result.getItems().size());
+        metrics.put("Sucesso", result.getSuccessCount());
+        metrics.put("Falhas", result.getFailureCount());
+        metrics.put("Concorrência", result.getConcurrency());
+        metrics.put("Tempo total (ms)", result.getTotalDurationMs());
+        metrics.put("Tempo médio por item (ms)", String.format("%.1f", result.getAverageItemDurationMs()));
+        metrics.put("Vazão (itens/s)", String.format("%.1f", result.getThroughputPerSecond()));
+        return metrics;
+    }
+}
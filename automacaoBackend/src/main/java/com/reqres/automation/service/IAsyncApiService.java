@@ -0,0 +1,73 @@
+package com.reqres.automation.service;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Contrato assíncrono para interações HTTP com a API
+ * 
+ * @implNote Contraparte não bloqueante de {@link IApiService}: cada operação
+ * retorna imediatamente um {@link CompletableFuture} que é completado quando
+ * a resposta chega, sem bloquear a thread chamadora. A chamada passa pela mesma
+ * cadeia de interceptores da versão síncrona (cassete, prazo, retry, circuit
+ * breaker e limites de taxa) e ocupa uma thread do executor de I/O enquanto está
+ * em andamento, virtual em {@code api.execution.mode=virtual}
+ * 
+ * @implSpec As respostas são entregues no mesmo formato {@link Response} do
+ * RestAssured, permitindo reutilizar validadores e asserções existentes
+ * 
+ * @apiNote Indicado para cenários de fan-out, como consultar centenas de
+ * usuários em paralelo a partir de poucas threads
+ */
+public interface IAsyncApiService {
+    
+    /**
+     * Executa uma requisição HTTP GET de forma assíncrona
+     * 
+     * @param spec Especificação completa da requisição com headers, auth, etc.
+     * @param endpoint Path relativo do endpoint a ser acessado
+     * @return Futuro completado com a resposta HTTP
+     */
+    CompletableFuture<Response> getAsync(RequestSpecification spec, String endpoint);
+    
+    /**
+     * Executa uma requisição HTTP POST de forma assíncrona
+     * 
+     * @param spec Especificação completa da requisição com headers, auth, etc.
+     * @param endpoint Path relativo do endpoint a ser acessado
+     * @param payload Objeto a ser serializado como corpo da requisição (JSON)
+     * @return Futuro completado com a resposta HTTP
+     */
+    CompletableFuture<Response> postAsync(RequestSpecification spec, String endpoint, Object payload);
+    
+    /**
+     * Executa uma requisição HTTP PUT de forma assíncrona
+     * 
+     * @param spec Especificação completa da requisição com headers, auth, etc.
+     * @param endpoint Path relativo do endpoint a ser acessado
+     * @param payload Objeto a ser serializado como corpo da requisição (JSON)
+     * @return Futuro completado com a resposta HTTP
+     */
+    CompletableFuture<Response> putAsync(RequestSpecification spec, String endpoint, Object payload);
+    
+    /**
+     * Executa uma requisição HTTP PATCH de forma assíncrona
+     * 
+     * @param spec Especificação completa da requisição com headers, auth, etc.
+     * @param endpoint Path relativo do endpoint a ser acessado
+     * @param payload Objeto a ser serializado como corpo da requisição (JSON)
+     * @return Futuro completado com a resposta HTTP
+     */
+    CompletableFuture<Response> patchAsync(RequestSpecification spec, String endpoint, Object payload);
+    
+    /**
+     * Executa uma requisição HTTP DELETE de forma assíncrona
+     * 
+     * @param spec Especificação completa da requisição com headers, auth, etc.
+     * @param endpoint Path relativo do endpoint a ser acessado
+     * @return Futuro completado com a resposta HTTP
+     */
+    CompletableFuture<Response> deleteAsync(RequestSpecification spec, String endpoint);
+}
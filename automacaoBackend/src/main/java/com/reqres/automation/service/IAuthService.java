@@ -29,4 +29,38 @@ public interface IAuthService {
      * de tokens expirados, evitando requisições desnecessárias de autenticação
      */
     String getAuthToken();
+    
+    /**
+     * Obtém um token de autenticação válido para um usuário virtual
+     * 
+     * @param virtualUserId Identificador do usuário virtual do cenário concorrente
+     * @return Token de autenticação da identidade alugada pelo usuário virtual ou string vazia em caso de falha
+     * @apiNote Chamadas com o mesmo identificador usam sempre a mesma identidade,
+     * independentemente da thread que as executa
+     */
+    String getAuthToken(String virtualUserId);
+    
+    /**
+     * Descarta o token em cache da identidade da thread corrente, de modo que a próxima chamada a {@link #getAuthToken()} faça um novo login
+     * 
+     * @implNote Sem identidade alugada pela thread não há token a descartar e nada é feito
+     * @apiNote Destinado a testes que precisam de uma sessão nova, como os que
+     * validam o próprio fluxo de login ou a rejeição de um token revogado
+     */
+    void invalidateToken();
+    
+    /**
+     * Devolve a identidade usada pela thread corrente, para que seja distribuída novamente nos próximos aluguéis
+     * 
+     * @apiNote Chamado ao final de cada teste; a próxima chamada a {@link #getAuthToken()}
+     * na mesma thread aluga uma identidade de novo
+     */
+    void releaseCredential();
+    
+    /**
+     * Devolve a identidade usada por um usuário virtual ao final do seu cenário
+     * 
+     * @param virtualUserId Identificador do usuário virtual informado em {@link #getAuthToken(String)}
+     */
+    void releaseCredential(String virtualUserId);
 } 
\ No newline at end of file
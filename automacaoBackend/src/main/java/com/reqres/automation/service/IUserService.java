@@ -1,9 +1,16 @@
 package com.reqres.automation.service;
 
+import com.reqres.automation.model.BulkResult;
 import com.reqres.automation.model.User;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 /**
  * Contrato para operações de gerenciamento de usuários na API
  * 
@@ -94,4 +101,103 @@ public interface IUserService {
      * ou HTTP 404 (Not Found) se o usuário não existir
      */
     Response deleteUser(RequestSpecification requestSpec, int userId);
-}
\ No newline at end of file
+    
+    /**
+     * Recupera uma página da lista de usuários sem bloquear a thread chamadora
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param page Número da página desejada (base 1)
+     * @return Futuro completado com a resposta paginada
+     * @implNote Equivalente assíncrono de {@link #getUserList(RequestSpecification, int)}
+     */
+    CompletableFuture<Response> getUserListAsync(RequestSpecification requestSpec, int page);
+    
+    /**
+     * Recupera um usuário específico sem bloquear a thread chamadora
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param userId Identificador único do usuário
+     * @return Futuro completado com a resposta do usuário ou erro 404
+     * @implNote Equivalente assíncrono de {@link #getUser(RequestSpecification, int)},
+     * indicado para buscar muitos usuários em paralelo
+     */
+    CompletableFuture<Response> getUserAsync(RequestSpecification requestSpec, int userId);
+    
+    /**
+     * Cria vários usuários em paralelo com concorrência limitada
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param users Usuários a serem criados
+     * @return Resultado por usuário, na ordem de entrada, com tempos agregados
+     * @implNote O número de requisições simultâneas é limitado por {@code api.bulk.concurrency};
+     * falhas de um item não interrompem o processamento dos demais
+     */
+    BulkResult<User> createUsers(RequestSpecification requestSpec, List<User> users);
+    
+    /**
+     * Cria vários usuários em paralelo com um limite de concorrência específico
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param users Usuários a serem criados
+     * @param concurrency Número máximo de requisições simultâneas, no lugar de {@code api.bulk.concurrency}
+     * @return Resultado por usuário, na ordem de entrada, com tempos agregados
+     */
+    BulkResult<User> createUsers(RequestSpecification requestSpec, List<User> users, int concurrency);
+    
+    /**
+     * Remove vários usuários em paralelo com concorrência limitada
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param userIds Identificadores dos usuários a serem removidos
+     * @return Resultado por ID, na ordem de entrada, com tempos agregados
+     */
+    BulkResult<Integer> deleteUsers(RequestSpecification requestSpec, Collection<Integer> userIds);
+    
+    /**
+     * Remove vários usuários em paralelo com um limite de concorrência específico
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param userIds Identificadores dos usuários a serem removidos
+     * @param concurrency Número máximo de requisições simultâneas, no lugar de {@code api.bulk.concurrency}
+     * @return Resultado por ID, na ordem de entrada, com tempos agregados
+     */
+    BulkResult<Integer> deleteUsers(RequestSpecification requestSpec, Collection<Integer> userIds, int concurrency);
+    
+    /**
+     * Atualiza parcialmente vários usuários em paralelo com concorrência limitada
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param patches Campos a atualizar, indexados pelo ID do usuário
+     * @return Resultado por ID, na ordem de iteração do mapa, com tempos agregados
+     */
+    BulkResult<Integer> patchUsers(RequestSpecification requestSpec, Map<Integer, User> patches);
+    
+    /**
+     * Atualiza parcialmente vários usuários em paralelo com um limite de concorrência específico
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param patches Campos a atualizar, indexados pelo ID do usuário
+     * @param concurrency Número máximo de requisições simultâneas, no lugar de {@code api.bulk.concurrency}
+     * @return Resultado por ID, na ordem de iteração do mapa, com tempos agregados
+     */
+    BulkResult<Integer> patchUsers(RequestSpecification requestSpec, Map<Integer, User> patches, int concurrency);
+    
+    /**
+     * Percorre todos os usuários de todas as páginas sob demanda
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @return Iterador preguiçoso que pré-carrega a próxima página enquanto a atual é consumida
+     * @implNote Lança IllegalStateException se alguma página retornar status diferente de 200
+     * @apiNote Use o iterador em um {@code try-with-resources}: uma varredura
+     * interrompida antes do fim deve ser encerrada para abortar o pré-carregamento pendente
+     */
+    PagedUserIterator iterateAllUsers(RequestSpecification requestSpec);
+    
+    /**
+     * Percorre todos os usuários de todas as páginas como um Stream
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @return Stream sequencial e preguiçoso de usuários; fechar o Stream cancela o pré-carregamento
+     */
+    Stream<User> streamAllUsers(RequestSpecification requestSpec);
+}
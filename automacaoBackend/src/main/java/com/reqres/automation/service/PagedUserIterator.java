@@ -0,0 +1,121 @@
+package com.reqres.automation.service;
+
+import com.reqres.automation.model.User;
+import com.reqres.automation.model.UserListResponse;
+import com.reqres.automation.service.transport.RequestCancellation;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * Iterador preguiçoso sobre todas as páginas da listagem de usuários
+ * 
+ * @implNote Assim que a página N é recebida, a requisição da página N+1 é disparada
+ * em segundo plano, de modo que o tempo de rede da próxima página se sobrepõe ao
+ * consumo da página atual. As páginas continuam sendo buscadas uma após a outra: o
+ * ganho é esconder a latência atrás do processamento de cada página, e uma varredura
+ * cujo consumo é mais rápido que a rede ainda custa uma latência de ida e volta por página
+ * 
+ * @implSpec A memória é limitada a duas páginas: a que está sendo consumida e a
+ * que está em pré-carregamento. O total de páginas é lido de
+ * {@link UserListResponse#getTotalPages()} a cada resposta
+ * 
+ * @implNote Encerrar a varredura com {@link #close()} aborta a requisição do
+ * pré-carregamento pelo {@link RequestCancellation} compartilhado com o carregador de
+ * páginas; apenas cancelar o futuro deixaria a chamada HTTP ocupando o executor de I/O.
+ * A primeira página só é solicitada na primeira consulta, para que a busca herde o
+ * prazo e o contexto de relatório de quem consome o iterador
+ */
+public class PagedUserIterator implements Iterator<User>, AutoCloseable {
+    
+    private final IntFunction<CompletableFuture<UserListResponse>> pageLoader;
+    private final RequestCancellation cancellation;
+    
+    private Iterator<User> currentPage = Collections.emptyIterator();
+    private CompletableFuture<UserListResponse> nextPage;
+    private boolean started;
+    
+    /**
+     * Cria o iterador; a busca da primeira página é disparada na primeira consulta
+     * 
+     * @param pageLoader Função que inicia a busca assíncrona de uma página (base 1)
+     * @param cancellation Cancelamento sob o qual o carregador executa as requisições
+     */
+    public PagedUserIterator(IntFunction<CompletableFuture<UserListResponse>> pageLoader,
+                             RequestCancellation cancellation) {
+        this.pageLoader = pageLoader;
+        this.cancellation = cancellation;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            nextPage = pageLoader.apply(1);
+        }
+        while (!currentPage.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            advance();
+        }
+        return true;
+    }
+    
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Não há mais usuários a listar");
+        }
+        return currentPage.next();
+    }
+    
+    /**
+     * Cancela o pré-carregamento pendente quando a varredura é abandonada
+     * 
+     * @implNote O futuro é cancelado para que uma tarefa ainda na fila não chegue a
+     * executar, e a requisição já em andamento é abortada
+     */
+    @Override
+    public void close() {
+        started = true;
+        cancellation.cancel();
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+    }
+    
+    /**
+     * Aguarda a página pré-carregada, torna-a a página atual e dispara a seguinte
+     */
+    private void advance() {
+        UserListResponse page = await(nextPage);
+        nextPage = null;
+        
+        int pageNumber = page.getPage() != null ? page.getPage() : 1;
+        int totalPages = page.getTotalPages() != null ? page.getTotalPages() : pageNumber;
+        if (pageNumber < totalPages) {
+            nextPage = pageLoader.apply(pageNumber + 1);
+        }
+        
+        List<User> users = page.getData() != null ? page.getData() : Collections.emptyList();
+        currentPage = users.iterator();
+    }
+    
+    private UserListResponse await(CompletableFuture<UserListResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -1,65 +1,200 @@
 package com.reqres.automation.service;
 
-import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.BulkResult;
 import com.reqres.automation.model.User;
+import com.reqres.automation.model.UserListResponse;
+import com.reqres.automation.service.endpoint.ApiEndpoint;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.endpoint.EndpointRegistry;
+import com.reqres.automation.service.transport.RequestCancellation;
+import com.reqres.automation.util.ReportContext;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Implementação do serviço de usuários
  * Aplica os princípios de Responsabilidade Única (S) e Inversão de Dependência (D) do SOLID
+ * 
+ * @implNote Os paths são expandidos a partir dos templates pré-processados do
+ * {@link EndpointRegistry}
  */
 @Service
 public class UserServiceImpl implements IUserService {
 
     @Autowired
-    private ApiConfig apiConfig;
+    private EndpointRegistry endpointRegistry;
     
     @Autowired
     private IApiService apiService;
     
+    @Autowired
+    private IAsyncApiService asyncApiService;
+    
+    @Autowired
+    private BulkExecutor bulkExecutor;
+    
+    @Autowired
+    @Qualifier("ioExecutor")
+    private ExecutorService ioExecutor;
+    
     @Override
     @Step("Buscando lista de usuários - página {page}")
     public Response getUserList(RequestSpecification requestSpec, int page) {
-        String endpoint = apiConfig.getUsersEndpoint() + "?page=" + page;
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER_PAGE, page);
         return apiService.get(requestSpec, endpoint);
     }
     
     @Override
     @Step("Buscando usuário com ID {userId}")
     public Response getUser(RequestSpecification requestSpec, int userId) {
-        String endpoint = apiConfig.getUserEndpoint(userId);
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER, userId);
         return apiService.get(requestSpec, endpoint);
     }
     
     @Override
     @Step("Criando novo usuário")
     public Response createUser(RequestSpecification requestSpec, User user) {
-        String endpoint = apiConfig.getUsersEndpoint();
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USERS);
         return apiService.post(requestSpec, endpoint, user);
     }
     
     @Override
     @Step("Atualizando usuário ID {userId}")
     public Response updateUser(RequestSpecification requestSpec, int userId, User user) {
-        String endpoint = apiConfig.getUserEndpoint(userId);
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER, userId);
         return apiService.put(requestSpec, endpoint, user);
     }
     
     @Override
     @Step("Atualizando parcialmente usuário ID {userId}")
     public Response patchUser(RequestSpecification requestSpec, int userId, User user) {
-        String endpoint = apiConfig.getUserEndpoint(userId);
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER, userId);
         return apiService.patch(requestSpec, endpoint, user);
     }
     
     @Override
     @Step("Removendo usuário ID {userId}")
     public Response deleteUser(RequestSpecification requestSpec, int userId) {
-        String endpoint = apiConfig.getUserEndpoint(userId);
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER, userId);
         return apiService.delete(requestSpec, endpoint);
     }
-} 
\ No newline at end of file
+    
+    @Override
+    public CompletableFuture<Response> getUserListAsync(RequestSpecification requestSpec, int page) {
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER_PAGE, page);
+        return asyncApiService.getAsync(requestSpec, endpoint);
+    }
+    
+    @Override
+    public CompletableFuture<Response> getUserAsync(RequestSpecification requestSpec, int userId) {
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USER, userId);
+        return asyncApiService.getAsync(requestSpec, endpoint);
+    }
+    
+    @Override
+    @Step("Criando usuários em lote")
+    public BulkResult<User> createUsers(RequestSpecification requestSpec, List<User> users) {
+        return bulkExecutor.execute(users, createCall(requestSpec));
+    }
+    
+    @Override
+    @Step("Criando usuários em lote com concorrência {concurrency}")
+    public BulkResult<User> createUsers(RequestSpecification requestSpec, List<User> users, int concurrency) {
+        return bulkExecutor.execute(users, createCall(requestSpec), concurrency);
+    }
+    
+    @Override
+    @Step("Removendo usuários em lote")
+    public BulkResult<Integer> deleteUsers(RequestSpecification requestSpec, Collection<Integer> userIds) {
+        return bulkExecutor.execute(userIds, deleteCall(requestSpec));
+    }
+    
+    @Override
+    @Step("Removendo usuários em lote com concorrência {concurrency}")
+    public BulkResult<Integer> deleteUsers(RequestSpecification requestSpec, Collection<Integer> userIds, int concurrency) {
+        return bulkExecutor.execute(userIds, deleteCall(requestSpec), concurrency);
+    }
+    
+    @Override
+    @Step("Atualizando parcialmente usuários em lote")
+    public BulkResult<Integer> patchUsers(RequestSpecification requestSpec, Map<Integer, User> patches) {
+        return bulkExecutor.execute(patches.keySet(), patchCall(requestSpec, patches));
+    }
+    
+    @Override
+    @Step("Atualizando parcialmente usuários em lote com concorrência {concurrency}")
+    public BulkResult<Integer> patchUsers(RequestSpecification requestSpec, Map<Integer, User> patches, int concurrency) {
+        return bulkExecutor.execute(patches.keySet(), patchCall(requestSpec, patches), concurrency);
+    }
+    
+    @Override
+    public PagedUserIterator iterateAllUsers(RequestSpecification requestSpec) {
+        RequestCancellation cancellation = new RequestCancellation();
+        return new PagedUserIterator(page -> fetchPage(requestSpec, page, cancellation), cancellation);
+    }
+    
+    @Override
+    @Step("Percorrendo todas as páginas de usuários")
+    public Stream<User> streamAllUsers(RequestSpecification requestSpec) {
+        RequestCancellation cancellation = new RequestCancellation();
+        PagedUserIterator iterator = new PagedUserIterator(page -> fetchPage(requestSpec, page, cancellation), cancellation);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+    
+    private Function<User, Response> createCall(RequestSpecification requestSpec) {
+        String endpoint = endpointRegistry.expand(ApiEndpoint.USERS);
+        return user -> apiService.post(requestSpec, endpoint, user);
+    }
+    
+    private Function<Integer, Response> deleteCall(RequestSpecification requestSpec) {
+        return userId -> apiService.delete(requestSpec, endpointRegistry.expand(ApiEndpoint.USER, userId));
+    }
+    
+    private Function<Integer, Response> patchCall(RequestSpecification requestSpec, Map<Integer, User> patches) {
+        return userId -> apiService.patch(requestSpec, endpointRegistry.expand(ApiEndpoint.USER, userId), patches.get(userId));
+    }
+    
+    /**
+     * Busca uma página em segundo plano pelo mesmo caminho das chamadas síncronas
+     * 
+     * @param requestSpec Especificação da requisição com autenticação e headers
+     * @param page Número da página (base 1)
+     * @param cancellation Cancelamento da varredura, que aborta a requisição em andamento
+     * @return Futuro completado com a página desserializada
+     * @implNote O prazo e o contexto de relatório de quem solicita a página são
+     * capturados na submissão e restaurados na thread de I/O
+     */
+    private CompletableFuture<UserListResponse> fetchPage(RequestSpecification requestSpec, int page,
+                                                          RequestCancellation cancellation) {
+        Deadline deadline = DeadlineContext.current();
+        ReportContext reportContext = ReportContext.capture();
+        return CompletableFuture.supplyAsync(() -> DeadlineContext.callWith(deadline,
+                () -> reportContext.call("Pré-carregando a página " + page + " de usuários",
+                        () -> cancellation.run(() -> {
+                            Response response = getUserList(requestSpec, page);
+                            if (response.getStatusCode() != 200) {
+                                throw new IllegalStateException("Falha ao buscar a página " + page
+                                        + " de usuários: código " + response.getStatusCode());
+                            }
+                            return response.as(UserListResponse.class);
+                        }))), ioExecutor);
+    }
+}
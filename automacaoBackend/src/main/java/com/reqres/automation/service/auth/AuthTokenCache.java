@@ -0,0 +1,409 @@
+package com.reqres.automation.service.auth;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.util.ReportContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache de tokens de autenticação com TTL, login single-flight e renovação antecipada
+ * 
+ * @implNote Cada identidade (e-mail) tem no máximo um token válido em cache e no
+ * máximo um login em andamento: quando o token está ausente ou expirado, a primeira
+ * thread executa o login e as demais aguardam o mesmo resultado, em vez de
+ * dispararem logins simultâneos contra {@code /login}
+ * 
+ * @implSpec Os tokens expiram após {@link ApiConfig#getAuthTokenTtlMs()}. Tokens
+ * vazios (falha de autenticação) e exceções são repassados a todas as threads que
+ * aguardavam o login, mas não são armazenados; a próxima chamada tenta novamente
+ * 
+ * @implNote Com {@code api.auth.token.refresh.enabled=true} cada login bem-sucedido
+ * agenda, em uma thread de segundo plano, a renovação do token ao atingir
+ * {@link ApiConfig#getAuthTokenRefreshFraction()} do seu tempo de vida (refresh-ahead).
+ * Durante a renovação as chamadas continuam recebendo o token vigente, sem bloquear.
+ * Só é renovado o token de uma identidade usada desde o login ou a renovação
+ * anterior; um token ocioso não é renovado e expira, e o próximo uso faz o login
+ * síncrono, que volta a agendar a renovação. A renovação é executada com um
+ * {@link ReportContext#detached()}: seus anexos não vão para o teste que criou a
+ * thread de renovação
+ * Uma renovação que falha é repetida com backoff exponencial enquanto o token vigente
+ * é válido; se ele expirar antes, a próxima chamada recorre ao login síncrono, que
+ * respeita o mesmo backoff: após falhas consecutivas o login aguarda o intervalo
+ * restante em vez de repetir imediatamente a chamada a {@code /login}. A espera
+ * ocorre antes de ocupar o login single-flight e é limitada ao prazo da thread:
+ * quando o backoff termina após o prazo, a chamada falha com
+ * {@link DeadlineExceededException} sem aguardar
+ * 
+ * @implSpec Cada identidade tem uma geração, incrementada a cada invalidação. Um
+ * login iniciado antes da invalidação devolve o token a quem o aguardava, mas não o
+ * grava no cache nem agenda a sua renovação; a troca é feita de forma atômica com a
+ * invalidação
+ * 
+ * @apiNote Com {@code api.auth.token.cache.enabled=false} cada chamada executa o login
+ */
+@Component
+public class AuthTokenCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AuthTokenCache.class);
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+    private final Map<String, LoginBackoff> backoffs = new ConcurrentHashMap<>();
+    /** Geração de cada identidade; alterada apenas dentro de {@code tokens.compute} da mesma chave */
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    /** Identidades cujo token foi usado desde o último login ou renovação */
+    private final Set<String> usedSinceRefresh = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong logins = new AtomicLong();
+    private final AtomicLong sharedLogins = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong failedRefreshes = new AtomicLong();
+    
+    private ScheduledExecutorService refresher;
+    
+    /**
+     * Cria a thread de renovação antecipada quando habilitada
+     */
+    @PostConstruct
+    public void init() {
+        if (apiConfig.isAuthTokenCacheEnabled() && apiConfig.isAuthTokenRefreshEnabled()) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "auth-token-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+    /**
+     * Obtém o token de uma identidade, executando o login apenas quando necessário
+     * 
+     * @param identity Identidade autenticada, como o e-mail da credencial
+     * @param login Login na API, que retorna o token ou string vazia em caso de falha
+     * @return Token em cache ou obtido pelo login
+     */
+    public String get(String identity, Supplier<String> login) {
+        if (!apiConfig.isAuthTokenCacheEnabled()) {
+            logins.incrementAndGet();
+            return login.get();
+        }
+        CachedToken cached = tokens.get(identity);
+        if (cached != null && !cached.isExpired()) {
+            hits.incrementAndGet();
+            if (refresher != null) {
+                usedSinceRefresh.add(identity);
+            }
+            return cached.value;
+        }
+        return loginOnce(identity, login, false);
+    }
+    
+    /**
+     * Descarta o token de uma identidade, forçando um novo login na próxima chamada
+     * 
+     * @param identity Identidade autenticada
+     * @implNote Um login já em andamento deixa de ser compartilhado com as chamadas
+     * seguintes e o seu resultado não é gravado no cache
+     */
+    public void invalidate(String identity) {
+        tokens.compute(identity, (key, current) -> {
+            generations.merge(key, 1L, Long::sum);
+            return null;
+        });
+        inFlight.remove(identity);
+        usedSinceRefresh.remove(identity);
+        cancelRefresh(identity);
+    }
+    
+    /**
+     * Descarta todos os tokens em cache, inclusive os de logins em andamento
+     */
+    public void invalidateAll() {
+        Set<String> identities = new HashSet<>(tokens.keySet());
+        identities.addAll(inFlight.keySet());
+        identities.addAll(scheduledRefreshes.keySet());
+        identities.forEach(this::invalidate);
+    }
+    
+    /**
+     * Encerra a renovação antecipada e registra o resumo de uso do cache
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+        if (logins.get() > 0) {
+            logger.info("Cache de tokens: {} reaproveitados, {} logins, {} logins compartilhados, {} renovações ({} falharam)",
+                    hits.get(), logins.get(), sharedLogins.get(), refreshes.get(), failedRefreshes.get());
+        }
+    }
+    
+    public long getHits() {
+        return hits.get();
+    }
+    
+    public long getLogins() {
+        return logins.get();
+    }
+    
+    public long getSharedLogins() {
+        return sharedLogins.get();
+    }
+    
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+    
+    public long getFailedRefreshes() {
+        return failedRefreshes.get();
+    }
+    
+    /**
+     * Executa o login da identidade uma única vez entre as threads concorrentes
+     * 
+     * @param identity Identidade autenticada
+     * @param login Login na API
+     * @param renew true na renovação antecipada, que substitui um token ainda válido
+     * @return Token obtido, ou o resultado do login já em andamento
+     */
+    private String loginOnce(String identity, Supplier<String> login, boolean renew) {
+        if (!renew) {
+            awaitBackoff(identity);
+        }
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(identity, flight);
+        if (existing != null) {
+            sharedLogins.incrementAndGet();
+            return await(existing);
+        }
+        try {
+            long generation = generations.getOrDefault(identity, 0L);
+            CachedToken cached = tokens.get(identity);
+            if (!renew && cached != null && !cached.isExpired()) {
+                hits.incrementAndGet();
+                flight.complete(cached.value);
+                return cached.value;
+            }
+            logins.incrementAndGet();
+            String token = login.get();
+            if (token != null && !token.isEmpty()) {
+                backoffs.remove(identity);
+                if (store(identity, generation, new CachedToken(token, apiConfig.getAuthTokenTtlMs()))) {
+                    usedSinceRefresh.remove(identity);
+                    scheduleRefresh(identity, login, refreshDelayMs(), false);
+                } else {
+                    logger.debug("Token de {} descartado: identidade invalidada durante o login", identity);
+                }
+            } else {
+                recordFailure(identity);
+            }
+            flight.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            recordFailure(identity);
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(identity, flight);
+        }
+    }
+    
+    /**
+     * Grava o token obtido por um login, desde que a identidade não tenha sido invalidada desde o seu início
+     * 
+     * @param identity Identidade autenticada
+     * @param generation Geração da identidade no início do login
+     * @param token Token obtido
+     * @return true se o token foi gravado
+     */
+    private boolean store(String identity, long generation, CachedToken token) {
+        boolean[] stored = new boolean[1];
+        tokens.compute(identity, (key, current) -> {
+            stored[0] = generations.getOrDefault(key, 0L) == generation;
+            return stored[0] ? token : current;
+        });
+        return stored[0];
+    }
+    
+    /**
+     * Renova o token em segundo plano
+     * 
+     * @param identity Identidade autenticada
+     * @param login Login na API
+     * @param retry true na repetição de uma renovação que falhou, que não depende de novo uso
+     */
+    private void refresh(String identity, Supplier<String> login, boolean retry) {
+        CachedToken current = tokens.get(identity);
+        if (current == null) {
+            return;
+        }
+        if (!retry && !usedSinceRefresh.remove(identity)) {
+            logger.debug("Token de {} não foi usado desde a última renovação; renovação encerrada", identity);
+            return;
+        }
+        String token;
+        try {
+            token = loginOnce(identity, login, true);
+        } catch (RuntimeException e) {
+            logger.debug("Falha na renovação do token de {}", identity, e);
+            token = "";
+        }
+        if (token != null && !token.isEmpty()) {
+            refreshes.incrementAndGet();
+            return;
+        }
+        
+        failedRefreshes.incrementAndGet();
+        CachedToken active = tokens.get(identity);
+        if (active == null || active.isExpired()) {
+            logger.warn("Renovação do token de {} falhou e o token expirou; o próximo uso fará login síncrono", identity);
+            return;
+        }
+        LoginBackoff backoff = backoffs.get(identity);
+        long backoffMs = backoff != null ? backoff.remainingMs() : apiConfig.getAuthTokenRefreshBackoffBaseMs();
+        logger.warn("Renovação do token de {} falhou; nova tentativa em {} ms", identity, backoffMs);
+        scheduleRefresh(identity, login, backoffMs, true);
+    }
+    
+    private void scheduleRefresh(String identity, Supplier<String> login, long delayMs, boolean retry) {
+        if (refresher != null) {
+            schedule(identity, () -> ReportContext.detached().run("Renovação do token de " + identity,
+                    () -> refresh(identity, login, retry)), delayMs);
+        }
+    }
+    
+    /**
+     * Registra uma falha de login e amplia o intervalo até a próxima tentativa
+     * 
+     * @param identity Identidade autenticada
+     */
+    private void recordFailure(String identity) {
+        backoffs.compute(identity, (key, previous) -> {
+            int failures = previous != null ? previous.failures + 1 : 1;
+            long delayMs = Math.min(apiConfig.getAuthTokenRefreshBackoffMaxMs(),
+                    apiConfig.getAuthTokenRefreshBackoffBaseMs() << Math.min(failures - 1, 20));
+            return new LoginBackoff(failures, delayMs);
+        });
+    }
+    
+    /**
+     * Aguarda o intervalo restante do backoff antes de um login síncrono
+     * 
+     * @param identity Identidade autenticada
+     * @throws DeadlineExceededException se o backoff termina após o prazo da thread
+     */
+    private void awaitBackoff(String identity) {
+        LoginBackoff backoff = backoffs.get(identity);
+        long waitMs = backoff != null ? backoff.remainingMs() : 0;
+        if (waitMs <= 0) {
+            return;
+        }
+        Deadline deadline = DeadlineContext.current();
+        if (deadline != null && waitMs >= deadline.remainingMs()) {
+            throw new DeadlineExceededException(deadline, "login de " + identity + " (backoff de " + waitMs
+                    + " ms após " + backoff.failures + " falhas)");
+        }
+        logger.debug("Login de {} aguardando {} ms após {} falhas", identity, waitMs, backoff.failures);
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void schedule(String identity, Runnable task, long delayMs) {
+        try {
+            ScheduledFuture<?> previous = scheduledRefreshes.put(identity,
+                    refresher.schedule(task, delayMs, TimeUnit.MILLISECONDS));
+            if (previous != null) {
+                previous.cancel(false);
+            }
+        } catch (RejectedExecutionException e) {
+            logger.debug("Renovação do token de {} não agendada: cache encerrado", identity);
+        }
+    }
+    
+    private void cancelRefresh(String identity) {
+        ScheduledFuture<?> scheduled = scheduledRefreshes.remove(identity);
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+    
+    private long refreshDelayMs() {
+        double fraction = Math.max(0.1, Math.min(1.0, apiConfig.getAuthTokenRefreshFraction()));
+        return Math.max(1, (long) (apiConfig.getAuthTokenTtlMs() * fraction));
+    }
+    
+    private static String await(CompletableFuture<String> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Falhas consecutivas de login de uma identidade e o instante da próxima tentativa
+     */
+    private static final class LoginBackoff {
+        final int failures;
+        final long notBeforeNanos;
+        
+        LoginBackoff(int failures, long delayMs) {
+            this.failures = failures;
+            this.notBeforeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        }
+        
+        long remainingMs() {
+            return Math.max(0, TimeUnit.NANOSECONDS.toMillis(notBeforeNanos - System.nanoTime()));
+        }
+    }
+    
+    /**
+     * Token em cache e o instante da sua expiração
+     */
+    private static final class CachedToken {
+        final String value;
+        final long expiresAtNanos;
+        
+        CachedToken(String value, long ttlMs) {
+            this.value = value;
+            this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        }
+        
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.reqres.automation.service.auth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.Credential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool de credenciais para cenários concorrentes com múltiplas identidades
+ *
+ * @implNote Em vez de todas as threads compartilharem a conta de
+ * {@link ApiConfig#getAuthEmail()}, cada thread (ou usuário virtual) aluga uma
+ * identidade do pool e a mantém até liberá-la. A identidade alugada é a chave do
+ * {@link AuthTokenCache}, de modo que há um token em cache por identidade e o login
+ * single-flight passa a valer por conta, não para a execução inteira
+ *
+ * @implSpec Cada novo aluguel recebe a identidade com menos aluguéis ativos (em caso
+ * de empate, a primeira do pool), distribuindo as threads de forma equilibrada. Com
+ * mais threads do que identidades, as identidades são compartilhadas
+ *
+ * @apiNote As credenciais vêm de {@link ApiConfig#getAuthCredentialsFile()} (array
+ * JSON de objetos com {@code email} e {@code password}) ou, na sua ausência, de
+ * {@link ApiConfig#getAuthCredentials()} ({@code email:senha} separados por vírgula).
+ * Sem nenhuma das duas o pool contém apenas a conta padrão, preservando o
+ * comportamento de identidade única
+ */
+@Component
+public class CredentialPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialPool.class);
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadLocal<Integer> threadLeases = new ThreadLocal<>();
+    private final Map<String, Integer> virtualUserLeases = new ConcurrentHashMap<>();
+
+    private List<Credential> credentials;
+    private int[] activeLeases;
+
+    /**
+     * Carrega as credenciais configuradas
+     */
+    @PostConstruct
+    public void init() {
+        credentials = Collections.unmodifiableList(load());
+        activeLeases = new int[credentials.size()];
+        if (credentials.size() > 1) {
+            logger.info("Pool de credenciais com {} identidades", credentials.size());
+        }
+    }
+
+    /**
+     * Aluga uma identidade para a thread corrente
+     *
+     * @return Credencial já alugada pela thread ou a menos utilizada do pool
+     */
+    public Credential lease() {
+        Integer index = threadLeases.get();
+        if (index == null) {
+            index = acquire();
+            threadLeases.set(index);
+        }
+        return credentials.get(index);
+    }
+
+    /**
+     * Aluga uma identidade para um usuário virtual
+     *
+     * @param virtualUserId Identificador do usuário virtual, estável entre as chamadas do cenário
+     * @return Credencial já alugada pelo usuário virtual ou a menos utilizada do pool
+     * @apiNote Permite que um mesmo usuário virtual mantenha a sua identidade mesmo
+     * quando as suas chamadas são executadas por threads diferentes
+     */
+    public Credential lease(String virtualUserId) {
+        return credentials.get(virtualUserLeases.computeIfAbsent(virtualUserId, id -> acquire()));
+    }
+
+    /**
+     * Obtém a identidade já alugada pela thread corrente, sem alugar uma nova
+     *
+     * @return Credencial alugada pela thread ou null se a thread não tem aluguel ativo
+     */
+    public Credential current() {
+        Integer index = threadLeases.get();
+        return index != null ? credentials.get(index) : null;
+    }
+
+    /**
+     * Devolve ao pool a identidade alugada pela thread corrente
+     *
+     * @apiNote Deve ser chamado ao final de cada teste: as threads do executor
+     * paralelo são reaproveitadas, e um aluguel não devolvido mantém a contagem da
+     * identidade alta e a thread presa à mesma conta nos testes seguintes
+     */
+    public void release() {
+        Integer index = threadLeases.get();
+        if (index != null) {
+            threadLeases.remove();
+            releaseIndex(index);
+        }
+    }
+
+    /**
+     * Devolve ao pool a identidade alugada por um usuário virtual
+     *
+     * @param virtualUserId Identificador do usuário virtual
+     */
+    public void release(String virtualUserId) {
+        Integer index = virtualUserLeases.remove(virtualUserId);
+        if (index != null) {
+            releaseIndex(index);
+        }
+    }
+
+    /**
+     * Obtém as identidades do pool
+     *
+     * @return Lista imutável das credenciais, na ordem em que foram configuradas
+     */
+    public List<Credential> getCredentials() {
+        return credentials;
+    }
+
+    /**
+     * Obtém o número de identidades do pool
+     *
+     * @return Total de credenciais carregadas
+     */
+    public int size() {
+        return credentials.size();
+    }
+
+    private synchronized int acquire() {
+        int least = 0;
+        for (int i = 1; i < activeLeases.length; i++) {
+            if (activeLeases[i] < activeLeases[least]) {
+                least = i;
+            }
+        }
+        activeLeases[least]++;
+        return least;
+    }
+
+    private synchronized void releaseIndex(int index) {
+        activeLeases[index] = Math.max(0, activeLeases[index] - 1);
+    }
+
+    private List<Credential> load() {
+        List<Credential> loaded = new ArrayList<>();
+        String path = apiConfig.getAuthCredentialsFile();
+        String list = apiConfig.getAuthCredentials();
+        if (path != null && !path.trim().isEmpty()) {
+            loaded.addAll(read(new File(path.trim())));
+        } else if (list != null && !list.trim().isEmpty()) {
+            loaded.addAll(parse(list));
+        }
+        if (loaded.isEmpty()) {
+            loaded.add(new Credential(apiConfig.getAuthEmail(), apiConfig.getAuthPassword()));
+        }
+        return loaded;
+    }
+
+    private List<Credential> read(File file) {
+        List<Credential> loaded;
+        try {
+            loaded = objectMapper.readValue(file, new TypeReference<List<Credential>>() { });
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao ler o arquivo de credenciais " + file + ": " + e.getMessage(), e);
+        }
+        for (Credential credential : loaded) {
+            if (isBlank(credential.getEmail()) || isBlank(credential.getPassword())) {
+                throw new IllegalStateException("Credencial sem e-mail ou senha no arquivo " + file + ": " + credential);
+            }
+        }
+        return loaded;
+    }
+
+    private List<Credential> parse(String list) {
+        List<Credential> parsed = new ArrayList<>();
+        for (String raw : list.split(",")) {
+            String entry = raw.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalStateException("Credencial inválida em api.auth.credentials, esperado email:senha: "
+                        + (separator > 0 ? entry.substring(0, separator) : entry));
+            }
+            parsed.add(new Credential(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim()));
+        }
+        return parsed;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.reqres.automation.service.cassette;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Filtro do RestAssured que grava ou reproduz chamadas feitas diretamente com {@code given()}
+ * 
+ * @implNote Chamadas originadas no {@code IApiService} já são tratadas pelo
+ * {@code CassetteInterceptor}; para elas o filtro apenas repassa a requisição
+ */
+class CassetteFilter implements Filter {
+    
+    private final CassetteStore store;
+    
+    CassetteFilter(CassetteStore store) {
+        this.store = store;
+    }
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (store.isHandledByInterceptor()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        
+        String method = requestSpec.getMethod();
+        String url = requestSpec.getURI();
+        Map<String, String> headers = keyHeaders(requestSpec);
+        String body = store.normalizeBody(body(requestSpec));
+        String key = store.key(method, url, headers, body);
+        
+        if (store.isReplay()) {
+            return store.replay(key, method + " " + url);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        store.record(key, store.toInteraction(method, url, headers, body, response));
+        return response;
+    }
+    
+    private Map<String, String> keyHeaders(FilterableRequestSpecification requestSpec) {
+        Map<String, String> headers = new HashMap<>();
+        for (String name : CassetteStore.KEY_HEADERS) {
+            Header header = requestSpec.getHeaders().get(name);
+            if (header != null) {
+                headers.put(name, header.getValue());
+            }
+        }
+        if (!headers.containsKey("Content-Type") && requestSpec.getContentType() != null) {
+            headers.put("Content-Type", requestSpec.getContentType());
+        }
+        return headers;
+    }
+    
+    private Object body(FilterableRequestSpecification requestSpec) {
+        if (!requestSpec.getFormParams().isEmpty()) {
+            return new TreeMap<>(requestSpec.getFormParams()).toString();
+        }
+        return requestSpec.getBody();
+    }
+}
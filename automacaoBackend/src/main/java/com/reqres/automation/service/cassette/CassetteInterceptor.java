@@ -0,0 +1,70 @@
+package com.reqres.automation.service.cassette;
+
+import com.reqres.automation.service.interceptor.ApiInterceptor;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import com.reqres.automation.service.interceptor.ResponseSnapshot;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gravação e reprodução das chamadas do {@code IApiService} em cassete
+ * 
+ * @implNote Em {@code api.mode=replay} a resposta é obtida do {@link CassetteStore}
+ * sem prosseguir na cadeia, portanto sem rede, retries ou limites de taxa. Em
+ * {@code api.mode=record} a chamada segue normalmente e a resposta final é gravada
+ * 
+ * @implSpec Em {@code api.mode=passthrough} (padrão) o interceptor apenas repassa a requisição
+ */
+@Component
+@Order(ApiInterceptor.ORDER_CASSETTE)
+public class CassetteInterceptor implements ApiInterceptor {
+    
+    @Autowired
+    private CassetteStore cassetteStore;
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        if (!cassetteStore.isActive()) {
+            return chain.proceed(request);
+        }
+        
+        String method = request.getMethod().name();
+        String url = request.getUrl();
+        Map<String, String> headers = keyHeaders(request);
+        String body = cassetteStore.normalizeBody(request.getPayload());
+        String key = cassetteStore.key(method, url, headers, body);
+        
+        if (cassetteStore.isReplay()) {
+            return cassetteStore.replay(key, request.toString());
+        }
+        
+        Response response;
+        cassetteStore.setHandledByInterceptor(true);
+        try {
+            response = chain.proceed(request);
+        } finally {
+            cassetteStore.setHandledByInterceptor(false);
+        }
+        ResponseSnapshot snapshot = ResponseSnapshot.of(response);
+        Response copy = snapshot.toResponse();
+        cassetteStore.record(key, cassetteStore.toInteraction(method, url, headers, body, copy));
+        return snapshot.toResponse();
+    }
+    
+    private Map<String, String> keyHeaders(ApiRequest request) {
+        Map<String, String> headers = new HashMap<>();
+        for (String name : CassetteStore.KEY_HEADERS) {
+            String value = "Content-Type".equalsIgnoreCase(name) ? request.getContentType() : request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+}
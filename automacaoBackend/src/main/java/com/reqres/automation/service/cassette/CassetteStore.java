@@ -0,0 +1,410 @@
+package com.reqres.automation.service.cassette;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.RecordedInteraction;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cassete de interações HTTP para os modos de gravação e reprodução
+ * 
+ * @implNote Mantém as interações indexadas por uma chave derivada do método, do path e
+ * da query relativos a {@link ApiConfig#getBaseUrl()}, dos headers que diferenciam
+ * respostas e do corpo normalizado, de modo que a reprodução é uma consulta direta ao
+ * índice. Sem esquema, host e porta na chave, um cassete gravado contra um servidor
+ * é reproduzido contra outro, como o servidor local, que usa uma porta aleatória. Quando a mesma chave foi gravada mais
+ * de uma vez, as respostas são reproduzidas na ordem de gravação, repetindo a última
+ * 
+ * @implSpec Em {@code api.mode=record} o cassete existente é carregado e cada chave
+ * regravada na execução substitui as gravações anteriores dela; o arquivo é escrito
+ * ao encerrar o contexto, em um arquivo temporário que substitui o cassete por uma
+ * movimentação atômica, de modo que uma interrupção não deixa um cassete truncado. Em {@code api.mode=replay} uma requisição sem gravação
+ * correspondente falha imediatamente, sem acesso à rede
+ * 
+ * @apiNote Além do {@code CassetteInterceptor}, que cobre as chamadas do
+ * {@code IApiService}, o cassete registra um filtro global do RestAssured para as
+ * chamadas feitas diretamente com {@code RestAssured.given()}
+ */
+@Component
+public class CassetteStore {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CassetteStore.class);
+    
+    /** Headers da requisição que fazem parte da chave da interação */
+    static final List<String> KEY_HEADERS = Arrays.asList("X-API-KEY", "Authorization", "Content-Type");
+    
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    
+    private final ThreadLocal<Boolean> handledByInterceptor = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    private final Map<String, List<RecordedInteraction>> interactions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> replayCursors = new ConcurrentHashMap<>();
+    private final Set<String> recordedKeys = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    
+    private CassetteFilter filter;
+    
+    /**
+     * Carrega o cassete e registra o filtro global do RestAssured nos modos record e replay
+     */
+    @PostConstruct
+    public void init() {
+        if (!isActive()) {
+            return;
+        }
+        load();
+        filter = new CassetteFilter(this);
+        RestAssured.filters(filter);
+        logger.info("Cassete em modo {}: {} interações carregadas de {}",
+                apiConfig.getMode(), interactions.size(), apiConfig.getCassettePath());
+    }
+    
+    /**
+     * Grava o cassete em disco (modo record) e remove o filtro global
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!isActive()) {
+            return;
+        }
+        List<io.restassured.filter.Filter> remaining = new ArrayList<>(RestAssured.filters());
+        remaining.remove(filter);
+        RestAssured.replaceFiltersWith(remaining);
+        if (apiConfig.isRecordMode()) {
+            save();
+        }
+        logger.info("Cassete encerrado: {} interações gravadas, {} reproduzidas", recorded.get(), replayed.get());
+    }
+    
+    /**
+     * Indica se o cassete participa das chamadas
+     * 
+     * @return true nos modos record e replay
+     */
+    public boolean isActive() {
+        return apiConfig.isRecordMode() || apiConfig.isReplayMode();
+    }
+    
+    /**
+     * Indica se as respostas devem vir exclusivamente do cassete
+     * 
+     * @return true no modo replay
+     */
+    public boolean isReplay() {
+        return apiConfig.isReplayMode();
+    }
+    
+    /**
+     * Calcula a chave de indexação de uma requisição
+     * 
+     * @param method Método HTTP
+     * @param url URL completa, incluindo parâmetros de query, ou local já relativo
+     * @param headers Valores dos headers de {@link #KEY_HEADERS}, podendo conter nulos
+     * @param body Corpo já normalizado por {@link #normalizeBody(Object)}
+     * @return Chave textual da interação
+     */
+    String key(String method, String url, Map<String, String> headers, String body) {
+        StringBuilder key = new StringBuilder(method.toUpperCase()).append(' ').append(location(url));
+        for (String name : KEY_HEADERS) {
+            key.append('\n').append(name).append(": ").append(normalizeHeader(name, headers.get(name)));
+        }
+        return key.append('\n').append(body).toString();
+    }
+    
+    /**
+     * Obtém o path e a query de uma URL relativos à URL base da API
+     * 
+     * @implNote Esquema, host e porta são descartados e, quando o path começa pelo
+     * path da URL base (por exemplo {@code /api}), este também é removido. Locais já
+     * relativos, como os gravados no cassete, são devolvidos sem alteração
+     * 
+     * @param url URL completa ou local relativo
+     * @return Path e query relativos, como {@code /users?page=2}
+     */
+    String location(String url) {
+        String location = withoutOrigin(url);
+        String basePath = withoutOrigin(apiConfig.getBaseUrl());
+        if (basePath.endsWith("/")) {
+            basePath = basePath.substring(0, basePath.length() - 1);
+        }
+        if (!url.equals(location) && !basePath.isEmpty() && location.startsWith(basePath)
+                && (location.length() == basePath.length() || "/?".indexOf(location.charAt(basePath.length())) >= 0)) {
+            location = location.substring(basePath.length());
+        }
+        return location.isEmpty() || location.startsWith("?") ? "/" + location : location;
+    }
+    
+    /**
+     * Normaliza um corpo de requisição para comparação estável
+     * 
+     * @implNote Corpos JSON (objetos, mapas ou texto) são reserializados com as chaves
+     * em ordem alfabética; outros textos são mantidos como estão
+     * 
+     * @param body Payload da requisição, podendo ser nulo
+     * @return Representação textual normalizada, vazia quando não houver corpo
+     */
+    String normalizeBody(Object body) {
+        if (body == null) {
+            return "";
+        }
+        try {
+            Object tree = body instanceof String
+                    ? objectMapper.readValue((String) body, Object.class)
+                    : objectMapper.convertValue(body, Object.class);
+            return objectMapper.writeValueAsString(tree);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return body.toString();
+        }
+    }
+    
+    /**
+     * Obtém a próxima resposta gravada para a chave
+     * 
+     * @param key Chave calculada por {@link #key}
+     * @param description Descrição da requisição usada na mensagem de erro
+     * @return Resposta reconstruída a partir do cassete
+     * @throws IllegalStateException quando não há gravação para a chave
+     */
+    Response replay(String key, String description) {
+        List<RecordedInteraction> recordings = interactions.get(key);
+        if (recordings == null || recordings.isEmpty()) {
+            throw new IllegalStateException("Interação não encontrada no cassete " + apiConfig.getCassettePath()
+                    + ": " + description + ". Grave-a novamente com -Dapi.mode=record");
+        }
+        int index = replayCursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        replayed.incrementAndGet();
+        return toResponse(recordings.get(Math.min(index, recordings.size() - 1)));
+    }
+    
+    /**
+     * Adiciona uma interação ao cassete
+     * 
+     * @param key Chave calculada por {@link #key}
+     * @param interaction Interação a ser gravada
+     * @implNote A primeira gravação da chave na execução descarta as gravações
+     * carregadas do arquivo; a troca e a inclusão são feitas em um único
+     * {@code compute}, de modo que gravações concorrentes da mesma chave não se perdem
+     */
+    void record(String key, RecordedInteraction interaction) {
+        interactions.compute(key, (k, existing) -> {
+            List<RecordedInteraction> recordings = recordedKeys.add(k) || existing == null
+                    ? new CopyOnWriteArrayList<>() : existing;
+            recordings.add(interaction);
+            return recordings;
+        });
+        recorded.incrementAndGet();
+    }
+    
+    /**
+     * Converte uma resposta recebida em interação gravável
+     * 
+     * @param method Método HTTP
+     * @param url URL completa, gravada relativa à URL base
+     * @param headers Headers de chave da requisição
+     * @param body Corpo normalizado da requisição
+     * @param response Resposta recebida da rede
+     * @return Interação com a resposta completa
+     */
+    RecordedInteraction toInteraction(String method, String url, Map<String, String> headers, String body,
+                                      Response response) {
+        Map<String, List<String>> responseHeaders = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            responseHeaders.computeIfAbsent(header.getName(), k -> new ArrayList<>()).add(header.getValue());
+        }
+        byte[] responseBody = response.asByteArray();
+        return RecordedInteraction.builder()
+                .method(method.toUpperCase())
+                .url(location(url))
+                .requestHeaders(new TreeMap<>(headers))
+                .requestBody(body)
+                .statusCode(response.getStatusCode())
+                .statusLine(response.getStatusLine())
+                .contentType(response.getContentType())
+                .responseHeaders(responseHeaders)
+                .responseBody(responseBody != null ? new String(responseBody, StandardCharsets.UTF_8) : "")
+                .build();
+    }
+    
+    /**
+     * Marca a thread atual como atendida pelo interceptor, evitando gravação em dobro pelo filtro
+     * 
+     * @param handled true ao entrar no interceptor, false ao sair
+     */
+    void setHandledByInterceptor(boolean handled) {
+        if (handled) {
+            handledByInterceptor.set(Boolean.TRUE);
+        } else {
+            handledByInterceptor.remove();
+        }
+    }
+    
+    /**
+     * Indica se a chamada da thread atual já está sob responsabilidade do interceptor
+     * 
+     * @return true quando o filtro deve apenas repassar a requisição
+     */
+    boolean isHandledByInterceptor() {
+        return handledByInterceptor.get();
+    }
+    
+    /**
+     * Obtém o número de interações reproduzidas a partir do cassete
+     * 
+     * @return Total de respostas servidas sem acesso à rede
+     */
+    public long getReplayed() {
+        return replayed.get();
+    }
+    
+    /**
+     * Obtém o número de interações gravadas na execução atual
+     * 
+     * @return Total de gravações desde a inicialização
+     */
+    public long getRecorded() {
+        return recorded.get();
+    }
+    
+    private String normalizeHeader(String name, String value) {
+        if (value == null) {
+            return "";
+        }
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            int parameters = value.indexOf(';');
+            return (parameters >= 0 ? value.substring(0, parameters) : value).trim().toLowerCase();
+        }
+        return value;
+    }
+    
+    private static String withoutOrigin(String url) {
+        int scheme = url.indexOf("://");
+        if (scheme < 0) {
+            return url;
+        }
+        int pathStart = url.indexOf('/', scheme + 3);
+        int queryStart = url.indexOf('?', scheme + 3);
+        int start = pathStart < 0 ? queryStart : queryStart < 0 ? pathStart : Math.min(pathStart, queryStart);
+        return start >= 0 ? url.substring(start) : "";
+    }
+    
+    private Response toResponse(RecordedInteraction interaction) {
+        List<Header> headers = new ArrayList<>();
+        if (interaction.getResponseHeaders() != null) {
+            interaction.getResponseHeaders().forEach((name, values) ->
+                    values.forEach(value -> headers.add(new Header(name, value))));
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.getStatusCode())
+                .setStatusLine(interaction.getStatusLine())
+                .setHeaders(new Headers(headers))
+                .setBody(interaction.getResponseBody() != null
+                        ? interaction.getResponseBody().getBytes(StandardCharsets.UTF_8) : new byte[0]);
+        if (interaction.getContentType() != null && !interaction.getContentType().isEmpty()) {
+            builder.setContentType(interaction.getContentType());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Carrega as interações do arquivo {@code api.cassette.path}, quando existir
+     */
+    void load() {
+        File file = new File(apiConfig.getCassettePath());
+        if (!file.exists()) {
+            if (apiConfig.isReplayMode()) {
+                logger.warn("Cassete {} não encontrado; todas as requisições falharão em modo replay", file);
+            }
+            return;
+        }
+        try {
+            List<RecordedInteraction> loaded = objectMapper.readValue(file, new TypeReference<List<RecordedInteraction>>() { });
+            for (RecordedInteraction interaction : loaded) {
+                Map<String, String> headers = interaction.getRequestHeaders() != null
+                        ? interaction.getRequestHeaders() : new TreeMap<>();
+                String key = key(interaction.getMethod(), interaction.getUrl(), headers,
+                        interaction.getRequestBody() != null ? interaction.getRequestBody() : "");
+                interactions.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(interaction);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao ler o cassete " + file + ": " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Grava todas as interações no arquivo {@code api.cassette.path}
+     *
+     * @implNote O conteúdo é escrito em um arquivo temporário da JVM no mesmo diretório
+     * e movido sobre o cassete; sistemas de arquivos sem movimentação atômica recebem
+     * uma substituição simples
+     */
+    void save() {
+        File file = new File(apiConfig.getCassettePath()).getAbsoluteFile();
+        List<RecordedInteraction> all = new ArrayList<>();
+        new TreeMap<>(interactions).values().forEach(all::addAll);
+        Path temp = null;
+        try {
+            Path directory = file.getParentFile().toPath();
+            Files.createDirectories(directory);
+            temp = directory.resolve(file.getName() + "." + ProcessHandle.current().pid() + ".tmp");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), all);
+            try {
+                Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.info("Cassete gravado em {} com {} interações", file, all.size());
+        } catch (IOException e) {
+            logger.error("Falha ao gravar o cassete {}: {}", file, e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            logger.warn("Arquivo temporário do cassete {} não removido: {}", temp, e.getMessage());
+        }
+    }
+}
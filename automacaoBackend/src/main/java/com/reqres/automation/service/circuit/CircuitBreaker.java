@@ -0,0 +1,241 @@
+package com.reqres.automation.service.circuit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Máquina de estados de circuit breaker de um endpoint
+ * 
+ * @implNote Implementa o padrão de design State com os estados fechado, aberto e
+ * semiaberto. No estado fechado as chamadas são registradas em uma janela
+ * deslizante das últimas N chamadas; quando a taxa de falhas ou de chamadas lentas
+ * atinge o limite, o circuito abre e as chamadas são recusadas. Após o tempo de
+ * abertura, algumas chamadas de teste são liberadas (semiaberto): se todas tiverem
+ * sucesso o circuito fecha, e qualquer falha o reabre
+ * 
+ * @implSpec Thread-safe: as transições são sincronizadas na instância. O ouvinte de
+ * transições é notificado na thread da chamada que provocou a mudança
+ */
+public class CircuitBreaker {
+    
+    /**
+     * Estados possíveis do circuito
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+    
+    /**
+     * Ouvinte notificado a cada mudança de estado
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        
+        /**
+         * Notifica uma transição de estado
+         * 
+         * @param breaker Circuito que mudou de estado
+         * @param from Estado anterior
+         * @param to Novo estado
+         */
+        void onTransition(CircuitBreaker breaker, State from, State to);
+    }
+    
+    /**
+     * Parâmetros do circuito
+     */
+    public static final class Settings {
+        final int windowSize;
+        final int minCalls;
+        final double failureRatePercent;
+        final long slowCallMs;
+        final double slowRatePercent;
+        final long openMs;
+        final int halfOpenCalls;
+        
+        /**
+         * Cria os parâmetros do circuito
+         * 
+         * @param windowSize Número de chamadas da janela deslizante
+         * @param minCalls Mínimo de chamadas antes de avaliar as taxas
+         * @param failureRatePercent Taxa de falhas que abre o circuito
+         * @param slowCallMs Latência a partir da qual a chamada é lenta
+         * @param slowRatePercent Taxa de chamadas lentas que abre o circuito
+         * @param openMs Duração do estado aberto
+         * @param halfOpenCalls Chamadas de teste no estado semiaberto
+         */
+        public Settings(int windowSize, int minCalls, double failureRatePercent, long slowCallMs,
+                        double slowRatePercent, long openMs, int halfOpenCalls) {
+            this.windowSize = windowSize;
+            this.minCalls = minCalls;
+            this.failureRatePercent = failureRatePercent;
+            this.slowCallMs = slowCallMs;
+            this.slowRatePercent = slowRatePercent;
+            this.openMs = openMs;
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+    
+    private final String name;
+    private final Settings settings;
+    private final TransitionListener listener;
+    
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int calls;
+    private int failureCount;
+    private int slowCount;
+    
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    
+    /**
+     * Cria um circuito fechado
+     * 
+     * @param name Identificação do circuito (endpoint normalizado)
+     * @param settings Parâmetros do circuito
+     * @param listener Ouvinte de transições de estado
+     */
+    public CircuitBreaker(String name, Settings settings, TransitionListener listener) {
+        this.name = name;
+        this.settings = settings;
+        this.listener = listener;
+        this.failures = new boolean[settings.windowSize];
+        this.slowCalls = new boolean[settings.windowSize];
+    }
+    
+    /**
+     * Solicita permissão para executar uma chamada
+     * 
+     * @return true se a chamada pode prosseguir; false se deve falhar imediatamente
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntilNanos < 0) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= settings.halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+    
+    /**
+     * Registra o resultado de uma chamada permitida
+     * 
+     * @param failed true para exceções e respostas 5XX
+     * @param latencyMs Duração da chamada em milissegundos
+     */
+    public synchronized void onResult(boolean failed, long latencyMs) {
+        boolean slow = latencyMs >= settings.slowCallMs;
+        switch (state) {
+            case CLOSED:
+                record(failed, slow);
+                if (calls >= settings.minCalls
+                        && (failureCount * 100.0 / calls >= settings.failureRatePercent
+                        || slowCount * 100.0 / calls >= settings.slowRatePercent)) {
+                    transitionTo(State.OPEN);
+                }
+                break;
+            case HALF_OPEN:
+                if (failed || slow) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= settings.halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+                break;
+            default:
+                // resultado tardio de uma chamada iniciada antes da abertura
+                break;
+        }
+    }
+    
+    /**
+     * Devolve a permissão de uma chamada encerrada sem resultado do servidor
+     * 
+     * @implNote Não entra na janela nem conta como chamada de teste bem-sucedida; no
+     * estado semiaberto a vaga volta a ficar disponível para outra chamada de teste
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > halfOpenSuccesses) {
+            halfOpenPermits--;
+        }
+    }
+    
+    /**
+     * Obtém o tempo restante até a próxima chamada de teste
+     * 
+     * @return Milissegundos até o fim do estado aberto, ou 0 nos demais estados
+     */
+    public synchronized long getRemainingOpenMs() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - System.nanoTime()));
+    }
+    
+    public synchronized State getState() {
+        return state;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Obtém a taxa de falhas da janela atual
+     * 
+     * @return Percentual de falhas, ou 0 quando a janela está vazia
+     */
+    public synchronized double getFailureRatePercent() {
+        return calls == 0 ? 0 : failureCount * 100.0 / calls;
+    }
+    
+    private void record(boolean failed, boolean slow) {
+        if (calls == settings.windowSize) {
+            if (failures[next]) {
+                failureCount--;
+            }
+            if (slowCalls[next]) {
+                slowCount--;
+            }
+        } else {
+            calls++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        if (failed) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        next = (next + 1) % settings.windowSize;
+    }
+    
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        if (target == State.OPEN) {
+            openUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.openMs);
+        } else if (target == State.HALF_OPEN) {
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        } else {
+            next = 0;
+            calls = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+        listener.onTransition(this, previous, target);
+    }
+}
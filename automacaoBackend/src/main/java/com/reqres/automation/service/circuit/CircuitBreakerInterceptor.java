@@ -0,0 +1,105 @@
+package com.reqres.automation.service.circuit;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.service.interceptor.ApiInterceptor;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import com.reqres.automation.service.transport.RequestUris;
+import com.reqres.automation.util.ReportManager;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker por endpoint para as chamadas do {@code IApiService}
+ * 
+ * @implNote Cada endpoint normalizado ({@code /users}, {@code /users/{id}},
+ * {@code /login}) tem seu próprio {@link CircuitBreaker}, de modo que a degradação
+ * de um endpoint não bloqueia os demais. Com o circuito aberto a chamada falha
+ * imediatamente com {@link CircuitOpenException}, sem aguardar timeouts
+ * 
+ * @implSpec São falhas as exceções e as respostas 5XX; respostas 4XX são
+ * resultados válidos do contrato e não afetam o circuito. Uma chamada interrompida
+ * pelo prazo do chamador ({@link DeadlineExceededException}) não é contabilizada:
+ * a permissão é devolvida sem resultado, de modo que um teste sem orçamento não
+ * fecha um circuito semiaberto sem resposta do servidor. As transições de estado
+ * são registradas como passos no relatório Allure
+ */
+@Component
+@Order(ApiInterceptor.ORDER_CIRCUIT_BREAKER)
+public class CircuitBreakerInterceptor implements ApiInterceptor {
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        if (!apiConfig.isCircuitEnabled()) {
+            return chain.proceed(request);
+        }
+        
+        CircuitBreaker breaker = breakers.computeIfAbsent(
+                RequestUris.endpointKey(request.getEndpoint()), this::createBreaker);
+        if (!breaker.tryAcquirePermission()) {
+            throw new CircuitOpenException(breaker.getName(), breaker.getRemainingOpenMs());
+        }
+        
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(request);
+            breaker.onResult(response.getStatusCode() >= 500, elapsedMs(start));
+            return response;
+        } catch (DeadlineExceededException e) {
+            breaker.releasePermission();
+            throw e;
+        } catch (Exception e) {
+            breaker.onResult(true, elapsedMs(start));
+            throw e;
+        }
+    }
+    
+    /**
+     * Obtém o estado atual do circuito de cada endpoint já chamado
+     * 
+     * @return Mapa ordenado de endpoint normalizado para o estado do circuito
+     */
+    public Map<String, CircuitBreaker.State> getStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((endpoint, breaker) -> states.put(endpoint, breaker.getState()));
+        return Collections.unmodifiableMap(states);
+    }
+    
+    /**
+     * Descarta todos os circuitos, voltando ao estado fechado
+     */
+    public void reset() {
+        breakers.clear();
+    }
+    
+    private CircuitBreaker createBreaker(String endpoint) {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                apiConfig.getCircuitWindowSize(),
+                apiConfig.getCircuitMinCalls(),
+                apiConfig.getCircuitFailureRatePercent(),
+                apiConfig.getCircuitSlowCallMs(),
+                apiConfig.getCircuitSlowRatePercent(),
+                apiConfig.getCircuitOpenMs(),
+                apiConfig.getCircuitHalfOpenCalls());
+        return new CircuitBreaker(endpoint, settings, (breaker, from, to) ->
+                ReportManager.logStateTransition("Circuit breaker", breaker.getName(), from.name(), to.name()));
+    }
+    
+    private long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
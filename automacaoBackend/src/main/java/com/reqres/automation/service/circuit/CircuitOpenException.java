@@ -0,0 +1,34 @@
+package com.reqres.automation.service.circuit;
+
+/**
+ * Exceção lançada quando uma chamada é recusada por um circuito aberto
+ * 
+ * @implNote Não é uma falha de I/O, portanto não é repetida pela política de retry:
+ * enquanto o circuito está aberto, as chamadas ao endpoint falham imediatamente
+ */
+public class CircuitOpenException extends RuntimeException {
+    
+    private final String endpoint;
+    private final long retryInMs;
+    
+    /**
+     * Cria a exceção para um endpoint com circuito aberto
+     * 
+     * @param endpoint Endpoint normalizado cujo circuito está aberto
+     * @param retryInMs Tempo restante, em milissegundos, até a próxima chamada de teste
+     */
+    public CircuitOpenException(String endpoint, long retryInMs) {
+        super("Circuito aberto para " + endpoint + ": chamada recusada sem acesso à rede (nova tentativa em "
+                + retryInMs + " ms)");
+        this.endpoint = endpoint;
+        this.retryInMs = retryInMs;
+    }
+    
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public long getRetryInMs() {
+        return retryInMs;
+    }
+}
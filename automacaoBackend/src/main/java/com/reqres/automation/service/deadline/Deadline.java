@@ -0,0 +1,86 @@
+package com.reqres.automation.service.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instante limite para a conclusão de um conjunto de chamadas, como um caso de teste
+ * 
+ * @implNote Implementa o padrão de design Value Object sobre o relógio monotônico
+ * ({@link System#nanoTime()}), imune a ajustes do relógio do sistema. O mesmo prazo
+ * é compartilhado por todas as chamadas feitas dentro dele, de modo que cada uma
+ * recebe como timeout apenas o tempo que ainda resta
+ */
+public final class Deadline {
+    
+    private final String name;
+    private final long budgetMs;
+    private final long expiresAtNanos;
+    
+    private Deadline(String name, long budgetMs) {
+        this.name = name;
+        this.budgetMs = budgetMs;
+        this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    }
+    
+    /**
+     * Cria um prazo que expira após o orçamento informado, a partir de agora
+     * 
+     * @param name Identificação do dono do prazo, exibida nas mensagens de erro
+     * @param budgetMs Orçamento total em milissegundos
+     * @return Novo prazo
+     */
+    public static Deadline after(String name, long budgetMs) {
+        if (budgetMs <= 0) {
+            throw new IllegalArgumentException("O orçamento do prazo deve ser maior que zero: " + budgetMs);
+        }
+        return new Deadline(name, budgetMs);
+    }
+    
+    /**
+     * Obtém o tempo restante até o prazo
+     * 
+     * @return Milissegundos restantes, zero ou negativo quando expirado
+     */
+    public long remainingMs() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+    
+    /**
+     * Indica se o prazo já expirou
+     * 
+     * @return true quando não resta tempo
+     */
+    public boolean isExpired() {
+        return remainingMs() <= 0;
+    }
+    
+    /**
+     * Limita o timeout de uma chamada ao tempo restante do prazo
+     * 
+     * @param timeoutMs Timeout configurado para a chamada, ou zero quando não houver
+     * @param operation Descrição da chamada, usada na mensagem de erro
+     * @return Menor valor entre o timeout configurado e o tempo restante
+     * @throws DeadlineExceededException se o prazo já expirou
+     */
+    public int boundTimeout(int timeoutMs, String operation) {
+        long remaining = remainingMs();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException(this, operation);
+        }
+        int bounded = (int) Math.min(remaining, Integer.MAX_VALUE);
+        return timeoutMs > 0 ? Math.min(timeoutMs, bounded) : bounded;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+    
+    @Override
+    public String toString() {
+        return name + " (" + budgetMs + " ms, restam " + Math.max(0, remainingMs()) + " ms)";
+    }
+}
@@ -0,0 +1,74 @@
+package com.reqres.automation.service.deadline;
+
+import java.util.function.Supplier;
+
+/**
+ * Prazo vigente na thread corrente
+ * 
+ * @implNote Quem define o prazo (por exemplo, a extensão JUnit dos testes) o publica
+ * aqui antes de executar o bloco e o remove ao final; o {@code DeadlineInterceptor}
+ * o captura na {@code ApiRequest}, de modo que ele acompanha a chamada mesmo quando
+ * tentativas são executadas em outras threads (hedging)
+ * 
+ * @implSpec Segue o padrão de design Utility Class com construtor privado
+ */
+public class DeadlineContext {
+    
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    
+    private DeadlineContext() {
+    }
+    
+    /**
+     * Define o prazo da thread corrente
+     * 
+     * @param deadline Prazo a ser aplicado às chamadas seguintes
+     */
+    public static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+    
+    /**
+     * Obtém o prazo da thread corrente
+     * 
+     * @return Prazo vigente ou null quando não definido
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Remove o prazo da thread corrente
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+    
+    /**
+     * Executa uma tarefa com o prazo informado, restaurando ao final o prazo anterior da thread
+     * 
+     * @param deadline Prazo capturado na thread que submeteu a tarefa, ou null para nenhum
+     * @param task Tarefa a ser executada
+     * @param <T> Tipo do resultado
+     * @return Resultado da tarefa
+     * @apiNote Destinado a tarefas executadas em threads de pool, que não herdam o
+     * prazo de quem as submeteu
+     */
+    public static <T> T callWith(Deadline deadline, Supplier<T> task) {
+        Deadline previous = CURRENT.get();
+        if (deadline != null) {
+            CURRENT.set(deadline);
+        } else {
+            CURRENT.remove();
+        }
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
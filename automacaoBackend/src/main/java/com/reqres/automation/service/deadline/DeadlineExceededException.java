@@ -0,0 +1,48 @@
+package com.reqres.automation.service.deadline;
+
+/**
+ * Exceção lançada quando uma chamada é iniciada ou repetida após o prazo do teste
+ * 
+ * @implNote Não é uma falha de I/O, portanto não é repetida pela política de retry
+ * nem contabilizada como falha do endpoint pelo circuit breaker: o orçamento
+ * esgotado é do chamador, não do servidor
+ */
+public class DeadlineExceededException extends RuntimeException {
+    
+    private final String deadlineName;
+    private final long budgetMs;
+    
+    /**
+     * Cria a exceção para uma chamada recusada por prazo expirado
+     * 
+     * @param deadline Prazo expirado
+     * @param operation Chamada recusada, por exemplo "GET /users/2"
+     */
+    public DeadlineExceededException(Deadline deadline, String operation) {
+        super("Prazo de " + deadline.getBudgetMs() + " ms de " + deadline.getName()
+                + " esgotado: chamada " + operation + " não enviada");
+        this.deadlineName = deadline.getName();
+        this.budgetMs = deadline.getBudgetMs();
+    }
+    
+    /**
+     * Cria a exceção para um bloco de execução que terminou após o prazo
+     * 
+     * @param deadline Prazo expirado
+     * @param elapsedMs Duração efetiva do bloco em milissegundos
+     */
+    public DeadlineExceededException(Deadline deadline, long elapsedMs) {
+        super(deadline.getName() + " excedeu o prazo de " + deadline.getBudgetMs() + " ms (durou "
+                + elapsedMs + " ms)");
+        this.deadlineName = deadline.getName();
+        this.budgetMs = deadline.getBudgetMs();
+    }
+    
+    public String getDeadlineName() {
+        return deadlineName;
+    }
+    
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+}
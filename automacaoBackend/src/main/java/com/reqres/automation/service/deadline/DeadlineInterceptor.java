@@ -0,0 +1,41 @@
+package com.reqres.automation.service.deadline;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.interceptor.ApiInterceptor;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propaga o prazo da thread corrente para a chamada de API
+ *
+ * @implNote É o interceptor mais externo: recusa imediatamente chamadas iniciadas
+ * após o prazo e anexa o {@link Deadline} à {@link ApiRequest}. O
+ * {@code BaseApiService} limita o timeout de leitura de cada envio ao tempo restante
+ * e o {@code RetryInterceptor} não agenda repetições que terminariam após o prazo
+ *
+ * @apiNote Sem prazo na thread (fora dos testes ou com {@code api.deadline.enabled=false})
+ * a chamada segue apenas com o timeout do endpoint
+ */
+@Component
+@Order(ApiInterceptor.ORDER_DEADLINE)
+public class DeadlineInterceptor implements ApiInterceptor {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        Deadline deadline = DeadlineContext.current();
+        if (!apiConfig.isDeadlineEnabled() || deadline == null) {
+            return chain.proceed(request);
+        }
+        if (deadline.isExpired()) {
+            throw new DeadlineExceededException(deadline, request.toString());
+        }
+        return chain.proceed(request.withDeadline(deadline));
+    }
+}
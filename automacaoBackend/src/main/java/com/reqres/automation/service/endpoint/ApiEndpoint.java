@@ -0,0 +1,55 @@
+package com.reqres.automation.service.endpoint;
+
+import com.reqres.automation.config.ApiConfig;
+
+import java.util.function.Function;
+
+/**
+ * Endpoints conhecidos da API, com seus templates de URI
+ *
+ * @implNote Os templates são montados a partir dos paths base do {@link ApiConfig}
+ * e processados uma única vez pelo {@link EndpointRegistry}. Endpoints que
+ * compartilham o mesmo path (como a listagem paginada e a criação de usuários)
+ * compartilham também o nome de política
+ */
+public enum ApiEndpoint {
+
+    /** Coleção de usuários, usada na criação ({@code POST /users}) */
+    USERS("users", config -> config.getUsersEndpoint()),
+
+    /** Listagem paginada de usuários */
+    USER_PAGE("users", config -> config.getUsersEndpoint() + "?page={page}"),
+
+    /** Usuário individual */
+    USER("user", config -> config.getUsersEndpoint() + "/{id}"),
+
+    /** Autenticação por email e senha */
+    LOGIN("login", config -> config.getLoginEndpoint());
+
+    private final String policyName;
+    private final Function<ApiConfig, String> template;
+
+    ApiEndpoint(String policyName, Function<ApiConfig, String> template) {
+        this.policyName = policyName;
+        this.template = template;
+    }
+
+    /**
+     * Obtém o nome usado nas propriedades {@code api.endpoint.<nome>.*}
+     *
+     * @return Nome da política do endpoint
+     */
+    public String getPolicyName() {
+        return policyName;
+    }
+
+    /**
+     * Monta o template de URI a partir da configuração
+     *
+     * @param config Configuração da API
+     * @return Template com variáveis entre chaves
+     */
+    String template(ApiConfig config) {
+        return template.apply(config);
+    }
+}
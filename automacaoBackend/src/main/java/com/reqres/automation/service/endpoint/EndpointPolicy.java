@@ -0,0 +1,86 @@
+package com.reqres.automation.service.endpoint;
+
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.util.TokenBucket;
+
+/**
+ * Políticas de execução de um endpoint: timeout, orçamento de taxa e cacheabilidade
+ *
+ * @implNote As configurações são imutáveis; o único estado é o {@link TokenBucket}
+ * do endpoint, compartilhado por todas as threads que o acessam
+ *
+ * @apiNote Valores zero desativam o respectivo limite: timeout zero mantém o
+ * timeout de leitura do cliente HTTP e taxa zero não restringe as chamadas
+ */
+public final class EndpointPolicy {
+
+    /** Política sem limites, aplicada a endpoints fora do registro */
+    public static final EndpointPolicy UNRESTRICTED = new EndpointPolicy("default", 0, 0, true);
+
+    private final String name;
+    private final int timeoutMs;
+    private final double ratePerSecond;
+    private final boolean cacheable;
+    private final TokenBucket rateLimiter;
+
+    /**
+     * Cria a política de um endpoint
+     *
+     * @param name Nome do endpoint nas propriedades {@code api.endpoint.<nome>.*}
+     * @param timeoutMs Timeout de leitura por requisição em milissegundos (0 = padrão do cliente)
+     * @param ratePerSecond Requisições por segundo permitidas (0 = sem limite)
+     * @param cacheable Indica se respostas GET podem ser servidas pelo cache local
+     */
+    public EndpointPolicy(String name, int timeoutMs, double ratePerSecond, boolean cacheable) {
+        this.name = name;
+        this.timeoutMs = Math.max(0, timeoutMs);
+        this.ratePerSecond = Math.max(0, ratePerSecond);
+        this.cacheable = cacheable;
+        this.rateLimiter = ratePerSecond > 0 ? new TokenBucket(ratePerSecond, Math.max(1, ratePerSecond)) : null;
+    }
+
+    /**
+     * Aguarda uma vaga no orçamento de taxa do endpoint, sem ultrapassar o prazo do chamador
+     *
+     * @param deadline Prazo da chamada, ou null para aguardar sem limite
+     * @param operation Descrição da chamada, usada na mensagem de erro
+     * @return Tempo aguardado em milissegundos, zero quando não há limite
+     * @throws DeadlineExceededException se a vaga só seria liberada após o prazo
+     */
+    public long acquirePermit(Deadline deadline, String operation) {
+        if (rateLimiter == null) {
+            return 0;
+        }
+        if (deadline == null) {
+            return rateLimiter.acquire();
+        }
+        long waited = rateLimiter.acquire(deadline.remainingMs());
+        if (waited == TokenBucket.NOT_ACQUIRED) {
+            throw new DeadlineExceededException(deadline, operation + " (limite de taxa do endpoint " + name + ")");
+        }
+        return waited;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (timeout " + timeoutMs + " ms, " + ratePerSecond + " req/s, "
+                + (cacheable ? "cacheável" : "não cacheável") + ")";
+    }
+}
@@ -0,0 +1,137 @@
+package com.reqres.automation.service.endpoint;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.transport.RequestUris;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro tipado dos endpoints da API e de suas políticas de execução
+ *
+ * @implNote Implementa o padrão de design Registry: os templates de {@link ApiEndpoint}
+ * são processados uma única vez na inicialização e os serviços expandem as URIs
+ * com {@link #expand(ApiEndpoint, Object...)}, sem concatenações por chamada
+ *
+ * @implSpec Cada política é lida das propriedades {@code api.endpoint.<nome>.timeout.ms},
+ * {@code .rate.per.second} e {@code .cacheable}, recaindo nos valores padrão
+ * {@code api.endpoint.*} do {@link ApiConfig}. O {@code BaseApiService} localiza a
+ * política de cada chamada pelo endpoint recebido: as URIs geradas por
+ * {@link #expand(ApiEndpoint, Object...)} já são associadas à política do seu endpoint,
+ * e apenas endpoints em texto recaem no path normalizado
+ * ({@link RequestUris#endpointKey(String)}), calculado uma única vez por endpoint
+ */
+@Component
+public class EndpointRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(EndpointRegistry.class);
+
+    /** Limite de endpoints distintos memorizados, para que ids variados não façam o mapa crescer sem fim */
+    private static final int MAX_RESOLVED_ENDPOINTS = 1024;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<ApiEndpoint, UriTemplate> templates = new EnumMap<>(ApiEndpoint.class);
+    private final Map<ApiEndpoint, EndpointPolicy> policies = new EnumMap<>(ApiEndpoint.class);
+    private final Map<String, EndpointPolicy> policiesByKey = new HashMap<>();
+    private final Map<String, EndpointPolicy> policiesByEndpoint = new ConcurrentHashMap<>();
+
+    private EndpointPolicy defaultPolicy;
+
+    /**
+     * Processa os templates e carrega as políticas de todos os endpoints
+     */
+    @PostConstruct
+    public void init() {
+        defaultPolicy = new EndpointPolicy("default", apiConfig.getEndpointTimeoutMs(),
+                apiConfig.getEndpointRatePerSecond(), apiConfig.isEndpointCacheable());
+
+        Map<String, EndpointPolicy> byName = new HashMap<>();
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            UriTemplate template = UriTemplate.parse(endpoint.template(apiConfig));
+            EndpointPolicy policy = byName.computeIfAbsent(endpoint.getPolicyName(), this::loadPolicy);
+            templates.put(endpoint, template);
+            policies.put(endpoint, policy);
+            policiesByKey.putIfAbsent(template.getKey(), policy);
+        }
+        logger.debug("Endpoints registrados: {}", policies);
+    }
+
+    /**
+     * Expande a URI de um endpoint
+     *
+     * @param endpoint Endpoint registrado
+     * @param values Valores das variáveis do template, na ordem em que aparecem
+     * @return Path relativo pronto para o {@code IApiService}
+     * @implNote O path gerado é associado à política do endpoint, dispensando a
+     * normalização em {@link #policyFor(String)}
+     */
+    public String expand(ApiEndpoint endpoint, Object... values) {
+        String uri = templates.get(endpoint).expand(values);
+        remember(uri, policies.get(endpoint));
+        return uri;
+    }
+
+    /**
+     * Obtém o template processado de um endpoint
+     *
+     * @param endpoint Endpoint registrado
+     * @return Template de URI
+     */
+    public UriTemplate template(ApiEndpoint endpoint) {
+        return templates.get(endpoint);
+    }
+
+    /**
+     * Obtém a política de um endpoint registrado
+     *
+     * @param endpoint Endpoint registrado
+     * @return Política configurada para o endpoint
+     */
+    public EndpointPolicy policy(ApiEndpoint endpoint) {
+        return policies.get(endpoint);
+    }
+
+    /**
+     * Localiza a política aplicável a um path ou URL
+     *
+     * @param endpoint Path relativo ou URL absoluta da chamada
+     * @return Política do endpoint correspondente ou a política padrão
+     * @implNote A expressão regular de {@link RequestUris#endpointKey(String)} só é
+     * aplicada na primeira chamada com um endpoint em texto ainda não memorizado
+     */
+    public EndpointPolicy policyFor(String endpoint) {
+        EndpointPolicy policy = policiesByEndpoint.get(endpoint);
+        if (policy == null) {
+            policy = policiesByKey.getOrDefault(RequestUris.endpointKey(endpoint), defaultPolicy);
+            remember(endpoint, policy);
+        }
+        return policy;
+    }
+
+    private void remember(String endpoint, EndpointPolicy policy) {
+        if (policiesByEndpoint.size() < MAX_RESOLVED_ENDPOINTS) {
+            policiesByEndpoint.putIfAbsent(endpoint, policy);
+        }
+    }
+
+    private EndpointPolicy loadPolicy(String name) {
+        String prefix = "api.endpoint." + name + ".";
+        return new EndpointPolicy(name,
+                environment.getProperty(prefix + "timeout.ms", Integer.class, defaultPolicy.getTimeoutMs()),
+                environment.getProperty(prefix + "rate.per.second", Double.class, defaultPolicy.getRatePerSecond()),
+                environment.getProperty(prefix + "cacheable", Boolean.class, defaultPolicy.isCacheable()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.reqres.automation.service.endpoint;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Template de URI pré-processado, como {@code /users/{id}} ou {@code /users?page={page}}
+ *
+ * @implNote O template é decomposto uma única vez em trechos literais e variáveis;
+ * a expansão apenas intercala os trechos com os valores em um {@link StringBuilder}
+ * já dimensionado, sem expressões regulares nem concatenações intermediárias
+ *
+ * @implSpec Imutável e thread-safe. Os valores são codificados como componentes
+ * de URI (percent-encoding UTF-8) somente quando contêm caracteres reservados
+ */
+public final class UriTemplate {
+
+    /** Espaço reservado por variável no dimensionamento do buffer de expansão */
+    private static final int VALUE_CAPACITY = 8;
+
+    private final String template;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+    private final String key;
+
+    private UriTemplate(String template, String[] literals, String[] variables) {
+        this.template = template;
+        this.literals = literals;
+        this.variables = variables;
+        this.literalLength = Arrays.stream(literals).mapToInt(String::length).sum();
+        this.key = buildKey();
+    }
+
+    /**
+     * Processa um template de URI
+     *
+     * @param template Path com variáveis entre chaves, opcionalmente com query
+     * @return Template pronto para expansão
+     * @throws IllegalArgumentException se houver chaves sem fechamento ou variáveis sem nome
+     */
+    public static UriTemplate parse(String template) {
+        String source = template.trim();
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf('{', position)) >= 0) {
+            int close = source.indexOf('}', open);
+            if (close < 0 || close == open + 1) {
+                throw new IllegalArgumentException("Template de URI inválido: " + template);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(source.substring(open + 1, close));
+            position = close + 1;
+        }
+        literals.add(source.substring(position));
+        return new UriTemplate(source, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * Expande o template com os valores informados, na ordem das variáveis
+     *
+     * @param values Um valor por variável do template
+     * @return URI expandida
+     * @throws IllegalArgumentException se a quantidade de valores não corresponder às variáveis
+     */
+    public String expand(Object... values) {
+        if (values.length != variables.length) {
+            throw new IllegalArgumentException("O template " + template + " espera " + variables.length
+                    + " valores, recebidos " + values.length);
+        }
+        if (variables.length == 0) {
+            return template;
+        }
+
+        StringBuilder uri = new StringBuilder(literalLength + VALUE_CAPACITY * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            uri.append(literals[i]);
+            appendValue(uri, variables[i], values[i]);
+        }
+        return uri.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * Obtém o path normalizado do template, no mesmo formato de
+     * {@link com.reqres.automation.service.transport.RequestUris#endpointKey(String)}
+     *
+     * @return Path sem query e com as variáveis substituídas por {@code {id}}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public List<String> getVariables() {
+        return Collections.unmodifiableList(Arrays.asList(variables));
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private String buildKey() {
+        StringBuilder path = new StringBuilder(literalLength + VALUE_CAPACITY * variables.length);
+        for (int i = 0; i < literals.length; i++) {
+            path.append(literals[i]);
+            if (i < variables.length) {
+                path.append("{id}");
+            }
+        }
+        int query = path.indexOf("?");
+        return query >= 0 ? path.substring(0, query) : path.toString();
+    }
+
+    private static void appendValue(StringBuilder uri, String variable, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Valor ausente para a variável {" + variable + "}");
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            if (!isUnreserved(text.charAt(i))) {
+                uri.append(URLEncoder.encode(text, StandardCharsets.UTF_8).replace("+", "%20"));
+                return;
+            }
+        }
+        uri.append(text);
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
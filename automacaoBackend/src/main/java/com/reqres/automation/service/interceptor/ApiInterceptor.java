@@ -0,0 +1,51 @@
+package com.reqres.automation.service.interceptor;
+
+import io.restassured.response.Response;
+
+/**
+ * Ponto de extensão para comportamentos transversais das chamadas de API
+ * 
+ * @implNote Implementa o padrão de design Chain of Responsibility: o
+ * {@code BaseApiService} executa todos os beans deste tipo na ordem definida por
+ * {@link org.springframework.core.annotation.Order}, antes de chegar ao transporte
+ * HTTP. Isso permite adicionar cache, validação condicional e outras políticas
+ * sem modificar o serviço nem os consumidores do {@code IApiService}
+ * 
+ * @implSpec Ordens menores executam primeiro (mais externas). As constantes abaixo
+ * documentam a posição de cada interceptor da aplicação
+ */
+public interface ApiInterceptor {
+    
+    /** Propagação do prazo do teste, a mais externa de todas */
+    int ORDER_DEADLINE = 100;
+    
+    /** Cache local de respostas GET, antes de qualquer acesso à rede */
+    int ORDER_CACHE = 200;
+    
+    /** Gravação e reprodução de cassetes, após o cache e antes das políticas de rede */
+    int ORDER_CASSETTE = 300;
+    
+    /** Repetição de falhas transitórias, envolvendo as proteções de rede internas */
+    int ORDER_RETRY = 400;
+    
+    /** Circuit breaker por endpoint, dentro do retry para que cada tentativa seja avaliada */
+    int ORDER_CIRCUIT_BREAKER = 500;
+    
+    /** Requisição duplicada para chamadas GET lentas, com cada tentativa passando pelas etapas internas */
+    int ORDER_HEDGING = 800;
+    
+    /** Requisições condicionais com ETag/Last-Modified, imediatamente antes do transporte */
+    int ORDER_CONDITIONAL = 900;
+    
+    /** Compressão dos corpos e contagem de bytes, a mais interna de todas */
+    int ORDER_COMPRESSION = 950;
+    
+    /**
+     * Processa a requisição, delegando ou não ao restante da cadeia
+     * 
+     * @param request Requisição atual
+     * @param chain Restante da cadeia de execução
+     * @return Resposta HTTP a ser entregue ao chamador
+     */
+    Response intercept(ApiRequest request, ApiInterceptorChain chain);
+}
@@ -0,0 +1,21 @@
+package com.reqres.automation.service.interceptor;
+
+import io.restassured.response.Response;
+
+/**
+ * Restante da cadeia de execução de uma chamada de API
+ * 
+ * @implNote Cada interceptor recebe a cadeia e decide se a chamada prossegue,
+ * quantas vezes prossegue (retry, hedging) ou se é respondida localmente (cache)
+ */
+@FunctionalInterface
+public interface ApiInterceptorChain {
+    
+    /**
+     * Repassa a requisição ao próximo interceptor ou, ao final da cadeia, ao transporte HTTP
+     * 
+     * @param request Requisição a ser enviada, possivelmente alterada pelo interceptor atual
+     * @return Resposta HTTP produzida pelo restante da cadeia
+     */
+    Response proceed(ApiRequest request);
+}
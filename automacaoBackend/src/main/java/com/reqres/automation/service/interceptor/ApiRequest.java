@@ -0,0 +1,229 @@
+package com.reqres.automation.service.interceptor;
+
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.endpoint.EndpointPolicy;
+import com.reqres.automation.service.transport.RequestUris;
+import io.restassured.http.Header;
+import io.restassured.http.Method;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Representação imutável de uma chamada feita através do {@code IApiService}
+ * 
+ * @implNote Implementa o padrão de design Value Object: interceptores que precisam
+ * alterar a requisição (por exemplo, adicionando headers condicionais) criam uma
+ * nova instância com {@link #withHeader(String, String)}, sem modificar a
+ * especificação original compartilhada entre os testes
+ * 
+ * @implSpec Os headers adicionados pelos interceptores são aplicados sobre a
+ * especificação original somente no momento do envio, em {@link #toSpec()}
+ * 
+ * @apiNote A {@link EndpointPolicy} do endpoint acompanha a requisição, permitindo
+ * que interceptores e transporte apliquem cacheabilidade, taxa e timeout próprios;
+ * o {@link Deadline} do chamador, quando houver, limita esse timeout ao tempo restante
+ */
+public final class ApiRequest {
+    
+    private final Method method;
+    private final RequestSpecification spec;
+    private final String endpoint;
+    private final Object payload;
+    private final Map<String, String> extraHeaders;
+    private final EndpointPolicy policy;
+    private final Deadline deadline;
+    
+    private QueryableRequestSpecification queryableSpec;
+    private String url;
+    
+    /**
+     * Cria a representação de uma chamada sem headers adicionais
+     * 
+     * @param method Método HTTP da requisição
+     * @param spec Especificação completa da requisição
+     * @param endpoint Path relativo do endpoint
+     * @param payload Corpo da requisição ou null quando não houver
+     */
+    public ApiRequest(Method method, RequestSpecification spec, String endpoint, Object payload) {
+        this(method, spec, endpoint, payload, EndpointPolicy.UNRESTRICTED);
+    }
+    
+    /**
+     * Cria a representação de uma chamada com a política do endpoint
+     * 
+     * @param method Método HTTP da requisição
+     * @param spec Especificação completa da requisição
+     * @param endpoint Path relativo do endpoint
+     * @param payload Corpo da requisição ou null quando não houver
+     * @param policy Política de timeout, taxa e cacheabilidade do endpoint
+     */
+    public ApiRequest(Method method, RequestSpecification spec, String endpoint, Object payload,
+                      EndpointPolicy policy) {
+        this(method, spec, endpoint, payload, Collections.emptyMap(), policy, null);
+    }
+    
+    private ApiRequest(Method method, RequestSpecification spec, String endpoint, Object payload,
+                       Map<String, String> extraHeaders, EndpointPolicy policy, Deadline deadline) {
+        this.method = method;
+        this.spec = spec;
+        this.endpoint = endpoint;
+        this.payload = payload;
+        this.extraHeaders = extraHeaders;
+        this.policy = policy;
+        this.deadline = deadline;
+    }
+    
+    /**
+     * Cria uma cópia da requisição com um header adicional
+     * 
+     * @param name Nome do header
+     * @param value Valor do header
+     * @return Nova requisição com o header aplicado sobre a especificação original
+     */
+    public ApiRequest withHeader(String name, String value) {
+        Map<String, String> headers = new LinkedHashMap<>(extraHeaders);
+        headers.put(name, value);
+        return new ApiRequest(method, spec, endpoint, payload, Collections.unmodifiableMap(headers), policy, deadline);
+    }
+    
+    /**
+     * Cria uma cópia da requisição com outro corpo
+     * 
+     * @param newPayload Novo corpo da requisição
+     * @return Nova requisição com os mesmos headers e especificação
+     */
+    public ApiRequest withPayload(Object newPayload) {
+        return new ApiRequest(method, spec, endpoint, newPayload, extraHeaders, policy, deadline);
+    }
+    
+    /**
+     * Cria uma cópia da requisição sujeita a um prazo
+     * 
+     * @param newDeadline Prazo do chamador
+     * @return Nova requisição com o mesmo conteúdo e o prazo informado
+     */
+    public ApiRequest withDeadline(Deadline newDeadline) {
+        return new ApiRequest(method, spec, endpoint, payload, extraHeaders, policy, newDeadline);
+    }
+    
+    /**
+     * Obtém o timeout de leitura a ser aplicado no envio
+     * 
+     * @return Timeout do endpoint, limitado ao tempo restante do prazo quando houver
+     * @throws com.reqres.automation.service.deadline.DeadlineExceededException se o prazo já expirou
+     */
+    public int getTimeoutMs() {
+        return deadline != null ? deadline.boundTimeout(policy.getTimeoutMs(), toString()) : policy.getTimeoutMs();
+    }
+    
+    /**
+     * Obtém o valor de um header, considerando os adicionados por interceptores
+     * 
+     * @param name Nome do header (sem diferenciar maiúsculas)
+     * @return Valor do header ou null se ausente
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, String> header : extraHeaders.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        Header header = querySpec().getHeaders().get(name);
+        return header != null ? header.getValue() : null;
+    }
+    
+    /**
+     * Obtém o Content-Type declarado na especificação
+     * 
+     * @return Content-Type da requisição ou null quando não definido
+     */
+    public String getContentType() {
+        String contentType = getHeader("Content-Type");
+        return contentType != null ? contentType : querySpec().getContentType();
+    }
+    
+    /**
+     * Indica se a operação pode ser repetida sem efeitos colaterais adicionais
+     * 
+     * @return true para GET, HEAD, OPTIONS, PUT e DELETE, conforme a RFC 7231
+     */
+    public boolean isIdempotent() {
+        switch (method) {
+            case GET:
+            case HEAD:
+            case OPTIONS:
+            case PUT:
+            case DELETE:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Obtém a URL absoluta da requisição
+     * 
+     * @return URL base, base path e endpoint combinados
+     */
+    public String getUrl() {
+        if (url == null) {
+            url = RequestUris.resolve(querySpec(), endpoint);
+        }
+        return url;
+    }
+    
+    /**
+     * Constrói a especificação efetiva a ser enviada pelo transporte
+     * 
+     * @return Especificação original, acrescida dos headers adicionados por interceptores
+     */
+    public RequestSpecification toSpec() {
+        if (extraHeaders.isEmpty()) {
+            return spec;
+        }
+        return given().spec(spec).headers(extraHeaders);
+    }
+    
+    public Method getMethod() {
+        return method;
+    }
+    
+    public RequestSpecification getSpec() {
+        return spec;
+    }
+    
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public Object getPayload() {
+        return payload;
+    }
+    
+    public EndpointPolicy getPolicy() {
+        return policy;
+    }
+    
+    public Deadline getDeadline() {
+        return deadline;
+    }
+    
+    @Override
+    public String toString() {
+        return method + " " + endpoint;
+    }
+    
+    private QueryableRequestSpecification querySpec() {
+        if (queryableSpec == null) {
+            queryableSpec = SpecificationQuerier.query(spec);
+        }
+        return queryableSpec;
+    }
+}
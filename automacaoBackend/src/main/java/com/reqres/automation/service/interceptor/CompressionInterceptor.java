@@ -0,0 +1,85 @@
+package com.reqres.automation.service.interceptor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.transport.TransferStats;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressão dos corpos de requisição e contabilização dos bytes enviados
+ * 
+ * @implNote Com {@code api.http.compression.request.enabled=true}, corpos com pelo
+ * menos {@link ApiConfig#getRequestCompressionMinBytes()} bytes são serializados,
+ * comprimidos com gzip e enviados com {@code Content-Encoding: gzip}. Corpos menores
+ * seguem sem compressão, pois o cabeçalho gzip não compensaria
+ * 
+ * @implSpec Sendo o interceptor mais interno, cada corpo efetivamente enviado
+ * (inclusive em novas tentativas) é registrado em {@link TransferStats} com os
+ * tamanhos serializado e trafegado. Os bytes das respostas são contados pelos
+ * próprios transportes
+ */
+@Component
+@Order(ApiInterceptor.ORDER_COMPRESSION)
+public class CompressionInterceptor implements ApiInterceptor {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    @Autowired
+    private TransferStats transferStats;
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        String url = request.getUrl();
+        ApiRequest outgoing = request;
+        
+        if (request.getPayload() != null && request.getHeader("Content-Encoding") == null) {
+            byte[] raw = serialize(request.getPayload());
+            if (apiConfig.isRequestCompressionEnabled() && raw.length >= apiConfig.getRequestCompressionMinBytes()) {
+                byte[] compressed = gzip(raw);
+                outgoing = request.withPayload(compressed).withHeader("Content-Encoding", "gzip");
+                transferStats.recordRequest(url, raw.length, compressed.length);
+            } else {
+                transferStats.recordRequest(url, raw.length, raw.length);
+            }
+        }
+        
+        return chain.proceed(outgoing);
+    }
+    
+    private byte[] serialize(Object payload) {
+        if (payload instanceof byte[]) {
+            return (byte[]) payload;
+        }
+        if (payload instanceof String) {
+            return ((String) payload).getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Falha ao serializar o corpo da requisição: " + e.getMessage(), e);
+        }
+    }
+    
+    private byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,136 @@
+package com.reqres.automation.service.interceptor;
+
+import com.reqres.automation.config.ApiConfig;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revalidação de chamadas GET com ETag e Last-Modified
+ * 
+ * @implNote Para cada URL guarda os validadores e o corpo da última resposta 200
+ * e, nas chamadas seguintes, envia {@code If-None-Match}/{@code If-Modified-Since}.
+ * Quando o servidor responde 304, o corpo armazenado é devolvido ao chamador como
+ * uma resposta 200, de forma transparente para os testes e validadores
+ * 
+ * @implSpec Desabilitado por padrão; habilitado com
+ * {@code api.http.conditional.enabled=true}. Requisições que já trazem headers
+ * condicionais definidos pelo teste não são alteradas
+ * 
+ * @apiNote Os bytes economizados correspondem ao tamanho dos corpos não
+ * retransmitidos pelo servidor em respostas 304
+ */
+@Component
+@Order(ApiInterceptor.ORDER_CONDITIONAL)
+public class ConditionalRequestInterceptor implements ApiInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalRequestInterceptor.class);
+    
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    private final Map<String, ResponseSnapshot> validated = new ConcurrentHashMap<>();
+    
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        if (!apiConfig.isConditionalRequestsEnabled() || request.getMethod() != Method.GET
+                || request.getHeader(IF_NONE_MATCH) != null || request.getHeader(IF_MODIFIED_SINCE) != null) {
+            return chain.proceed(request);
+        }
+        
+        String url = request.getUrl();
+        ResponseSnapshot cached = validated.get(url);
+        ApiRequest conditional = request;
+        if (cached != null) {
+            revalidations.incrementAndGet();
+            String etag = cached.getHeaders().getValue(ETAG);
+            String lastModified = cached.getHeaders().getValue(LAST_MODIFIED);
+            if (etag != null) {
+                conditional = conditional.withHeader(IF_NONE_MATCH, etag);
+            }
+            if (lastModified != null) {
+                conditional = conditional.withHeader(IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+        
+        Response response = chain.proceed(conditional);
+        
+        if (response.getStatusCode() == 304 && cached != null) {
+            notModified.incrementAndGet();
+            bytesSaved.addAndGet(cached.getBodySize());
+            return cached.toResponse(cached.getStatusCode(), cached.getStatusLine(),
+                    cached.mergeHeaders(response.getHeaders()));
+        }
+        if (response.getStatusCode() == 200
+                && (response.getHeader(ETAG) != null || response.getHeader(LAST_MODIFIED) != null)) {
+            ResponseSnapshot snapshot = ResponseSnapshot.of(response);
+            validated.put(url, snapshot);
+            return snapshot.toResponse();
+        }
+        validated.remove(url);
+        return response;
+    }
+    
+    /**
+     * Registra o resumo das revalidações ao encerrar o contexto
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (revalidations.get() > 0) {
+            logger.info("Requisições condicionais: {} revalidações, {} respostas 304, {} bytes economizados",
+                    revalidations.get(), notModified.get(), bytesSaved.get());
+        }
+    }
+    
+    /**
+     * Descarta todos os validadores armazenados
+     */
+    public void clear() {
+        validated.clear();
+    }
+    
+    /**
+     * Obtém o número de chamadas GET enviadas com headers condicionais
+     * 
+     * @return Total de revalidações desde a inicialização
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+    
+    /**
+     * Obtém o número de respostas 304 atendidas com o corpo armazenado
+     * 
+     * @return Total de respostas não modificadas
+     */
+    public long getNotModifiedResponses() {
+        return notModified.get();
+    }
+    
+    /**
+     * Obtém o volume de corpo que deixou de ser transferido
+     * 
+     * @return Soma dos tamanhos dos corpos reaproveitados em respostas 304
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+}
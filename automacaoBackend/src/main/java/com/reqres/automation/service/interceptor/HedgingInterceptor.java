@@ -0,0 +1,315 @@
+package com.reqres.automation.service.interceptor;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.transport.RequestCancellation;
+import com.reqres.automation.service.transport.RequestUris;
+import com.reqres.automation.util.LatencyWindow;
+import com.reqres.automation.util.ReportContext;
+import com.reqres.automation.util.ReportManager;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Requisições duplicadas (hedged requests) para reduzir a latência de cauda de chamadas GET
+ * 
+ * @implNote Se a resposta não chega dentro do percentil configurado da latência
+ * recente do endpoint (p95 por padrão), uma segunda requisição idêntica é disparada
+ * e prevalece a primeira resposta obtida. A tentativa perdedora é abortada pelo
+ * {@link RequestCancellation}, que fecha a conexão em uso, e o resultado descartado
+ * 
+ * @implSpec Somente chamadas GET são duplicadas. O atraso só é calculado após
+ * {@link ApiConfig#getHedgeMinSamples()} amostras no endpoint e nunca é inferior a
+ * {@link ApiConfig#getHedgeMinDelayMs()}; o total de duplicatas é limitado a
+ * {@link ApiConfig#getHedgeBudgetPercent()} das chamadas GET, evitando que uma
+ * degradação do servidor seja amplificada pelo próprio cliente
+ * 
+ * @apiNote As tentativas são executadas no executor de I/O compartilhado, sob o
+ * prazo do chamador e em passos do teste que as originou; o resumo da disputa é
+ * registrado na thread do teste
+ */
+@Component
+@Order(ApiInterceptor.ORDER_HEDGING)
+public class HedgingInterceptor implements ApiInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HedgingInterceptor.class);
+    
+    private static final int WINDOW_SIZE = 256;
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    @Autowired
+    @Qualifier("ioExecutor")
+    private ExecutorService ioExecutor;
+    
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        if (!apiConfig.isHedgeEnabled() || request.getMethod() != Method.GET) {
+            return chain.proceed(request);
+        }
+        
+        calls.incrementAndGet();
+        String endpoint = RequestUris.endpointKey(request.getUrl());
+        LatencyWindow window = windows.computeIfAbsent(endpoint, key -> new LatencyWindow(WINDOW_SIZE));
+        
+        if (window.size() < apiConfig.getHedgeMinSamples()) {
+            long start = System.nanoTime();
+            Response response = chain.proceed(request);
+            window.record(elapsedMs(start));
+            return response;
+        }
+        
+        long delayMs = Math.max(apiConfig.getHedgeMinDelayMs(), window.percentile(apiConfig.getHedgePercentile()));
+        Race race = new Race();
+        Attempt primary = race.start(request, chain, window, false);
+        
+        try {
+            CompletableFuture.anyOf(race.winner, primary.done).get(delayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // sem resposta dentro do percentil: segue para a requisição duplicada
+        } catch (InterruptedException e) {
+            race.cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Chamada interrompida: " + request, e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+        
+        if (race.winner.isDone() || primary.done.isDone()) {
+            return await(race);
+        }
+        if (!withinBudget()) {
+            budgetExhausted.incrementAndGet();
+            return await(race);
+        }
+        
+        hedges.incrementAndGet();
+        race.start(request, chain, window, true);
+        Response response = await(race);
+        
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Endpoint", endpoint);
+        metrics.put("Atraso antes da duplicata (ms)", delayMs);
+        metrics.put("Vencedora", race.hedgeWon ? "duplicata" : "original");
+        ReportManager.attachMetrics("Hedging " + request, metrics);
+        return response;
+    }
+    
+    /**
+     * Registra o resumo de hedging ao encerrar o contexto
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (hedges.get() > 0 || budgetExhausted.get() > 0) {
+            logger.info("Hedging: {} chamadas GET, {} duplicadas, {} vencidas pela duplicata, {} canceladas, {} sem orçamento",
+                    calls.get(), hedges.get(), hedgeWins.get(), cancelled.get(), budgetExhausted.get());
+        }
+    }
+    
+    /**
+     * Obtém o número de requisições duplicadas disparadas
+     * 
+     * @return Total de duplicatas desde a inicialização
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+    
+    /**
+     * Obtém o número de chamadas em que a duplicata respondeu primeiro
+     * 
+     * @return Total de vitórias da requisição duplicada
+     */
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+    
+    /**
+     * Obtém o número de tentativas perdedoras abortadas com a requisição em andamento
+     * 
+     * @return Total de cancelamentos efetivos desde a inicialização
+     */
+    public long getCancelled() {
+        return cancelled.get();
+    }
+    
+    private boolean withinBudget() {
+        return (hedges.get() + 1) * 100.0 <= apiConfig.getHedgeBudgetPercent() * calls.get();
+    }
+    
+    /**
+     * Encerra o disparo de tentativas e aguarda o resultado da disputa
+     * 
+     * @param race Disputa com todas as tentativas já iniciadas
+     * @return Primeira resposta obtida
+     * @implNote As tentativas perdedoras são abortadas; apenas as que ainda estavam
+     * com a requisição em andamento entram na contagem de cancelamentos
+     */
+    private Response await(Race race) {
+        race.close();
+        try {
+            Response response = race.winner.join();
+            if (race.hedgeWon) {
+                hedgeWins.incrementAndGet();
+            }
+            cancelled.addAndGet(race.cancelLosers());
+            return response;
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+    
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+    
+    private long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Disputa entre a requisição original e a duplicata
+     * 
+     * @implNote A primeira resposta completa o resultado. Uma falha só é propagada
+     * depois que a disputa é encerrada ({@link #close()}), isto é, quando nenhuma
+     * nova tentativa será iniciada, e todas as tentativas iniciadas falharam
+     * 
+     * @implSpec As tentativas executam no executor de I/O com o prazo e o contexto de
+     * relatório do chamador, cada uma sob o seu {@link RequestCancellation}
+     */
+    private class Race {
+        
+        private final CompletableFuture<Response> winner = new CompletableFuture<>();
+        private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+        private final Deadline deadline = DeadlineContext.current();
+        private final ReportContext reportContext = ReportContext.capture();
+        private final AtomicBoolean decided = new AtomicBoolean();
+        private volatile boolean hedgeWon;
+        private volatile Attempt winnerAttempt;
+        
+        /** Estado das falhas; protegido pelo monitor da disputa */
+        private int failures;
+        private boolean closed;
+        private RuntimeException lastFailure;
+        
+        Attempt start(ApiRequest request, ApiInterceptorChain chain, LatencyWindow window, boolean isHedge) {
+            Attempt attempt = new Attempt();
+            synchronized (this) {
+                attempts.add(attempt);
+            }
+            String stepName = (isHedge ? "Requisição duplicada: " : "Requisição original: ") + request;
+            attempt.task = ioExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    Response response = DeadlineContext.callWith(deadline, () -> reportContext.call(stepName,
+                            () -> attempt.cancellation.run(() -> chain.proceed(request))));
+                    window.record(elapsedMs(start));
+                    if (decided.compareAndSet(false, true)) {
+                        hedgeWon = isHedge;
+                        winnerAttempt = attempt;
+                        winner.complete(response);
+                    }
+                } catch (RuntimeException e) {
+                    fail(e);
+                } finally {
+                    attempt.done.complete(null);
+                }
+            });
+            return attempt;
+        }
+        
+        /**
+         * Indica que nenhuma nova tentativa será iniciada
+         */
+        synchronized void close() {
+            closed = true;
+            if (failures == attempts.size()) {
+                winner.completeExceptionally(lastFailure);
+            }
+        }
+        
+        /**
+         * Aborta as tentativas que não venceram a disputa
+         * 
+         * @return Número de tentativas cuja requisição em andamento foi abortada
+         */
+        int cancelLosers() {
+            int aborted = 0;
+            for (Attempt attempt : attempts) {
+                if (attempt != winnerAttempt && attempt.cancel()) {
+                    aborted++;
+                }
+            }
+            return aborted;
+        }
+        
+        void cancelAll() {
+            attempts.forEach(Attempt::cancel);
+        }
+        
+        private synchronized void fail(RuntimeException failure) {
+            failures++;
+            lastFailure = failure;
+            if (closed && failures == attempts.size()) {
+                winner.completeExceptionally(failure);
+            }
+        }
+    }
+    
+    /**
+     * Tentativa individual da disputa
+     * 
+     * @implNote Cancelar a tarefa apenas impede que uma tentativa ainda na fila comece;
+     * a requisição já enviada é abortada pelo {@link RequestCancellation}, pois a
+     * leitura do socket não responde à interrupção da thread
+     */
+    private static class Attempt {
+        
+        private final RequestCancellation cancellation = new RequestCancellation();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile Future<?> task;
+        
+        boolean cancel() {
+            Future<?> submitted = task;
+            if (submitted != null) {
+                submitted.cancel(false);
+            }
+            return cancellation.cancel();
+        }
+    }
+}
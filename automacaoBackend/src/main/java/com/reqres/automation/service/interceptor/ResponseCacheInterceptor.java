@@ -0,0 +1,289 @@
+package com.reqres.automation.service.interceptor;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.transport.RequestUris;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache local, limitado e thread-safe de respostas a chamadas GET
+ * 
+ * @implNote A chave é composta pela URL completa (URL base, endpoint e parâmetros
+ * de query) e pelos headers que alteram a resposta: {@code Authorization},
+ * {@code X-API-KEY} e {@code Accept}. Apenas respostas 200 são armazenadas
+ * 
+ * @implSpec As entradas expiram após {@link ApiConfig#getResponseCacheTtlMs()} e,
+ * ao atingir {@link ApiConfig#getResponseCacheMaxEntries()}, a menos usada
+ * recentemente é removida (LRU). Chamadas POST, PUT, PATCH e DELETE bem-sucedidas
+ * invalidam as entradas do recurso alterado, conforme {@link #invalidate(String)}
+ * 
+ * @implNote Endpoints cuja {@link com.reqres.automation.service.endpoint.EndpointPolicy}
+ * não é cacheável ({@code api.endpoint.<nome>.cacheable=false}) sempre vão à rede
+ * 
+ * @apiNote Testes que precisam ir à rede podem adicionar o header
+ * {@code Cache-Control: no-cache} (ou {@code no-store}) à especificação; a chamada
+ * ignora o cache e a resposta obtida substitui a entrada existente
+ */
+@Component
+@Order(ApiInterceptor.ORDER_CACHE)
+public class ResponseCacheInterceptor implements ApiInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheInterceptor.class);
+    
+    /** Header usado para ignorar o cache em uma chamada específica */
+    public static final String CACHE_CONTROL = "Cache-Control";
+    
+    /** Headers que fazem parte da chave do cache */
+    private static final List<String> VARY_HEADERS = Arrays.asList("Authorization", "X-API-KEY", "Accept");
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        if (!apiConfig.isResponseCacheEnabled()) {
+            return chain.proceed(request);
+        }
+        if (request.getMethod() != Method.GET) {
+            Response response = chain.proceed(request);
+            if (response.getStatusCode() < 400) {
+                invalidate(request.getUrl());
+            }
+            return response;
+        }
+        
+        if (!request.getPolicy().isCacheable()) {
+            return chain.proceed(request);
+        }
+        
+        CacheKey key = CacheKey.of(request);
+        if (isBypass(request)) {
+            bypasses.incrementAndGet();
+        } else {
+            ResponseSnapshot cached = lookup(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached.toResponse();
+            }
+            misses.incrementAndGet();
+        }
+        
+        Response response = chain.proceed(request);
+        if (response.getStatusCode() != 200) {
+            return response;
+        }
+        ResponseSnapshot snapshot = ResponseSnapshot.of(response);
+        store(key, snapshot);
+        return snapshot.toResponse();
+    }
+    
+    /**
+     * Registra o resumo de uso do cache ao encerrar o contexto
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (hits.get() + misses.get() > 0) {
+            logger.info("Cache de respostas: {} acertos, {} falhas, {} ignoradas, {} removidas por LRU, {} expiradas",
+                    hits.get(), misses.get(), bypasses.get(), evictions.get(), expirations.get());
+        }
+    }
+    
+    /**
+     * Descarta todas as entradas do cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+    
+    /**
+     * Descarta as entradas afetadas por uma escrita, independentemente dos headers e da query
+     * 
+     * @param url URL completa ou path da requisição de escrita
+     * @implNote São descartadas as entradas do mesmo endpoint ({@link RequestUris#endpointKey}),
+     * as do próprio recurso e dos recursos abaixo dele, e as das coleções acima dele:
+     * um {@code PUT /api/users/2} invalida {@code /api/users/2}, {@code /api/users/7}
+     * e {@code /api/users?page=1}, e um {@code POST /api/users} invalida todas as
+     * páginas de {@code /api/users} e os usuários individuais
+     */
+    public synchronized void invalidate(String url) {
+        String path = RequestUris.path(url);
+        String endpointKey = RequestUris.endpointKey(path);
+        entries.keySet().removeIf(key -> key.endpointKey.equals(endpointKey)
+                || isWithin(key.path, path) || isWithin(path, key.path));
+    }
+    
+    /**
+     * Obtém o número de entradas atualmente em cache
+     * 
+     * @return Quantidade de respostas armazenadas, incluindo as ainda não expurgadas por expiração
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Obtém o número de chamadas atendidas pelo cache
+     * 
+     * @return Total de acertos desde a inicialização
+     */
+    public long getHits() {
+        return hits.get();
+    }
+    
+    /**
+     * Obtém o número de chamadas que precisaram ir à rede
+     * 
+     * @return Total de falhas desde a inicialização, sem contar as chamadas ignoradas
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+    
+    /**
+     * Obtém a taxa de acerto do cache
+     * 
+     * @return Proporção entre acertos e consultas, ou 0 quando não houve consultas
+     */
+    public double getHitRatio() {
+        long lookups = hits.get() + misses.get();
+        return lookups == 0 ? 0 : (double) hits.get() / lookups;
+    }
+    
+    /**
+     * Obtém o número de entradas removidas por limite de tamanho
+     * 
+     * @return Total de remoções LRU desde a inicialização
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+    
+    /**
+     * Verifica se um path está no mesmo recurso ou abaixo de outro
+     * 
+     * @param path Path avaliado
+     * @param resource Path do recurso
+     * @return true para o próprio recurso ou um path a partir de {@code resource + "/"}
+     */
+    private static boolean isWithin(String path, String resource) {
+        return path.equals(resource) || path.startsWith(resource.endsWith("/") ? resource : resource + "/");
+    }
+    
+    private boolean isBypass(ApiRequest request) {
+        String cacheControl = request.getHeader(CACHE_CONTROL);
+        if (cacheControl == null) {
+            return false;
+        }
+        String directives = cacheControl.toLowerCase();
+        return directives.contains("no-cache") || directives.contains("no-store");
+    }
+    
+    private synchronized ResponseSnapshot lookup(CacheKey key) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            entries.remove(key);
+            expirations.incrementAndGet();
+            return null;
+        }
+        return entry.snapshot;
+    }
+    
+    private synchronized void store(CacheKey key, ResponseSnapshot snapshot) {
+        long expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(apiConfig.getResponseCacheTtlMs());
+        entries.put(key, new CacheEntry(snapshot, expiresAt));
+        
+        Iterator<CacheEntry> eldest = entries.values().iterator();
+        while (entries.size() > apiConfig.getResponseCacheMaxEntries() && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Chave do cache: URL completa e valores dos headers relevantes
+     */
+    private static final class CacheKey {
+        
+        private final String url;
+        private final List<String> headerValues;
+        private final String path;
+        private final String endpointKey;
+        
+        private CacheKey(String url, List<String> headerValues) {
+            this.url = url;
+            this.headerValues = headerValues;
+            this.path = RequestUris.path(url);
+            this.endpointKey = RequestUris.endpointKey(path);
+        }
+        
+        static CacheKey of(ApiRequest request) {
+            String[] values = new String[VARY_HEADERS.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = request.getHeader(VARY_HEADERS.get(i));
+            }
+            return new CacheKey(request.getUrl(), Arrays.asList(values));
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey key = (CacheKey) other;
+            return url.equals(key.url) && headerValues.equals(key.headerValues);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, headerValues);
+        }
+    }
+    
+    /**
+     * Resposta armazenada e o instante de expiração
+     */
+    private static final class CacheEntry {
+        
+        private final ResponseSnapshot snapshot;
+        private final long expiresAtNanos;
+        
+        private CacheEntry(ResponseSnapshot snapshot, long expiresAtNanos) {
+            this.snapshot = snapshot;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+        
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.reqres.automation.service.interceptor;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cópia desacoplada de uma resposta HTTP, segura para reutilização entre threads
+ * 
+ * @implNote Uma {@link Response} do RestAssured mantém referência ao stream e à
+ * configuração da requisição original; a cópia guarda apenas status, headers e
+ * corpo em bytes, e gera uma nova resposta independente a cada {@link #toResponse()}
+ */
+public final class ResponseSnapshot {
+    
+    private final int statusCode;
+    private final String statusLine;
+    private final Headers headers;
+    private final String contentType;
+    private final byte[] body;
+    
+    private ResponseSnapshot(int statusCode, String statusLine, Headers headers, String contentType, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.contentType = contentType;
+        this.body = body;
+    }
+    
+    /**
+     * Cria a cópia de uma resposta recebida
+     * 
+     * @param response Resposta original, cujo corpo é lido integralmente
+     * @return Cópia imutável da resposta
+     */
+    public static ResponseSnapshot of(Response response) {
+        byte[] body = response.asByteArray();
+        return new ResponseSnapshot(response.getStatusCode(), response.getStatusLine(),
+                new Headers(new ArrayList<>(response.getHeaders().asList())),
+                response.getContentType(), body != null ? body : new byte[0]);
+    }
+    
+    /**
+     * Cria uma nova resposta a partir da cópia
+     * 
+     * @return Resposta equivalente à original, com o mesmo status
+     */
+    public Response toResponse() {
+        return toResponse(statusCode, statusLine, headers);
+    }
+    
+    /**
+     * Cria uma nova resposta com o corpo armazenado e os metadados informados
+     * 
+     * @param statusCode Código de status da nova resposta
+     * @param statusLine Linha de status da nova resposta
+     * @param headers Headers da nova resposta
+     * @return Resposta com o corpo desta cópia
+     */
+    public Response toResponse(int statusCode, String statusLine, Headers headers) {
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(headers)
+                .setBody(body.clone());
+        if (contentType != null && !contentType.isEmpty()) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Combina os headers armazenados com os de uma resposta mais recente
+     * 
+     * @implNote Usado na revalidação: um 304 pode atualizar validadores e
+     * metadados de cache, que prevalecem sobre os armazenados
+     * 
+     * @param updates Headers recebidos na resposta mais recente
+     * @return Headers armazenados, substituídos pelos de mesmo nome em {@code updates}
+     */
+    public Headers mergeHeaders(Headers updates) {
+        List<Header> merged = new ArrayList<>();
+        for (Header header : headers) {
+            if (!updates.hasHeaderWithName(header.getName())) {
+                merged.add(header);
+            }
+        }
+        merged.addAll(updates.asList());
+        return new Headers(merged);
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    public String getStatusLine() {
+        return statusLine;
+    }
+    
+    public Headers getHeaders() {
+        return headers;
+    }
+    
+    /**
+     * Obtém o tamanho do corpo armazenado
+     * 
+     * @return Número de bytes do corpo
+     */
+    public int getBodySize() {
+        return body.length;
+    }
+}
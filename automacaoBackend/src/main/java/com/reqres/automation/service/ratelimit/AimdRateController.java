@@ -0,0 +1,244 @@
+package com.reqres.automation.service.ratelimit;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.RateSample;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.service.transport.RequestCancellation;
+import com.reqres.automation.util.TokenBucket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controlador adaptativo da taxa de requisições no modelo AIMD (Additive Increase, Multiplicative Decrease)
+ *
+ * @implNote Funciona como o controle de congestionamento do TCP sobre o
+ * {@link TokenBucket} do {@link GlobalRateLimiter}: enquanto as respostas são
+ * saudáveis a taxa cresce {@link ApiConfig#getAimdIncrease()} req/s a cada segundo
+ * de tráfego (o incremento é dividido pela taxa corrente a cada resposta) e, diante
+ * de um 429, de uma falha de I/O ou de uma latência acima de
+ * {@link ApiConfig#getAimdLatencyThresholdMs()}, é multiplicada por
+ * {@link ApiConfig#getAimdDecreaseFactor()}. A taxa oscila assim logo abaixo do
+ * limite real da API, em vez de depender de um valor estático
+ *
+ * @implSpec Reduções ocorrem no máximo uma vez a cada
+ * {@link ApiConfig#getAimdCooldownMs()}, pois as requisições já em andamento no
+ * momento do primeiro 429 tendem a recebê-lo também. Respostas 5XX não alteram a
+ * taxa, ficando a cargo do retry e do circuit breaker. A latência é medida sem a
+ * espera pelo token. Falhas provocadas pelo próprio cliente, como a tentativa
+ * perdedora de um hedging abortada de propósito ou o prazo do teste esgotado, não
+ * indicam congestionamento e também não alteram a taxa
+ *
+ * @apiNote Cada ajuste gera uma {@link RateSample}; aumentos são amostrados no
+ * máximo uma vez por segundo. Ao encerrar o contexto a série é gravada em CSV em
+ * {@link ApiConfig#getAimdSeriesPath()} e a taxa de convergência é registrada no log
+ */
+@Component
+public class AimdRateController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AimdRateController.class);
+
+    /** Número máximo de amostras mantidas em memória */
+    private static final int MAX_SAMPLES = 10_000;
+
+    /** Intervalo mínimo entre amostras de aumento da taxa */
+    private static final long INCREASE_SAMPLE_INTERVAL_MS = 1000;
+
+    /** Amostras finais consideradas no cálculo da taxa de convergência */
+    private static final int CONVERGENCE_SAMPLES = 10;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    private final Deque<RateSample> samples = new ArrayDeque<>();
+    private final long startNanos = System.nanoTime();
+
+    private TokenBucket bucket;
+    private double rate;
+    private long lastDecreaseNanos;
+    private long lastIncreaseSampleMs = -INCREASE_SAMPLE_INTERVAL_MS;
+    private long increases;
+    private long decreases;
+
+    /**
+     * Passa a controlar a taxa do balde informado
+     *
+     * @param controlled Balde do limitador global
+     * @implNote Chamado pelo {@link GlobalRateLimiter} na inicialização; sem balde
+     * (limite global desabilitado) o controlador permanece inativo
+     */
+    synchronized void attach(TokenBucket controlled) {
+        if (!apiConfig.isAimdEnabled()) {
+            return;
+        }
+        bucket = controlled;
+        rate = clamp(controlled.getRatePerSecond());
+        bucket.setRatePerSecond(rate);
+        record("START", "taxa inicial");
+        logger.info("Controle AIMD ativo: {} req/s (entre {} e {})",
+                format(rate), apiConfig.getAimdMinRate(), apiConfig.getAimdMaxRate());
+    }
+
+    /**
+     * Ajusta a taxa conforme a resposta de uma requisição
+     *
+     * @param statusCode Código de status recebido
+     * @param latencyMs Latência da requisição, sem a espera pelo token
+     */
+    public synchronized void onResponse(int statusCode, long latencyMs) {
+        if (bucket == null) {
+            return;
+        }
+        if (statusCode == 429) {
+            decrease("429");
+        } else if (latencyMs > apiConfig.getAimdLatencyThresholdMs()) {
+            decrease("latência " + latencyMs + " ms");
+        } else if (statusCode < 500) {
+            increase();
+        }
+    }
+
+    /**
+     * Reduz a taxa após uma requisição que falhou sem resposta
+     *
+     * @param failure Exceção lançada pelo transporte, como um timeout de leitura
+     * @implNote Ignora a falha de uma requisição cancelada pelo {@link RequestCancellation}
+     * da thread e o {@link DeadlineExceededException} do prazo do chamador
+     */
+    public synchronized void onFailure(Throwable failure) {
+        if (bucket == null) {
+            return;
+        }
+        if (RequestCancellation.isCurrentCancelled() || failure instanceof DeadlineExceededException) {
+            logger.debug("Falha sem efeito na taxa AIMD: {}", failure.getClass().getSimpleName());
+            return;
+        }
+        decrease(failure.getClass().getSimpleName());
+    }
+
+    /**
+     * Grava a série de ajustes e registra a taxa de convergência
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<RateSample> series = getSeries();
+        if (series.isEmpty()) {
+            return;
+        }
+        logger.info("Controle AIMD encerrado: {} aumentos, {} reduções, taxa convergida de {} req/s",
+                increases, decreases, format(getConvergedRate()));
+        writeSeries(series);
+    }
+
+    /**
+     * Obtém a taxa permitida no momento
+     *
+     * @return Requisições por segundo, ou zero quando o controle está inativo
+     */
+    public synchronized double getRate() {
+        return bucket != null ? rate : 0;
+    }
+
+    /**
+     * Obtém a taxa em torno da qual o controlador convergiu
+     *
+     * @return Média das taxas nas últimas amostras da série
+     */
+    public synchronized double getConvergedRate() {
+        return samples.stream()
+                .skip(Math.max(0, samples.size() - CONVERGENCE_SAMPLES))
+                .mapToDouble(RateSample::getRatePerSecond)
+                .average()
+                .orElse(0);
+    }
+
+    /**
+     * Obtém a série temporal dos ajustes
+     *
+     * @return Cópia das amostras em ordem cronológica
+     */
+    public synchronized List<RateSample> getSeries() {
+        return new ArrayList<>(samples);
+    }
+
+    public synchronized long getIncreases() {
+        return increases;
+    }
+
+    public synchronized long getDecreases() {
+        return decreases;
+    }
+
+    private void increase() {
+        rate = clamp(rate + apiConfig.getAimdIncrease() / rate);
+        bucket.setRatePerSecond(rate);
+        increases++;
+        long elapsed = elapsedMs();
+        if (elapsed - lastIncreaseSampleMs >= INCREASE_SAMPLE_INTERVAL_MS) {
+            lastIncreaseSampleMs = elapsed;
+            record("INCREASE", "respostas saudáveis");
+        }
+    }
+
+    private void decrease(String cause) {
+        long now = System.nanoTime();
+        if (decreases > 0 && now - lastDecreaseNanos < TimeUnit.MILLISECONDS.toNanos(apiConfig.getAimdCooldownMs())) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        rate = clamp(rate * apiConfig.getAimdDecreaseFactor());
+        bucket.setRatePerSecond(rate);
+        decreases++;
+        record("DECREASE", cause);
+        logger.debug("Taxa AIMD reduzida para {} req/s: {}", format(rate), cause);
+    }
+
+    private void record(String event, String cause) {
+        if (samples.size() == MAX_SAMPLES) {
+            samples.removeFirst();
+        }
+        samples.addLast(new RateSample(elapsedMs(), rate, event, cause));
+    }
+
+    private double clamp(double value) {
+        return Math.max(apiConfig.getAimdMinRate(), Math.min(apiConfig.getAimdMaxRate(), value));
+    }
+
+    private long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void writeSeries(List<RateSample> series) {
+        File file = new File(apiConfig.getAimdSeriesPath());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            writer.println("elapsed_ms,rate_per_second,event,cause");
+            for (RateSample sample : series) {
+                writer.println(sample.getElapsedMs() + "," + format(sample.getRatePerSecond()) + ","
+                        + sample.getEvent() + ",\"" + sample.getCause() + "\"");
+            }
+            logger.info("Série AIMD gravada em {} com {} amostras", file, series.size());
+        } catch (IOException e) {
+            logger.error("Falha ao gravar a série AIMD {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,206 @@
+package com.reqres.automation.service.ratelimit;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.util.TokenBucket;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Limitador de taxa compartilhado por todas as chamadas da JVM feitas pelos serviços de API e pelo RestAssured
+ *
+ * @implNote Substitui os intervalos fixos entre testes por um {@link TokenBucket}
+ * compartilhado: enquanto há folga no orçamento as requisições seguem sem espera e,
+ * quando ele se esgota, cada thread aguarda apenas o necessário para o próximo token,
+ * de forma coordenada entre todas as threads da execução paralela
+ *
+ * @implSpec A taxa e a rajada vêm de {@link ApiConfig#getRateLimitPerSecond()} e
+ * {@link ApiConfig#getRateLimitBurst()}. O {@code BaseApiService} adquire um token
+ * imediatamente antes de cada envio pela rede, inclusive em repetições; respostas
+ * servidas por cache ou cassete não consomem o orçamento
+ *
+ * @implNote Com {@code api.aimd.enabled=true} a taxa do balde é ajustada em execução
+ * pelo {@link AimdRateController}, alimentado com o status e a latência de cada envio
+ *
+ * @apiNote Chamadas feitas diretamente com {@code RestAssured.given()} são limitadas
+ * por um filtro global registrado na inicialização, que ignora as chamadas já
+ * limitadas pelo serviço e as reproduzidas do cassete. As chamadas do
+ * {@code IAsyncApiService} passam pelo {@code BaseApiService} e consomem tokens como
+ * as síncronas; requisições enviadas por outros clientes HTTP não são limitadas
+ */
+@Component
+public class GlobalRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalRateLimiter.class);
+
+    private final ThreadLocal<Boolean> acquiredByService = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private AimdRateController aimdController;
+
+    private final LongAdder permits = new LongAdder();
+    private final LongAdder delayedPermits = new LongAdder();
+    private final LongAdder waitedMs = new LongAdder();
+
+    private TokenBucket bucket;
+    private RateLimitFilter filter;
+
+    /**
+     * Cria o balde de tokens e registra o filtro global do RestAssured
+     */
+    @PostConstruct
+    public void init() {
+        if (!apiConfig.isRateLimitEnabled()) {
+            return;
+        }
+        bucket = new TokenBucket(apiConfig.getRateLimitPerSecond(), apiConfig.getRateLimitBurst());
+        filter = new RateLimitFilter(this);
+        RestAssured.filters(filter);
+        logger.info("Limite de taxa global: {} req/s, rajada de {}",
+                apiConfig.getRateLimitPerSecond(), apiConfig.getRateLimitBurst());
+        aimdController.attach(bucket);
+    }
+
+    /**
+     * Remove o filtro global e registra o resumo das esperas
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (filter == null) {
+            return;
+        }
+        List<Filter> remaining = new ArrayList<>(RestAssured.filters());
+        remaining.remove(filter);
+        RestAssured.replaceFiltersWith(remaining);
+        logger.info("Limite de taxa encerrado: {} requisições, {} aguardaram, {} ms de espera total",
+                permits.sum(), delayedPermits.sum(), waitedMs.sum());
+    }
+
+    /**
+     * Envia uma requisição após adquirir um token do orçamento global
+     *
+     * @param deadline Prazo da chamada, ou null para aguardar o token sem limite
+     * @param operation Descrição da chamada, usada na mensagem de erro
+     * @param send Envio da requisição pela rede
+     * @return Resposta recebida
+     * @throws DeadlineExceededException se o token só seria liberado após o prazo
+     * @implNote Marca a thread durante o envio para que o filtro global não consuma
+     * um segundo token pela mesma requisição, e repassa o resultado ao controle AIMD.
+     * O envio só é iniciado depois do token, de modo que o timeout calculado nele
+     * considera o tempo restante após a espera
+     */
+    public Response call(Deadline deadline, String operation, Supplier<Response> send) {
+        acquire(deadline, operation);
+        acquiredByService.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        try {
+            Response response = send.get();
+            aimdController.onResponse(response.getStatusCode(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return response;
+        } catch (Exception e) {
+            aimdController.onFailure(e);
+            throw e;
+        } finally {
+            acquiredByService.set(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * Aguarda um token do orçamento global, sem ultrapassar o prazo da thread corrente
+     *
+     * @return Tempo aguardado em milissegundos, zero quando o limite está desabilitado
+     * @throws DeadlineExceededException se o token só seria liberado após o prazo
+     * @apiNote Usado pelo filtro global nas chamadas feitas diretamente com {@code given()}
+     */
+    public long acquire() {
+        return acquire(DeadlineContext.current(), "requisição direta");
+    }
+
+    /**
+     * Aguarda um token do orçamento global, sem ultrapassar o prazo informado
+     *
+     * @param deadline Prazo da chamada, ou null para aguardar sem limite
+     * @param operation Descrição da chamada, usada na mensagem de erro
+     * @return Tempo aguardado em milissegundos, zero quando o limite está desabilitado
+     * @throws DeadlineExceededException se o token só seria liberado após o prazo
+     */
+    public long acquire(Deadline deadline, String operation) {
+        if (bucket == null) {
+            return 0;
+        }
+        long waited = deadline != null ? bucket.acquire(deadline.remainingMs()) : bucket.acquire();
+        if (waited == TokenBucket.NOT_ACQUIRED) {
+            throw new DeadlineExceededException(deadline, operation + " (limite de taxa global)");
+        }
+        permits.increment();
+        if (waited > 0) {
+            delayedPermits.increment();
+            waitedMs.add(waited);
+        }
+        return waited;
+    }
+
+    /**
+     * Indica se a requisição em andamento na thread já foi limitada pelo serviço
+     *
+     * @return true durante um envio feito por {@link #call(Deadline, String, Supplier)}
+     */
+    boolean isAcquiredByService() {
+        return acquiredByService.get();
+    }
+
+    /**
+     * Indica se a requisição em andamento será respondida pelo cassete, sem acesso à rede
+     *
+     * @return true no modo replay
+     */
+    boolean isReplay() {
+        return apiConfig.isReplayMode();
+    }
+
+    /**
+     * Obtém o número de tokens concedidos
+     *
+     * @return Total de requisições que passaram pelo limitador
+     */
+    public long getPermits() {
+        return permits.sum();
+    }
+
+    /**
+     * Obtém o número de requisições que precisaram aguardar um token
+     *
+     * @return Total de aquisições com espera
+     */
+    public long getDelayedPermits() {
+        return delayedPermits.sum();
+    }
+
+    /**
+     * Obtém o tempo total de espera imposto pelo limitador
+     *
+     * @return Soma das esperas em milissegundos
+     */
+    public long getWaitedMs() {
+        return waitedMs.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.reqres.automation.service.ratelimit;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filtro do RestAssured que aplica o limite de taxa global às chamadas feitas diretamente com {@code given()}
+ *
+ * @implNote Chamadas originadas no {@code IApiService} já adquiriram o token no
+ * {@code BaseApiService}; para elas o filtro apenas repassa a requisição
+ */
+class RateLimitFilter implements Filter {
+
+    private final GlobalRateLimiter limiter;
+
+    RateLimitFilter(GlobalRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!limiter.isAcquiredByService() && !limiter.isReplay()) {
+            limiter.acquire();
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
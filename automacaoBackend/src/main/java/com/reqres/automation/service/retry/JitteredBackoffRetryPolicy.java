@@ -0,0 +1,128 @@
+package com.reqres.automation.service.retry;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Política padrão: backoff exponencial com jitter completo e respeito ao {@code Retry-After}
+ * 
+ * @implNote A espera antes da tentativa N+1 é sorteada uniformemente entre zero e
+ * {@code min(maxDelay, baseDelay * 2^(N-1))} (full jitter), o que dispersa as
+ * repetições de testes paralelos em vez de sincronizá-las. Quando o servidor
+ * informa {@code Retry-After} (segundos ou data HTTP), esse valor é respeitado
+ * 
+ * @implSpec São repetidas respostas 429, 502, 503 e 504 e falhas de I/O. Chamadas não
+ * idempotentes (POST, PATCH) só são repetidas quando o servidor comprovadamente não
+ * as processou: resposta 429, falha ao estabelecer a conexão, ou quando a
+ * requisição traz um header {@code Idempotency-Key}
+ */
+@Component
+public class JitteredBackoffRetryPolicy implements RetryPolicy {
+    
+    private static final Set<Integer> RETRYABLE_STATUSES = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    @Override
+    public long retryDelayMs(ApiRequest request, int attempt, Response response, Throwable failure) {
+        if (attempt >= apiConfig.getRetryMaxAttempts()) {
+            return NO_RETRY;
+        }
+        
+        if (response != null) {
+            int status = response.getStatusCode();
+            if (!RETRYABLE_STATUSES.contains(status)) {
+                return NO_RETRY;
+            }
+            if (status != 429 && !isSafeToRepeat(request)) {
+                return NO_RETRY;
+            }
+            long retryAfter = retryAfterMs(response.getHeader("Retry-After"));
+            if (retryAfter > apiConfig.getRetryMaxRetryAfterMs()) {
+                return NO_RETRY;
+            }
+            if (retryAfter >= 0) {
+                return retryAfter;
+            }
+        } else if (!isRetryableFailure(failure) || (!isSafeToRepeat(request) && !isConnectFailure(failure))) {
+            return NO_RETRY;
+        }
+        
+        return backoffMs(attempt);
+    }
+    
+    /**
+     * Calcula a espera com jitter completo para a tentativa informada
+     * 
+     * @param attempt Número da tentativa que acabou de terminar, começando em 1
+     * @return Espera sorteada entre zero e o teto exponencial
+     */
+    long backoffMs(int attempt) {
+        long ceiling = apiConfig.getRetryBaseDelayMs() << Math.min(attempt - 1, 30);
+        ceiling = Math.min(apiConfig.getRetryMaxDelayMs(), ceiling);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+    
+    /**
+     * Converte o header {@code Retry-After} em milissegundos
+     * 
+     * @param value Valor do header em segundos ou como data HTTP (RFC 1123)
+     * @return Espera em milissegundos, ou -1 quando ausente ou inválido
+     */
+    static long retryAfterMs(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(trimmed) * 1000);
+        } catch (NumberFormatException e) {
+            // não é um número de segundos: tenta o formato de data HTTP
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+    
+    private boolean isSafeToRepeat(ApiRequest request) {
+        return request.isIdempotent() || request.getHeader("Idempotency-Key") != null;
+    }
+    
+    private boolean isRetryableFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isConnectFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || cause.getClass().getSimpleName().equals("ConnectTimeoutException")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.reqres.automation.service.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orçamento de repetições de uma execução
+ * 
+ * @implNote Limita as repetições a um percentual das chamadas realizadas, com um
+ * mínimo fixo para o início da execução. Quando o servidor está degradado de forma
+ * persistente, o orçamento se esgota e as falhas passam a ser reportadas
+ * imediatamente, em vez de multiplicar a carga e o tempo da suíte
+ * 
+ * @implSpec Thread-safe, sem bloqueios: a reserva usa compare-and-set
+ */
+public class RetryBudget {
+    
+    private final double percent;
+    private final long minimum;
+    
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    
+    /**
+     * Cria um orçamento de repetições
+     * 
+     * @param percent Percentual máximo de repetições sobre as chamadas
+     * @param minimum Repetições sempre permitidas, independente do percentual
+     */
+    public RetryBudget(double percent, long minimum) {
+        this.percent = percent;
+        this.minimum = minimum;
+    }
+    
+    /**
+     * Registra uma chamada original, ampliando o orçamento disponível
+     */
+    public void recordCall() {
+        calls.incrementAndGet();
+    }
+    
+    /**
+     * Tenta reservar uma repetição
+     * 
+     * @return true se havia orçamento disponível e a repetição foi reservada
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long used = retries.get();
+            long allowed = minimum + (long) (calls.get() * percent / 100.0);
+            if (used >= allowed) {
+                return false;
+            }
+            if (retries.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Obtém o número de repetições já reservadas
+     * 
+     * @return Total de repetições da execução
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+}
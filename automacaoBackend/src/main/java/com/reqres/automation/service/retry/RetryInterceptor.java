@@ -0,0 +1,199 @@
+package com.reqres.automation.service.retry;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.interceptor.ApiInterceptor;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import com.reqres.automation.service.transport.RequestCancellation;
+import com.reqres.automation.util.ReportManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Repetição de falhas transitórias nas chamadas do {@code IApiService}
+ * 
+ * @implNote A decisão de repetir e a espera são delegadas ao bean {@link RetryPolicy}
+ * (por padrão {@link JitteredBackoffRetryPolicy}); este interceptor aplica o
+ * orçamento de repetições da execução e registra cada chamada repetida no
+ * relatório, com o número de tentativas e a latência adicionada
+ * 
+ * @implSpec Quando as tentativas se esgotam, a última resposta (por exemplo o 429)
+ * é devolvida ao chamador, preservando o comportamento das validações dos testes.
+ * Uma chamada cancelada ({@link RequestCancellation}) nunca é repetida
+ */
+@Component
+@Order(ApiInterceptor.ORDER_RETRY)
+public class RetryInterceptor implements ApiInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RetryInterceptor.class);
+    
+    @Autowired
+    private ApiConfig apiConfig;
+    
+    @Autowired
+    private RetryPolicy retryPolicy;
+    
+    private RetryBudget budget;
+    
+    private final AtomicLong retriedCalls = new AtomicLong();
+    private final AtomicLong addedLatencyMs = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    
+    /**
+     * Inicializa o orçamento de repetições da execução
+     */
+    @PostConstruct
+    public void init() {
+        budget = new RetryBudget(apiConfig.getRetryBudgetPercent(), apiConfig.getRetryBudgetMin());
+    }
+    
+    @Override
+    public Response intercept(ApiRequest request, ApiInterceptorChain chain) {
+        if (!apiConfig.isRetryEnabled()) {
+            return chain.proceed(request);
+        }
+        
+        budget.recordCall();
+        long start = System.nanoTime();
+        long firstAttemptMs = -1;
+        List<String> outcomes = new ArrayList<>();
+        
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            Response response = null;
+            Exception failure = null;
+            try {
+                response = chain.proceed(request);
+            } catch (Exception e) {
+                failure = e;
+            }
+            if (firstAttemptMs < 0) {
+                firstAttemptMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attemptStart);
+            }
+            
+            long delayMs = RequestCancellation.isCurrentCancelled() ? RetryPolicy.NO_RETRY
+                    : retryPolicy.retryDelayMs(request, attempt, response, failure);
+            if (delayMs != RetryPolicy.NO_RETRY && exceedsDeadline(request, delayMs)) {
+                delayMs = RetryPolicy.NO_RETRY;
+            }
+            if (delayMs != RetryPolicy.NO_RETRY && !budget.tryAcquire()) {
+                budgetExhausted.incrementAndGet();
+                delayMs = RetryPolicy.NO_RETRY;
+            }
+            if (delayMs == RetryPolicy.NO_RETRY) {
+                if (attempt > 1) {
+                    report(request, attempt, outcomes, outcome(response, failure), start, firstAttemptMs);
+                }
+                if (failure != null) {
+                    throw failure instanceof RuntimeException ? (RuntimeException) failure
+                            : new IllegalStateException("Falha na requisição " + request + ": " + failure.getMessage(), failure);
+                }
+                return response;
+            }
+            
+            outcomes.add(outcome(response, failure));
+            logger.debug("Repetindo {} após {} ms (tentativa {} terminou com {})",
+                    request, delayMs, attempt, outcome(response, failure));
+            sleep(delayMs);
+        }
+    }
+    
+    /**
+     * Registra o resumo de repetições ao encerrar o contexto
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (budget.getRetries() > 0 || budgetExhausted.get() > 0) {
+            logger.info("Retry: {} chamadas repetidas, {} repetições, {} ms adicionados, {} recusadas por orçamento",
+                    retriedCalls.get(), budget.getRetries(), addedLatencyMs.get(), budgetExhausted.get());
+        }
+    }
+    
+    /**
+     * Obtém o número de chamadas que precisaram de ao menos uma repetição
+     * 
+     * @return Total de chamadas repetidas
+     */
+    public long getRetriedCalls() {
+        return retriedCalls.get();
+    }
+    
+    /**
+     * Obtém o número total de repetições realizadas
+     * 
+     * @return Total de tentativas além da primeira
+     */
+    public long getRetries() {
+        return budget.getRetries();
+    }
+    
+    /**
+     * Obtém a latência acumulada adicionada pelas repetições
+     * 
+     * @return Soma, em milissegundos, do tempo gasto além da primeira tentativa
+     */
+    public long getAddedLatencyMs() {
+        return addedLatencyMs.get();
+    }
+    
+    /**
+     * Obtém o número de repetições recusadas por falta de orçamento
+     * 
+     * @return Total de repetições não realizadas
+     */
+    public long getBudgetExhausted() {
+        return budgetExhausted.get();
+    }
+    
+    /**
+     * Verifica se a repetição começaria após o prazo do chamador
+     * 
+     * @param request Requisição sujeita ou não a um prazo
+     * @param delayMs Espera antes da próxima tentativa
+     * @return true quando não restaria tempo para a nova tentativa
+     */
+    private boolean exceedsDeadline(ApiRequest request, long delayMs) {
+        return request.getDeadline() != null && delayMs >= request.getDeadline().remainingMs();
+    }
+    
+    private void report(ApiRequest request, int attempts, List<String> outcomes, String finalOutcome,
+                        long startNanos, long firstAttemptMs) {
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long added = Math.max(0, totalMs - firstAttemptMs);
+        retriedCalls.incrementAndGet();
+        addedLatencyMs.addAndGet(added);
+        
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Tentativas", attempts);
+        metrics.put("Resultados anteriores", outcomes);
+        metrics.put("Resultado final", finalOutcome);
+        metrics.put("Latência adicionada (ms)", added);
+        ReportManager.attachMetrics("Retry " + request, metrics);
+    }
+    
+    private String outcome(Response response, Exception failure) {
+        return response != null ? "HTTP " + response.getStatusCode() : failure.getClass().getSimpleName();
+    }
+    
+    private void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera entre tentativas interrompida", e);
+        }
+    }
+}
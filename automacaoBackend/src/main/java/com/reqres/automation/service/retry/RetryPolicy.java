@@ -0,0 +1,28 @@
+package com.reqres.automation.service.retry;
+
+import com.reqres.automation.service.interceptor.ApiRequest;
+import io.restassured.response.Response;
+
+/**
+ * Estratégia de decisão sobre a repetição de uma chamada de API
+ * 
+ * @implNote Implementa o padrão de design Strategy: o {@link RetryInterceptor} delega
+ * a esta interface a decisão de repetir e o tempo de espera, de modo que outra
+ * política pode ser fornecida como bean Spring sem alterar o interceptor
+ */
+public interface RetryPolicy {
+    
+    /** Valor retornado quando a chamada não deve ser repetida */
+    long NO_RETRY = -1;
+    
+    /**
+     * Decide se a tentativa deve ser repetida e quanto aguardar antes disso
+     * 
+     * @param request Requisição executada
+     * @param attempt Número da tentativa que acabou de terminar, começando em 1
+     * @param response Resposta recebida, ou null quando a tentativa falhou com exceção
+     * @param failure Exceção lançada pela tentativa, ou null quando houve resposta
+     * @return Espera em milissegundos antes da próxima tentativa, ou {@link #NO_RETRY}
+     */
+    long retryDelayMs(ApiRequest request, int attempt, Response response, Throwable failure);
+}
@@ -0,0 +1,26 @@
+package com.reqres.automation.service.transport;
+
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Contrato para o mecanismo que efetivamente envia requisições HTTP pela rede
+ * 
+ * @implNote Isola o {@code BaseApiService} do cliente HTTP utilizado, permitindo
+ * alternar entre o cliente do RestAssured (HTTP/1.1 com pool keep-alive) e o
+ * cliente nativo do JDK (HTTP/2 multiplexado) apenas por configuração
+ */
+public interface HttpTransport {
+    
+    /**
+     * Envia a requisição e aguarda a resposta
+     * 
+     * @param method Método HTTP da requisição
+     * @param spec Especificação completa da requisição com headers, auth, etc.
+     * @param endpoint Path relativo do endpoint a ser acessado
+     * @param payload Corpo da requisição ou null quando não houver
+     * @return Resposta HTTP no formato do RestAssured
+     */
+    Response send(Method method, RequestSpecification spec, String endpoint, Object payload);
+}
@@ -0,0 +1,378 @@
+package com.reqres.automation.service.transport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.util.ReportManager;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transporte HTTP não bloqueante baseado no {@link HttpClient} do JDK, com suporte a HTTP/2
+ *
+ * @implNote Traduz uma {@link RequestSpecification} do RestAssured em uma requisição
+ * do cliente nativo e converte a resposta de volta em {@link Response}, permitindo
+ * que os consumidores continuem usando as mesmas validações dos testes síncronos
+ *
+ * @implSpec As requisições são multiplexadas pelo seletor NIO do JDK e os callbacks
+ * são executados em um pool pequeno e fixo de threads, configurável via
+ * {@link ApiConfig#getAsyncThreads()}, de modo que centenas de requisições
+ * simultâneas não exigem uma thread por requisição em andamento
+ *
+ * @implNote Com {@code api.transport=h2} o cliente negocia HTTP/2 via ALPN em URLs
+ * https e via upgrade h2c em URLs http, multiplexando as requisições concorrentes
+ * sobre uma única conexão por host. Quando o servidor não aceita HTTP/2, o próprio
+ * cliente recai para HTTP/1.1; a versão efetivamente usada é contabilizada em
+ * {@link #getHttp2Responses()} e {@link #getHttp1Responses()}
+ *
+ * @implNote Diferentemente do RestAssured, o cliente do JDK não negocia compressão;
+ * com {@link ApiConfig#isCompressionEnabled()} o transporte envia
+ * {@code Accept-Encoding: gzip, deflate} e descomprime a resposta, registrando em
+ * {@link TransferStats} os bytes trafegados e os descomprimidos
+ *
+ * @apiNote Filtros do RestAssured presentes na especificação (logging, Allure)
+ * não são executados por este transporte. Para manter o relatório equivalente ao do
+ * transporte HTTP/1.1, quando a especificação tem filtros a requisição e a resposta
+ * completas (linha inicial, headers e corpo) são anexadas pelo {@link ReportManager},
+ * que também as registra no log; filtros de outros tipos são apenas avisados no log,
+ * uma vez por classe
+ */
+@Component
+public class JdkHttpTransport implements HttpTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdkHttpTransport.class);
+
+    /** Headers controlados pelo próprio cliente do JDK e que não podem ser definidos manualmente */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(Arrays.asList("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    /** Filtros cujo registro é reproduzido pelos anexos do transporte */
+    private static final Set<Class<?>> REPORTED_FILTERS = Set.of(
+            AllureRestAssured.class, RequestLoggingFilter.class, ResponseLoggingFilter.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private TransferStats transferStats;
+
+    @Autowired
+    @Qualifier("ioExecutor")
+    private ExecutorService ioExecutor;
+
+    private final AtomicLong http2Responses = new AtomicLong();
+    private final AtomicLong http1Responses = new AtomicLong();
+    private final AtomicBoolean fallbackLogged = new AtomicBoolean();
+    private final Set<Class<?>> ignoredFiltersLogged = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+
+    /**
+     * Inicializa o cliente HTTP nativo e o pool de threads de callback
+     *
+     * @implNote Em modo de virtual threads os callbacks usam o executor de I/O
+     * compartilhado, dispensando o dimensionamento do pool fixo
+     */
+    @PostConstruct
+    public void init() {
+        if (apiConfig.isVirtualThreadExecution()) {
+            executor = ioExecutor;
+        } else {
+            AtomicInteger threadCounter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(apiConfig.getAsyncThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "http-async-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        httpClient = HttpClient.newBuilder()
+                .version(apiConfig.isHttp2Transport() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(apiConfig.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        if (apiConfig.isHttp2Transport()) {
+            logger.warn("api.transport=h2: os filtros do RestAssured (Allure, logging) não são executados nas chamadas "
+                    + "do IApiService; requisição e resposta são anexadas ao relatório pelo ReportManager");
+        }
+    }
+
+    /**
+     * Libera as threads de callback ao encerrar o contexto
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor != ioExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Envia a requisição e bloqueia até a chegada da resposta
+     *
+     * @implNote Exceções da execução assíncrona são desembrulhadas para que o chamador
+     * receba a causa original, como ocorreria no transporte síncrono
+     */
+    @Override
+    public Response send(Method method, RequestSpecification spec, String endpoint, Object payload) {
+        try {
+            Response response = sendAsync(method, spec, endpoint, payload).join();
+            reportResponse(spec, response);
+            return response;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Falha na requisição " + method + " " + endpoint + ": "
+                    + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Envia uma requisição de forma assíncrona
+     *
+     * @param method Método HTTP da requisição
+     * @param spec Especificação com URL base, headers e parâmetros de query
+     * @param endpoint Path relativo (ou URL absoluta) do endpoint
+     * @param payload Corpo da requisição, serializado como JSON quando não for String
+     * @return Futuro completado com a resposta convertida para o formato do RestAssured
+     * @implNote A requisição é anexada ao relatório na thread chamadora; a resposta
+     * é anexada por {@link #send} no contexto de relatório do teste
+     * @implNote A troca é registrada no {@link RequestCancellation} da thread chamadora;
+     * cancelar o futuro do cliente encerra a requisição em andamento
+     * @implNote Privado para que nenhuma requisição escape da cadeia do
+     * {@code BaseApiService}, que aplica prazo e limites de taxa; chamadas assíncronas
+     * usam o {@code IAsyncApiService}
+     */
+    private CompletableFuture<Response> sendAsync(Method method, RequestSpecification spec,
+                                                 String endpoint, Object payload) {
+        QueryableRequestSpecification queryable = SpecificationQuerier.query(spec);
+        HttpRequest request;
+        try {
+            request = buildRequest(method, queryable, endpoint, payload);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Falha ao serializar o corpo da requisição: " + e.getMessage(), e));
+        }
+        if (isReported(queryable)) {
+            ReportManager.attachHttpMessage("Request", requestText(request, payload));
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        RequestCancellation.register(() -> exchange.cancel(true));
+        return exchange.thenApply(this::toResponse);
+    }
+
+    /**
+     * Anexa a resposta ao relatório no lugar dos filtros do RestAssured
+     *
+     * @param spec Especificação usada na requisição
+     * @param response Resposta recebida
+     * @implNote Nada é anexado quando a especificação não tem filtros, como no transporte HTTP/1.1
+     */
+    private void reportResponse(RequestSpecification spec, Response response) {
+        if (isReported(SpecificationQuerier.query(spec))) {
+            ReportManager.attachHttpMessage(response.getStatusLine(), responseText(response));
+        }
+    }
+
+    private boolean isReported(QueryableRequestSpecification spec) {
+        List<Filter> filters = spec.getDefinedFilters();
+        for (Filter filter : filters) {
+            if (!REPORTED_FILTERS.contains(filter.getClass()) && ignoredFiltersLogged.add(filter.getClass())) {
+                logger.warn("Filtro {} ignorado pelo transporte do JDK", filter.getClass().getName());
+            }
+        }
+        return !filters.isEmpty();
+    }
+
+    private String requestText(HttpRequest request, Object payload) {
+        StringBuilder text = new StringBuilder(request.method()).append(' ').append(request.uri()).append('\n');
+        request.headers().map().forEach((name, values) ->
+                values.forEach(value -> text.append(name).append(": ").append(value).append('\n')));
+        if (payload != null) {
+            text.append('\n').append(payload instanceof byte[] ? ((byte[]) payload).length + " bytes" : bodyText(payload));
+        }
+        return text.toString();
+    }
+
+    private String responseText(Response response) {
+        StringBuilder text = new StringBuilder(response.getStatusLine()).append('\n');
+        response.getHeaders().forEach(header -> text.append(header.getName()).append(": ").append(header.getValue()).append('\n'));
+        return text.append('\n').append(response.getBody().asString()).toString();
+    }
+
+    private String bodyText(Object payload) {
+        try {
+            return payload instanceof String ? (String) payload : objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(payload);
+        }
+    }
+
+    private HttpRequest buildRequest(Method method, QueryableRequestSpecification spec,
+                                     String endpoint, Object payload) throws JsonProcessingException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(RequestUris.resolve(spec, endpoint)));
+
+        for (Header header : spec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName())) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        if (spec.getContentType() != null && !spec.getHeaders().hasHeaderWithName("Content-Type")) {
+            builder.header("Content-Type", spec.getContentType());
+        }
+        if (apiConfig.isCompressionEnabled() && !spec.getHeaders().hasHeaderWithName("Accept-Encoding")) {
+            builder.header("Accept-Encoding", "gzip, deflate");
+        }
+        int timeout = RequestTimeouts.currentOrDeadline();
+        if (timeout > 0) {
+            builder.timeout(Duration.ofMillis(timeout));
+        }
+
+        return builder.method(method.name(), bodyPublisher(payload)).build();
+    }
+
+    private HttpRequest.BodyPublisher bodyPublisher(Object payload) throws JsonProcessingException {
+        if (payload == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (payload instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray((byte[]) payload);
+        }
+        String body = payload instanceof String ? (String) payload : objectMapper.writeValueAsString(payload);
+        return HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Obtém o número de respostas recebidas sobre HTTP/2
+     *
+     * @return Total de respostas multiplexadas em conexões HTTP/2
+     */
+    public long getHttp2Responses() {
+        return http2Responses.get();
+    }
+
+    /**
+     * Obtém o número de respostas recebidas sobre HTTP/1.1
+     *
+     * @return Total de respostas em HTTP/1.1, incluindo quedas por falta de negociação h2
+     */
+    public long getHttp1Responses() {
+        return http1Responses.get();
+    }
+
+    private void recordProtocol(HttpResponse<?> httpResponse) {
+        if (httpResponse.version() == HttpClient.Version.HTTP_2) {
+            http2Responses.incrementAndGet();
+        } else {
+            http1Responses.incrementAndGet();
+            if (apiConfig.isHttp2Transport() && fallbackLogged.compareAndSet(false, true)) {
+                logger.info("HTTP/2 não negociado com {}, utilizando HTTP/1.1", httpResponse.uri().getAuthority());
+            }
+        }
+    }
+
+    private Response toResponse(HttpResponse<byte[]> httpResponse) {
+        recordProtocol(httpResponse);
+        String uri = httpResponse.uri().toString();
+        String encoding = httpResponse.headers().firstValue("Content-Encoding").orElse("identity").trim();
+
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) -> {
+            if (!"Content-Encoding".equalsIgnoreCase(name) && !"Content-Length".equalsIgnoreCase(name)) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+
+        byte[] body = decode(httpResponse.body(), encoding);
+        transferStats.recordResponse(uri);
+        transferStats.recordResponseWire(uri, httpResponse.body().length);
+        transferStats.recordResponseDecoded(uri, body.length);
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(statusLine(httpResponse))
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private byte[] decode(byte[] body, String encoding) {
+        if (body.length == 0 || "identity".equalsIgnoreCase(encoding)) {
+            return body;
+        }
+        try (InputStream input = decoder(new ByteArrayInputStream(body), encoding)) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao descomprimir resposta " + encoding + ": " + e.getMessage(), e);
+        }
+    }
+
+    private InputStream decoder(InputStream input, String encoding) throws IOException {
+        if ("gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding)) {
+            return new GZIPInputStream(input);
+        }
+        if ("deflate".equalsIgnoreCase(encoding)) {
+            return new InflaterInputStream(input);
+        }
+        return input;
+    }
+
+    private String statusLine(HttpResponse<?> httpResponse) {
+        String protocol = httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + httpResponse.statusCode();
+    }
+}
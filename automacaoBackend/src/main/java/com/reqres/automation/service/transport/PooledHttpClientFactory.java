@@ -0,0 +1,409 @@
+package com.reqres.automation.service.transport;
+
+import com.reqres.automation.config.ApiConfig;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.AbstractHttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.BasicHttpProcessor;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Fábrica do cliente HTTP compartilhado com pool de conexões keep-alive
+ *
+ * @implNote O RestAssured cria, por padrão, um novo cliente HTTP a cada requisição,
+ * o que obriga um novo handshake TCP/TLS em toda chamada. Esta fábrica envia todas
+ * as requisições por um único cliente construído com {@link HttpClientBuilder} sobre
+ * um {@link PoolingHttpClientConnectionManager}, de modo que as conexões com o mesmo
+ * host são reaproveitadas entre testes e threads
+ *
+ * @implSpec O RestAssured 5 só aceita clientes do tipo {@code AbstractHttpClient} e
+ * altera os parâmetros e os interceptores do cliente recebido a cada requisição. Por
+ * isso cada requisição recebe um {@link PooledClientAdapter} descartável, que guarda
+ * essas alterações apenas para si e repassa a execução ao cliente compartilhado: os
+ * interceptores de compressão do RestAssured são aplicados antes e depois do envio e
+ * os parâmetros de timeout e redirecionamento viram um {@link RequestConfig} próprio
+ * da requisição. O cliente compartilhado nunca é alterado após a inicialização
+ *
+ * @apiNote Os contadores de conexões abertas e reutilizadas são obtidos no executor
+ * de requisições, que inspeciona quantas requisições a conexão alugada já transportou
+ * antes de enviar a atual. O timeout de leitura publicado em {@link RequestTimeouts}
+ * entra no {@link RequestConfig} da requisição
+ *
+ * @implNote A negociação de gzip/deflate é feita pelo próprio RestAssured
+ * ({@link DecoderConfig}); a descompressão automática do cliente compartilhado fica
+ * desabilitada, por isso o corpo observado no cliente ainda está comprimido e os bytes
+ * lidos correspondem aos bytes trafegados na rede. Depois dos decodificadores do
+ * RestAssured, o adaptador conta também os bytes descomprimidos, de modo que os dois
+ * lados de cada resposta são registrados em {@link TransferStats} na mesma camada
+ */
+@Component
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledHttpClientFactory.class);
+
+    /** Parâmetros legados que o RestAssured define no cliente de cada requisição */
+    private static final String PARAM_CONNECTION_TIMEOUT = "http.connection.timeout";
+    private static final String PARAM_SOCKET_TIMEOUT = "http.socket.timeout";
+    private static final String PARAM_HANDLE_REDIRECTS = "http.protocol.handle-redirects";
+    private static final String PARAM_ALLOW_CIRCULAR_REDIRECTS = "http.protocol.allow-circular-redirects";
+    private static final String PARAM_MAX_REDIRECTS = "http.protocol.max-redirects";
+    private static final String PARAM_REJECT_RELATIVE_REDIRECT = "http.protocol.reject-relative-redirect";
+
+    /**
+     * Inatividade após a qual uma conexão do pool é verificada antes de ser reaproveitada
+     *
+     * @implNote Mantém a verificação de conexão obsoleta a cada aluguel do cliente
+     * anterior: o servidor pode encerrar uma conexão ociosa a qualquer momento, e um
+     * POST enviado por ela falharia sem resposta em vez de ser reenviado
+     */
+    private static final int STALE_CHECK_AFTER_MS = 1;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private TransferStats transferStats;
+
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong connectionsReused = new AtomicLong();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RequestConfig defaultRequestConfig;
+    private ScheduledExecutorService evictor;
+
+    /**
+     * Inicializa o pool de conexões e a rotina de remoção de conexões ociosas
+     */
+    @PostConstruct
+    public void init() {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(apiConfig.getPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(apiConfig.getPoolMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(STALE_CHECK_AFTER_MS);
+
+        defaultRequestConfig = RequestConfig.custom()
+                .setConnectTimeout(apiConfig.getConnectTimeoutMs())
+                .build();
+
+        httpClient = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                .setRequestExecutor(new CountingRequestExecutor())
+                .addInterceptorLast((HttpResponse response, HttpContext context) -> {
+                    HttpEntity entity = response.getEntity();
+                    HttpRequest request = HttpClientContext.adapt(context).getRequest();
+                    if (entity != null && request != null) {
+                        String uri = request.getRequestLine().getUri();
+                        response.setEntity(new CountingEntity(entity, bytes -> transferStats.recordResponseWire(uri, bytes)));
+                    }
+                })
+                .disableContentCompression()
+                .disableCookieManagement()
+                .build();
+
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = apiConfig.getPoolEvictionIntervalMs();
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Encerra o pool e registra o resumo de uso das conexões
+     */
+    @PreDestroy
+    public void shutdown() {
+        logger.info("Pool HTTP encerrado: {} conexões abertas, {} reutilizadas",
+                connectionsOpened.get(), connectionsReused.get());
+        evictor.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            logger.warn("Falha ao encerrar o pool HTTP: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cria o cliente de uma requisição, apoiado no cliente compartilhado
+     *
+     * @return Adaptador descartável que envia a requisição pelo pool
+     * @implNote O adaptador é leve e não mantém conexões; quem mantém o pool é o
+     * cliente compartilhado
+     */
+    @Override
+    public HttpClient createHttpClient() {
+        return new PooledClientAdapter(this);
+    }
+
+    /**
+     * Aplica o cliente compartilhado a uma configuração existente do RestAssured
+     *
+     * @param config Configuração atual da requisição, podendo ser nula
+     * @return Nova configuração preservando as demais opções da original
+     * @implNote Também define a negociação de compressão conforme
+     * {@link ApiConfig#isCompressionEnabled()}. A instância do cliente não é
+     * reaproveitada pelo RestAssured: cada requisição recebe o seu adaptador
+     */
+    public RestAssuredConfig applyTo(RestAssuredConfig config) {
+        RestAssuredConfig base = config != null ? config : RestAssuredConfig.config();
+        DecoderConfig decoders = apiConfig.isCompressionEnabled()
+                ? base.getDecoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP, DecoderConfig.ContentDecoder.DEFLATE)
+                : base.getDecoderConfig().noContentDecoders();
+        return base.httpClient(base.getHttpClientConfig()
+                        .httpClientFactory(this)
+                        .dontReuseHttpClientInstance())
+                .decoderConfig(decoders);
+    }
+
+    /**
+     * Obtém o número de conexões TCP abertas pelo pool
+     *
+     * @return Total de conexões novas desde a inicialização
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    /**
+     * Obtém o número de requisições que reaproveitaram uma conexão existente
+     *
+     * @return Total de reutilizações desde a inicialização
+     */
+    public long getConnectionsReused() {
+        return connectionsReused.get();
+    }
+
+    /**
+     * Obtém as estatísticas instantâneas do pool (alugadas, disponíveis, pendentes)
+     *
+     * @return Estatísticas agregadas de todas as rotas
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    private void evictIdleConnections() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(apiConfig.getPoolIdleTimeoutMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Executor que contabiliza conexões novas e reaproveitadas
+     */
+    private class CountingRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        public HttpResponse execute(HttpRequest request, HttpClientConnection connection, HttpContext context)
+                throws IOException, HttpException {
+            if (connection.getMetrics().getRequestCount() == 0) {
+                connectionsOpened.incrementAndGet();
+            } else {
+                connectionsReused.incrementAndGet();
+            }
+            return super.execute(request, connection, context);
+        }
+    }
+
+    /**
+     * Cliente de uma única requisição do RestAssured, apoiado no cliente compartilhado
+     *
+     * @implNote Os parâmetros e interceptores que o RestAssured registra ficam neste
+     * adaptador; o envio é feito pelo cliente compartilhado, com um {@link RequestConfig}
+     * próprio no contexto da requisição. O gerenciador de conexões do adaptador existe
+     * apenas para satisfazer a API do RestAssured e nunca abre conexões
+     *
+     * @implNote A requisição é registrada no {@link RequestCancellation} da thread, de
+     * modo que um cancelamento feito por outra thread a aborte e feche a conexão
+     *
+     * @implNote Concentra todo o uso da API legada do HttpClient ({@link AbstractHttpClient},
+     * {@link ClientConnectionManager} e {@link HttpParams}) do projeto
+     */
+    // O RestAssured 5 só aceita clientes do tipo AbstractHttpClient, que é obsoleto
+    @SuppressWarnings("deprecation")
+    private static class PooledClientAdapter extends AbstractHttpClient {
+
+        /** Gerenciador exigido pelo construtor do {@link AbstractHttpClient}, nunca usado para abrir conexões */
+        private static final ClientConnectionManager UNUSED_CONNECTION_MANAGER = new BasicClientConnectionManager();
+
+        private final PooledHttpClientFactory factory;
+
+        PooledClientAdapter(PooledHttpClientFactory factory) {
+            super(UNUSED_CONNECTION_MANAGER, null);
+            this.factory = factory;
+        }
+
+        @Override
+        protected HttpParams createHttpParams() {
+            return new BasicHttpParams();
+        }
+
+        @Override
+        protected BasicHttpProcessor createHttpProcessor() {
+            return new BasicHttpProcessor();
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+            HttpClientContext clientContext = prepare(request, context);
+            return complete(request, factory.httpClient.execute(request, clientContext), clientContext);
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+            HttpClientContext clientContext = prepare(request, context);
+            return complete(request, factory.httpClient.execute(target, request, clientContext), clientContext);
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpHost target, HttpRequest request) throws IOException {
+            return execute(target, request, (HttpContext) null);
+        }
+
+        private HttpClientContext prepare(HttpRequest request, HttpContext context) throws IOException {
+            if (request instanceof HttpUriRequest) {
+                RequestCancellation.register(((HttpUriRequest) request)::abort);
+            }
+            HttpClientContext clientContext = HttpClientContext.adapt(context != null ? context : new BasicHttpContext());
+            clientContext.setRequestConfig(requestConfig(getParams()));
+            clientContext.setCredentialsProvider(getCredentialsProvider());
+            try {
+                getHttpProcessor().process(request, clientContext);
+            } catch (HttpException e) {
+                throw new ClientProtocolException(e);
+            }
+            return clientContext;
+        }
+
+        private CloseableHttpResponse complete(HttpRequest request, CloseableHttpResponse response,
+                                               HttpClientContext context) throws IOException {
+            try {
+                getHttpProcessor().process(response, context);
+            } catch (HttpException e) {
+                response.close();
+                throw new ClientProtocolException(e);
+            }
+            String uri = request.getRequestLine().getUri();
+            factory.transferStats.recordResponse(uri);
+            HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                response.setEntity(new CountingEntity(entity, bytes -> factory.transferStats.recordResponseDecoded(uri, bytes)));
+            }
+            return response;
+        }
+
+        /**
+         * Monta a configuração de uma requisição a partir dos parâmetros definidos pelo RestAssured
+         *
+         * @param params Parâmetros do adaptador da requisição
+         * @return Configuração com os timeouts e o redirecionamento da requisição
+         * @implNote O timeout publicado em {@link RequestTimeouts} prevalece sobre o
+         * timeout de leitura da especificação
+         */
+        private RequestConfig requestConfig(HttpParams params) {
+            RequestConfig defaults = factory.defaultRequestConfig;
+            RequestConfig.Builder builder = RequestConfig.copy(defaults)
+                    .setConnectTimeout(params.getIntParameter(PARAM_CONNECTION_TIMEOUT, defaults.getConnectTimeout()))
+                    .setSocketTimeout(params.getIntParameter(PARAM_SOCKET_TIMEOUT, defaults.getSocketTimeout()))
+                    .setRedirectsEnabled(params.getBooleanParameter(PARAM_HANDLE_REDIRECTS, defaults.isRedirectsEnabled()))
+                    .setCircularRedirectsAllowed(params.getBooleanParameter(PARAM_ALLOW_CIRCULAR_REDIRECTS,
+                            defaults.isCircularRedirectsAllowed()))
+                    .setMaxRedirects(params.getIntParameter(PARAM_MAX_REDIRECTS, defaults.getMaxRedirects()))
+                    .setRelativeRedirectsAllowed(!params.getBooleanParameter(PARAM_REJECT_RELATIVE_REDIRECT,
+                            !defaults.isRelativeRedirectsAllowed()));
+            int timeout = RequestTimeouts.currentOrDeadline();
+            if (timeout > 0) {
+                builder.setSocketTimeout(timeout);
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Entidade que contabiliza os bytes lidos do corpo
+     *
+     * @implNote Envolve o corpo comprimido, no cliente compartilhado, e o corpo já
+     * descomprimido pelo RestAssured, no adaptador
+     */
+    private static class CountingEntity extends HttpEntityWrapper {
+
+        private final LongConsumer counter;
+
+        CountingEntity(HttpEntity entity, LongConsumer counter) {
+            super(entity);
+            this.counter = counter;
+        }
+
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            try (InputStream input = getContent()) {
+                input.transferTo(output);
+            }
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value >= 0) {
+                        counter.accept(1);
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = super.read(buffer, offset, length);
+                    if (count > 0) {
+                        counter.accept(count);
+                    }
+                    return count;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.reqres.automation.service.transport;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * Cancelamento de uma requisição executada em outra thread
+ *
+ * @implNote Cancelar o {@code Future} da tarefa que faz a requisição não a
+ * interrompe: a leitura de socket do HttpClient ignora a interrupção da thread e o
+ * transporte do JDK aguarda o futuro do cliente com {@code join()}. Quem dispara uma
+ * requisição em segundo plano executa a chamada com {@link #run(Supplier)} e cada
+ * transporte registra aqui como abortar a requisição que está enviando: o
+ * {@code abort()} da requisição do HttpClient, que fecha a conexão alugada, ou o
+ * cancelamento do futuro do cliente do JDK, que encerra a troca
+ *
+ * @implSpec Um cancelamento solicitado antes do envio impede a chamada de começar;
+ * solicitado durante o envio, aborta a requisição registrada. O cancelamento é
+ * definitivo: chamadas seguintes executadas com a mesma instância falham com
+ * {@link CancellationException}
+ *
+ * @apiNote Pode ser reaproveitado por chamadas sequenciais, como as páginas de uma
+ * varredura; a requisição registrada é descartada ao final de cada chamada
+ */
+public final class RequestCancellation {
+
+    private static final ThreadLocal<RequestCancellation> CURRENT = new ThreadLocal<>();
+
+    /** Aborto da requisição em andamento; protegido pelo monitor da instância */
+    private Runnable abortAction;
+    private boolean cancelled;
+
+    /**
+     * Executa uma chamada que pode ser cancelada por outra thread
+     *
+     * @param call Envio da requisição
+     * @param <T> Tipo do resultado
+     * @return Resultado da chamada
+     * @throws CancellationException se o cancelamento foi solicitado antes do envio
+     */
+    public <T> T run(Supplier<T> call) {
+        RequestCancellation previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            if (isCancelled()) {
+                throw new CancellationException("Requisição cancelada antes do envio");
+            }
+            return call.get();
+        } finally {
+            synchronized (this) {
+                abortAction = null;
+            }
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Cancela a chamada, abortando a requisição em andamento
+     *
+     * @return true se uma requisição em andamento foi de fato abortada; false se o
+     * cancelamento já havia sido feito ou se nenhuma requisição estava em andamento
+     */
+    public boolean cancel() {
+        Runnable action;
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            action = abortAction;
+            abortAction = null;
+        }
+        if (action == null) {
+            return false;
+        }
+        action.run();
+        return true;
+    }
+
+    /**
+     * Indica se o cancelamento foi solicitado
+     *
+     * @return true após {@link #cancel()}
+     */
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Indica se a chamada em andamento na thread corrente teve o cancelamento solicitado
+     *
+     * @return true dentro de {@link #run(Supplier)} de um cancelamento já solicitado
+     * @apiNote Usado para não repetir uma requisição que falhou por ter sido abortada
+     */
+    public static boolean isCurrentCancelled() {
+        RequestCancellation cancellation = CURRENT.get();
+        return cancellation != null && cancellation.isCancelled();
+    }
+
+    /**
+     * Registra o aborto da requisição que o transporte está enviando na thread corrente
+     *
+     * @param abort Ação que aborta a requisição
+     * @implNote Sem cancelamento associado à thread nada é registrado; com o
+     * cancelamento já solicitado a requisição é abortada imediatamente
+     */
+    static void register(Runnable abort) {
+        RequestCancellation cancellation = CURRENT.get();
+        if (cancellation != null) {
+            cancellation.attach(abort);
+        }
+    }
+
+    private void attach(Runnable abort) {
+        boolean abortNow;
+        synchronized (this) {
+            abortNow = cancelled;
+            if (!abortNow) {
+                abortAction = abort;
+            }
+        }
+        if (abortNow) {
+            abort.run();
+        }
+    }
+}
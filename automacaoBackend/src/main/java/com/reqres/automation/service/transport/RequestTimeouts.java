@@ -0,0 +1,85 @@
+package com.reqres.automation.service.transport;
+
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+
+import java.util.function.Supplier;
+
+/**
+ * Timeout de leitura da requisição em andamento na thread corrente
+ *
+ * @implNote Os transportes não recebem a política do endpoint na assinatura de
+ * {@link HttpTransport#send}; o {@code BaseApiService} publica o timeout aqui
+ * durante o envio e cada transporte o aplica ao seu cliente: o pool do RestAssured
+ * ajusta o timeout de socket da conexão alugada e o cliente do JDK define o
+ * timeout da {@code HttpRequest}
+ *
+ * @implNote Nenhum dos dois limita a duração total da resposta: o timeout de socket
+ * vale para cada leitura isolada e o da {@code HttpRequest} para a chegada dos
+ * headers. Um corpo enviado aos poucos pode, portanto, ultrapassar o timeout e o prazo
+ *
+ * @implNote Chamadas feitas diretamente com {@code RestAssured.given()} não passam
+ * pelo serviço; para elas vale o tempo restante do prazo da thread, consultado em
+ * {@link #currentOrDeadline()}
+ *
+ * @implSpec Segue o padrão de design Utility Class com construtor privado.
+ * O valor é restaurado ao final de cada chamada, inclusive em chamadas aninhadas
+ */
+public class RequestTimeouts {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private RequestTimeouts() {
+    }
+
+    /**
+     * Executa uma chamada com o timeout informado
+     *
+     * @param timeoutMs Timeout de leitura em milissegundos; zero ou negativo mantém o padrão do cliente
+     * @param call Envio da requisição
+     * @param <T> Tipo do resultado
+     * @return Resultado da chamada
+     */
+    public static <T> T apply(int timeoutMs, Supplier<T> call) {
+        if (timeoutMs <= 0) {
+            return call.get();
+        }
+        Integer previous = CURRENT.get();
+        CURRENT.set(timeoutMs);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Obtém o timeout da requisição em andamento na thread corrente
+     *
+     * @return Timeout em milissegundos ou zero quando não definido
+     */
+    public static int current() {
+        Integer timeout = CURRENT.get();
+        return timeout != null ? timeout : 0;
+    }
+
+    /**
+     * Obtém o timeout publicado pelo serviço ou, na sua ausência, o tempo restante do prazo da thread
+     *
+     * @return Timeout em milissegundos ou zero quando nenhum se aplica
+     * @implNote Um prazo já expirado resulta em 1 ms, de modo que a chamada falhe
+     * imediatamente em vez de recair no timeout padrão do cliente
+     */
+    public static int currentOrDeadline() {
+        int timeout = current();
+        Deadline deadline = DeadlineContext.current();
+        if (timeout > 0 || deadline == null) {
+            return timeout;
+        }
+        return (int) Math.max(1, Math.min(deadline.remainingMs(), Integer.MAX_VALUE));
+    }
+}
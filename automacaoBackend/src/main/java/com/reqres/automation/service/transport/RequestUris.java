@@ -0,0 +1,96 @@
+package com.reqres.automation.service.transport;
+
+import io.restassured.specification.QueryableRequestSpecification;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Utilitário para resolução da URL completa de uma requisição
+ * 
+ * @implNote Combina URL base, base path, endpoint e parâmetros de query da
+ * especificação na mesma forma usada pelo RestAssured, servindo tanto ao
+ * transporte do JDK quanto às chaves de cache por URL
+ * 
+ * @implSpec Segue o padrão de design Utility Class com construtor privado
+ */
+public class RequestUris {
+    
+    /** Segmentos de path que identificam um recurso individual (IDs numéricos) */
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    
+    private RequestUris() {
+    }
+    
+    /**
+     * Resolve a URL absoluta de uma requisição
+     * 
+     * @param spec Especificação consultável da requisição
+     * @param endpoint Path relativo do endpoint ou URL absoluta
+     * @return URL completa, incluindo os parâmetros de query da especificação
+     */
+    public static String resolve(QueryableRequestSpecification spec, String endpoint) {
+        StringBuilder uri = new StringBuilder();
+        if (!isAbsolute(endpoint)) {
+            uri.append(spec.getBaseUri());
+            if (spec.getBasePath() != null) {
+                uri.append(spec.getBasePath());
+            }
+        }
+        uri.append(endpoint);
+        
+        Map<String, String> queryParams = spec.getQueryParams();
+        if (queryParams != null && !queryParams.isEmpty()) {
+            char separator = endpoint.indexOf('?') >= 0 ? '&' : '?';
+            for (Map.Entry<String, String> param : queryParams.entrySet()) {
+                uri.append(separator)
+                        .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return uri.toString();
+    }
+    
+    /**
+     * Normaliza uma URL ou path em uma chave de endpoint para agregação de métricas
+     * 
+     * @implNote Remove esquema, host e parâmetros de query e substitui segmentos
+     * numéricos por {@code {id}}, de modo que {@code /api/users/2} e
+     * {@code /api/users/7} são contabilizados como {@code /api/users/{id}}
+     * 
+     * @param url URL absoluta ou path da requisição
+     * @return Path normalizado do endpoint
+     */
+    public static String endpointKey(String url) {
+        return ID_SEGMENT.matcher(path(url)).replaceAll("/{id}");
+    }
+    
+    /**
+     * Extrai o path de uma URL, sem esquema, host e parâmetros de query
+     * 
+     * @param url URL absoluta ou path da requisição
+     * @return Path da requisição, sem a barra final
+     */
+    public static String path(String url) {
+        String path = url.trim();
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = path.indexOf('/', scheme + 3);
+            path = pathStart >= 0 ? path.substring(pathStart) : "/";
+        }
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        path = path.trim();
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+    
+    private static boolean isAbsolute(String endpoint) {
+        return endpoint.startsWith("http://") || endpoint.startsWith("https://");
+    }
+}
@@ -0,0 +1,51 @@
+package com.reqres.automation.service.transport;
+
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Transporte HTTP/1.1 baseado no RestAssured com conexões keep-alive compartilhadas
+ * 
+ * @implNote Executa os filtros da especificação (Allure, logging) normalmente,
+ * substituindo apenas a fábrica de clientes HTTP pela {@link PooledHttpClientFactory}
+ */
+@Component
+public class RestAssuredTransport implements HttpTransport {
+
+    @Autowired
+    private PooledHttpClientFactory httpClientFactory;
+
+    @Override
+    public Response send(Method method, RequestSpecification spec, String endpoint, Object payload) {
+        RequestSpecification request = request(spec);
+        if (payload != null) {
+            request.body(payload);
+        }
+        
+        return request
+                .when()
+                .request(method, endpoint)
+                .then()
+                .extract()
+                .response();
+    }
+
+    /**
+     * Prepara a requisição a partir da especificação recebida usando o cliente HTTP do pool
+     *
+     * @param spec Especificação completa da requisição
+     * @return Requisição pronta para execução sobre conexões keep-alive compartilhadas
+     * @implNote Preserva a configuração definida na especificação, substituindo apenas
+     * a fábrica de clientes HTTP
+     */
+    private RequestSpecification request(RequestSpecification spec) {
+        RequestSpecification request = given().spec(spec);
+        return request.config(httpClientFactory.applyTo(SpecificationQuerier.query(request).getConfig()));
+    }
+}
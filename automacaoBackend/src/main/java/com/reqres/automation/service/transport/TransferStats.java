@@ -0,0 +1,150 @@
+package com.reqres.automation.service.transport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de bytes transferidos por endpoint
+ * 
+ * @implNote Compara, para cada endpoint normalizado por
+ * {@link RequestUris#endpointKey(String)}, os bytes efetivamente trafegados na rede
+ * (comprimidos) com os bytes decodificados entregues aos testes, tanto nas
+ * respostas quanto nos corpos das requisições
+ * 
+ * @implSpec As respostas são contadas pelos transportes, que registram os dois lados
+ * na mesma camada: os bytes de rede conforme o corpo é lido do socket e os bytes
+ * decodificados conforme o corpo descomprimido é entregue. Assim toda resposta que
+ * entra na contagem de rede entra também na de decodificados, inclusive as de
+ * chamadas feitas diretamente com {@code RestAssured.given()}, como o login. Os corpos
+ * das requisições são contados pelo {@code CompressionInterceptor}
+ */
+@Component
+public class TransferStats {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TransferStats.class);
+    
+    private final Map<String, EndpointTransfer> endpoints = new ConcurrentHashMap<>();
+    
+    /**
+     * Contabiliza uma resposta recebida pelo transporte
+     * 
+     * @param url URL ou path da requisição
+     */
+    public void recordResponse(String url) {
+        endpoint(url).responses.increment();
+    }
+    
+    /**
+     * Contabiliza bytes de resposta lidos da rede
+     * 
+     * @param url URL ou path da requisição
+     * @param bytes Quantidade de bytes recebidos, antes da descompressão
+     */
+    public void recordResponseWire(String url, long bytes) {
+        endpoint(url).responseWireBytes.add(bytes);
+    }
+    
+    /**
+     * Contabiliza bytes de resposta entregues ao chamador
+     * 
+     * @param url URL ou path da requisição
+     * @param bytes Quantidade de bytes do corpo após a descompressão
+     */
+    public void recordResponseDecoded(String url, long bytes) {
+        endpoint(url).responseDecodedBytes.add(bytes);
+    }
+    
+    /**
+     * Contabiliza um corpo de requisição enviado
+     * 
+     * @param url URL ou path da requisição
+     * @param rawBytes Tamanho do corpo serializado
+     * @param wireBytes Tamanho efetivamente enviado, após eventual compressão
+     */
+    public void recordRequest(String url, long rawBytes, long wireBytes) {
+        EndpointTransfer transfer = endpoint(url);
+        transfer.requestRawBytes.add(rawBytes);
+        transfer.requestWireBytes.add(wireBytes);
+    }
+    
+    /**
+     * Obtém os contadores de todos os endpoints
+     * 
+     * @return Mapa ordenado de endpoint normalizado para seus contadores
+     */
+    public Map<String, EndpointTransfer> getEndpoints() {
+        return Collections.unmodifiableMap(new TreeMap<>(endpoints));
+    }
+    
+    /**
+     * Zera todos os contadores
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+    
+    /**
+     * Registra o resumo por endpoint ao encerrar o contexto
+     */
+    @PreDestroy
+    public void shutdown() {
+        getEndpoints().forEach((endpoint, transfer) -> logger.info(
+                "Transferência {}: {} respostas, {} bytes na rede / {} decodificados; requisições {} / {} bytes",
+                endpoint, transfer.getResponses(), transfer.getResponseWireBytes(),
+                transfer.getResponseDecodedBytes(), transfer.getRequestWireBytes(), transfer.getRequestRawBytes()));
+    }
+    
+    private EndpointTransfer endpoint(String url) {
+        return endpoints.computeIfAbsent(RequestUris.endpointKey(url), key -> new EndpointTransfer());
+    }
+    
+    /**
+     * Contadores acumulados de um endpoint
+     */
+    public static final class EndpointTransfer {
+        
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder responseWireBytes = new LongAdder();
+        private final LongAdder responseDecodedBytes = new LongAdder();
+        private final LongAdder requestRawBytes = new LongAdder();
+        private final LongAdder requestWireBytes = new LongAdder();
+        
+        public long getResponses() {
+            return responses.sum();
+        }
+        
+        public long getResponseWireBytes() {
+            return responseWireBytes.sum();
+        }
+        
+        public long getResponseDecodedBytes() {
+            return responseDecodedBytes.sum();
+        }
+        
+        public long getRequestRawBytes() {
+            return requestRawBytes.sum();
+        }
+        
+        public long getRequestWireBytes() {
+            return requestWireBytes.sum();
+        }
+        
+        /**
+         * Obtém a razão entre bytes na rede e bytes decodificados das respostas
+         * 
+         * @return Valor entre 0 e 1 quando há compressão, 1 sem compressão, ou 0 sem respostas
+         */
+        public double getResponseCompressionRatio() {
+            long decoded = getResponseDecodedBytes();
+            return decoded == 0 ? 0 : (double) getResponseWireBytes() / decoded;
+        }
+    }
+}
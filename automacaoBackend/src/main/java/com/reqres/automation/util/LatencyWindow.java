@@ -0,0 +1,64 @@
+package com.reqres.automation.util;
+
+import java.util.Arrays;
+
+/**
+ * Janela deslizante com as latências mais recentes de um endpoint
+ * 
+ * @implNote Armazena as últimas amostras em um buffer circular de tamanho fixo,
+ * de modo que percentis refletem o comportamento recente do servidor e o consumo
+ * de memória é constante
+ * 
+ * @implSpec Thread-safe: todas as operações são sincronizadas na instância
+ */
+public class LatencyWindow {
+    
+    private final long[] samples;
+    private int next;
+    private int count;
+    
+    /**
+     * Cria uma janela com a capacidade informada
+     * 
+     * @param capacity Número máximo de amostras mantidas
+     */
+    public LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+    
+    /**
+     * Adiciona uma amostra, descartando a mais antiga quando a janela está cheia
+     * 
+     * @param latencyMs Latência observada em milissegundos
+     */
+    public synchronized void record(long latencyMs) {
+        samples[next] = latencyMs;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+    
+    /**
+     * Calcula um percentil das amostras atuais
+     * 
+     * @param percentile Percentil entre 0 e 100
+     * @return Latência do percentil em milissegundos, ou -1 quando a janela está vazia
+     */
+    public synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+    
+    /**
+     * Obtém o número de amostras na janela
+     * 
+     * @return Quantidade de amostras, limitada à capacidade
+     */
+    public synchronized int size() {
+        return count;
+    }
+}
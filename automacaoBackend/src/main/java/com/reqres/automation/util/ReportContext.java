@@ -0,0 +1,146 @@
+package com.reqres.automation.util;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Contexto de relatório do Allure capturado na thread que submete uma tarefa
+ *
+ * @implNote O Allure guarda o teste e o passo em andamento em um
+ * {@code InheritableThreadLocal}: uma thread de pool (executor de I/O, callbacks do
+ * cliente HTTP do JDK, renovação de tokens) herda o contexto do teste que a criou, e
+ * não o de quem submeteu a tarefa, de modo que anexos e passos registrados nela vão
+ * para o teste errado ou se perdem. O contexto é capturado na submissão e, na thread
+ * de execução, abre um passo filho do teste ou passo do chamador durante a tarefa;
+ * ao final o passo é encerrado e a pilha de contexto da thread volta ao estado anterior
+ *
+ * @implSpec Sem teste em andamento na captura, ou com {@link #detached()}, a tarefa
+ * executa desvinculada de qualquer teste: os anexos e passos do {@link ReportManager}
+ * são apenas registrados no log
+ *
+ * @apiNote Contextos são imutáveis e podem ser reaproveitados por várias tarefas,
+ * inclusive concorrentes
+ */
+public final class ReportContext {
+
+    private static final ReportContext DETACHED = new ReportContext(null);
+
+    private static final ThreadLocal<ReportContext> BOUND = new ThreadLocal<>();
+
+    /** Teste ou passo do chamador, ou null quando desvinculado */
+    private final String parentUuid;
+
+    private ReportContext(String parentUuid) {
+        this.parentUuid = parentUuid;
+    }
+
+    /**
+     * Captura o teste ou passo em andamento na thread corrente
+     *
+     * @return Contexto do chamador, desvinculado quando não há teste em andamento
+     */
+    public static ReportContext capture() {
+        if (isDetached()) {
+            return DETACHED;
+        }
+        return Allure.getLifecycle().getCurrentTestCaseOrStep()
+                .map(ReportContext::new)
+                .orElse(DETACHED);
+    }
+
+    /**
+     * Obtém um contexto que não registra nada no relatório
+     *
+     * @return Contexto desvinculado de qualquer teste
+     * @apiNote Destinado a tarefas de infraestrutura que não pertencem a um teste,
+     * como a renovação de tokens em segundo plano
+     */
+    public static ReportContext detached() {
+        return DETACHED;
+    }
+
+    /**
+     * Indica se a thread corrente executa uma tarefa desvinculada de qualquer teste
+     *
+     * @return true dentro de uma tarefa executada com um contexto desvinculado
+     */
+    public static boolean isDetached() {
+        ReportContext bound = BOUND.get();
+        return bound != null && bound.parentUuid == null;
+    }
+
+    /**
+     * Executa uma tarefa neste contexto
+     *
+     * @param stepName Nome do passo aberto no teste do chamador
+     * @param task Tarefa a ser executada
+     * @param <T> Tipo do resultado
+     * @return Resultado da tarefa
+     */
+    public <T> T call(String stepName, Supplier<T> task) {
+        ReportContext previous = BOUND.get();
+        BOUND.set(this);
+        String stepUuid = parentUuid != null ? startStep(stepName) : null;
+        try {
+            T result = task.get();
+            if (stepUuid != null) {
+                Allure.getLifecycle().updateStep(stepUuid, step -> step.setStatus(Status.PASSED));
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            if (stepUuid != null) {
+                Allure.getLifecycle().updateStep(stepUuid, step -> step
+                        .setStatus(ResultsUtils.getStatus(e).orElse(Status.BROKEN))
+                        .setStatusDetails(ResultsUtils.getStatusDetails(e).orElse(null)));
+            }
+            throw e;
+        } finally {
+            if (stepUuid != null) {
+                Allure.getLifecycle().stopStep(stepUuid);
+            }
+            if (previous != null) {
+                BOUND.set(previous);
+            } else {
+                BOUND.remove();
+            }
+        }
+    }
+
+    /**
+     * Executa uma tarefa sem resultado neste contexto
+     *
+     * @param stepName Nome do passo aberto no teste do chamador
+     * @param task Tarefa a ser executada
+     */
+    public void run(String stepName, Runnable task) {
+        call(stepName, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Envolve uma tarefa para que seja executada neste contexto na thread que a executar
+     *
+     * @param stepName Nome do passo aberto no teste do chamador
+     * @param task Tarefa a ser envolvida
+     * @param <T> Tipo do resultado
+     * @return Tarefa vinculada a este contexto
+     */
+    public <T> Supplier<T> wrap(String stepName, Supplier<T> task) {
+        return () -> call(stepName, task);
+    }
+
+    private String startStep(String stepName) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String stepUuid = UUID.randomUUID().toString();
+        lifecycle.startStep(parentUuid, stepUuid, new StepResult().setName(stepName));
+        return stepUuid;
+    }
+}
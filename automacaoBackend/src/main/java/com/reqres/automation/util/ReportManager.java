@@ -6,6 +6,8 @@ import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 /**
  * Utilitário centralizado para gerenciamento de relatórios e logs dos testes
  * 
@@ -19,6 +21,11 @@ import org.slf4j.LoggerFactory;
  * @apiNote Esta classe implementa fallback para logging via System.out
  * quando o SLF4J não estiver configurado corretamente, garantindo
  * visibilidade de logs em qualquer ambiente de execução
+ * 
+ * @implNote Em tarefas executadas com um {@link ReportContext} desvinculado
+ * (infraestrutura em segundo plano) os anexos e passos são apenas registrados no
+ * log; por isso as anotações do Allure ficam em métodos privados, chamados somente
+ * quando há um teste ao qual o registro pertence
  */
 public class ReportManager {
     
@@ -128,11 +135,15 @@ public class ReportManager {
      * @implNote Utiliza {@link Attachment} do Allure para incluir o JSON
      * como evidência no relatório, com type definido para formatação adequada
      */
-    @Attachment(value = "Request Body", type = "application/json")
     public static String attachRequestBody(String requestBody) {
         String safeRequestBody = requestBody != null ? requestBody : "{}";
         logInfo("Request Body: {}", safeRequestBody);
-        return safeRequestBody;
+        return ReportContext.isDetached() ? safeRequestBody : requestBodyAttachment(safeRequestBody);
+    }
+    
+    @Attachment(value = "Request Body", type = "application/json")
+    private static String requestBodyAttachment(String requestBody) {
+        return requestBody;
     }
     
     /**
@@ -143,8 +154,17 @@ public class ReportManager {
      * @implNote Implementa validação de nulidade e tratamento de exceções para
      * garantir que o relatório seja gerado mesmo em caso de respostas problemáticas
      */
-    @Attachment(value = "Response Body", type = "application/json")
     public static String attachResponseBody(Response response) {
+        String responseBody = responseBody(response);
+        return ReportContext.isDetached() ? responseBody : responseBodyAttachment(responseBody);
+    }
+    
+    @Attachment(value = "Response Body", type = "application/json")
+    private static String responseBodyAttachment(String responseBody) {
+        return responseBody;
+    }
+    
+    private static String responseBody(Response response) {
         if (response == null) {
             logInfo("Response is null");
             return "{}";
@@ -160,6 +180,25 @@ public class ReportManager {
         }
     }
     
+    /**
+     * Anexa ao relatório Allure uma mensagem HTTP completa
+     * 
+     * @param title Título do anexo, como "Request" ou a linha de status da resposta
+     * @param message Linha inicial, headers e corpo da mensagem
+     * @return O mesmo texto da mensagem
+     * @implNote Utilizado por transportes que não executam os filtros do RestAssured,
+     * para manter no relatório as mesmas evidências do {@code AllureRestAssured}
+     */
+    public static String attachHttpMessage(String title, String message) {
+        logInfo("{}:\n{}", title, message);
+        return ReportContext.isDetached() ? message : httpMessageAttachment(title, message);
+    }
+    
+    @Attachment(value = "{title}", type = "text/plain")
+    private static String httpMessageAttachment(String title, String message) {
+        return message;
+    }
+    
     /**
      * Anexa mensagem de erro ao relatório Allure como evidência
      * 
@@ -168,9 +207,57 @@ public class ReportManager {
      * @implNote Registra o erro tanto no log quanto no relatório Allure,
      * proporcionando visibilidade do problema em múltiplos canais
      */
-    @Attachment(value = "Error Message", type = "text/plain")
     public static String attachErrorMessage(String message) {
         logError("Error: {}", message);
+        return ReportContext.isDetached() ? message : errorMessageAttachment(message);
+    }
+    
+    @Attachment(value = "Error Message", type = "text/plain")
+    private static String errorMessageAttachment(String message) {
         return message;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Anexa um conjunto de métricas ao relatório Allure
+     * 
+     * @param title Título do anexo exibido no relatório
+     * @param metrics Métricas em ordem de exibição (nome → valor)
+     * @return Texto do anexo com uma métrica por linha
+     * @implNote Utilizado por componentes de infraestrutura (pool, retry, benchmarks)
+     * para expor contadores e tempos como evidência da execução
+     */
+    public static String attachMetrics(String title, Map<String, ?> metrics) {
+        StringBuilder text = new StringBuilder();
+        if (metrics != null) {
+            metrics.forEach((name, value) -> text.append(name).append(": ").append(value).append('\n'));
+        }
+        logInfo("{}:\n{}", title, text);
+        return ReportContext.isDetached() ? text.toString() : metricsAttachment(title, text.toString());
+    }
+    
+    @Attachment(value = "{title}", type = "text/plain")
+    private static String metricsAttachment(String title, String text) {
+        return text;
+    }
+    
+    /**
+     * Registra a mudança de estado de um componente de resiliência no relatório
+     * 
+     * @param component Nome do componente, por exemplo "Circuit breaker"
+     * @param name Identificação da instância, por exemplo o endpoint
+     * @param from Estado anterior
+     * @param to Novo estado
+     * @implNote Utiliza {@link Step} para que a transição apareça como um passo
+     * do teste em execução no momento da mudança
+     */
+    public static void logStateTransition(String component, String name, String from, String to) {
+        logInfo("{} {}: {} -> {}", component, name, from, to);
+        if (!ReportContext.isDetached()) {
+            stateTransitionStep(component, name, from, to);
+        }
+    }
+    
+    @Step("{component} {name}: {from} -> {to}")
+    private static void stateTransitionStep(String component, String name, String from, String to) {
+    }
+}
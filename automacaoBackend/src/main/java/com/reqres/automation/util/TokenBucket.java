@@ -0,0 +1,130 @@
+package com.reqres.automation.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de taxa no modelo token bucket
+ *
+ * @implNote Os tokens são repostos continuamente à taxa configurada, até a
+ * capacidade do balde, calculada no momento de cada aquisição a partir do tempo
+ * decorrido; não há thread de reposição
+ *
+ * @implSpec Thread-safe: a reserva do token é sincronizada e pode deixar o saldo
+ * negativo, de modo que cada chamador conhece seu tempo de espera na ordem de
+ * chegada e aguarda fora do lock, sem bloquear os demais
+ *
+ * @apiNote A taxa pode ser ajustada em execução com {@link #setRatePerSecond(double)};
+ * os tokens acumulados até o ajuste são preservados
+ */
+public class TokenBucket {
+
+    /** Retorno de {@link #acquire(long)} quando a espera excederia o limite informado */
+    public static final long NOT_ACQUIRED = -1;
+
+    private double ratePerSecond;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Cria um balde cheio
+     *
+     * @param ratePerSecond Tokens repostos por segundo, maior que zero
+     * @param capacity Número máximo de tokens acumulados (rajada permitida)
+     */
+    public TokenBucket(double ratePerSecond, double capacity) {
+        if (ratePerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Taxa e capacidade inválidas: " + ratePerSecond + "/s, " + capacity);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Adquire um token, aguardando a reposição quando o balde está vazio
+     *
+     * @return Tempo aguardado em milissegundos
+     */
+    public long acquire() {
+        return acquire(Long.MAX_VALUE);
+    }
+
+    /**
+     * Adquire um token somente se a espera pela reposição não exceder o limite informado
+     *
+     * @param maxWaitMs Espera máxima aceita em milissegundos
+     * @return Tempo aguardado em milissegundos, ou {@link #NOT_ACQUIRED} sem aguardar
+     * quando a espera excederia o limite
+     * @implNote Quando a espera excede o limite nenhum token é reservado, de modo que
+     * a recusa não atrasa os chamadores seguintes
+     */
+    public long acquire(long maxWaitMs) {
+        long waitNanos = reserve(maxWaitMs);
+        if (waitNanos < 0) {
+            return NOT_ACQUIRED;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Aguardando limite de taxa interrompido", e);
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    /**
+     * Adquire um token somente se houver um disponível imediatamente
+     *
+     * @return true se o token foi adquirido
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Altera a taxa de reposição, contabilizando à taxa anterior o tempo já decorrido
+     *
+     * @param ratePerSecond Nova taxa em tokens por segundo, maior que zero
+     */
+    public synchronized void setRatePerSecond(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Taxa inválida: " + ratePerSecond + "/s");
+        }
+        refill();
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public synchronized double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public double getCapacity() {
+        return capacity;
+    }
+
+    private synchronized long reserve(long maxWaitMs) {
+        refill();
+        long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) / ratePerSecond * TimeUnit.SECONDS.toNanos(1));
+        if (waitNanos > TimeUnit.MILLISECONDS.toNanos(maxWaitMs)) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * ratePerSecond / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reqres.automation.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Utilitário de acesso às virtual threads em JDKs que as suportam
+ * 
+ * @implNote O projeto é compilado para Java 11, por isso a API de virtual threads
+ * (Java 21+) é localizada por reflexão em tempo de execução. Em JDKs anteriores
+ * {@link #isSupported()} retorna false e os chamadores devem recorrer a threads
+ * de plataforma
+ * 
+ * @implSpec Segue o padrão de design Utility Class com construtor privado
+ */
+public class VirtualThreads {
+    
+    /** Handle para {@code Executors.newVirtualThreadPerTaskExecutor()}, ou null se indisponível */
+    private static final MethodHandle NEW_PER_TASK_EXECUTOR = lookupPerTaskExecutor();
+    
+    private VirtualThreads() {
+    }
+    
+    /**
+     * Indica se o JDK em execução oferece virtual threads
+     * 
+     * @return true em Java 21 ou superior
+     */
+    public static boolean isSupported() {
+        return NEW_PER_TASK_EXECUTOR != null;
+    }
+    
+    /**
+     * Cria um executor que inicia uma nova virtual thread para cada tarefa
+     * 
+     * @return Executor de virtual threads
+     * @throws UnsupportedOperationException se o JDK não suportar virtual threads
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        if (NEW_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads requerem Java 21 ou superior (atual: "
+                    + System.getProperty("java.version") + ")");
+        }
+        try {
+            return (ExecutorService) NEW_PER_TASK_EXECUTOR.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao criar executor de virtual threads: " + e.getMessage(), e);
+        }
+    }
+    
+    private static MethodHandle lookupPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(java.util.concurrent.Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reqres.automation.benchmark;
+
+import com.reqres.automation.util.ReportManager;
+import com.reqres.automation.util.VirtualThreads;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de fan-out de trabalho limitado por I/O
+ * 
+ * @implNote Compara o pool ForkJoin dimensionado pela estratégia dinâmica configurada
+ * em {@code junit-platform.properties} (fator 0.5 sobre o número de núcleos) com um
+ * executor de virtual threads. Cada tarefa simula uma chamada de API bloqueante
+ * 
+ * @implSpec Desabilitado por padrão; executar com
+ * {@code mvn test -Dtest=ExecutionModeBenchmark -Dbenchmark=true}, em JDK 21+ para
+ * medir virtual threads. Quantidade de tarefas e latência simulada podem ser
+ * ajustadas com {@code -Dbenchmark.tasks} e {@code -Dbenchmark.latency.ms}
+ */
+@Epic("Infraestrutura")
+@Feature("Modos de execução")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ExecutionModeBenchmark {
+    
+    /** Fator da estratégia dinâmica configurada em junit-platform.properties */
+    private static final double DYNAMIC_FACTOR = 0.5;
+    
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 200);
+    private static final long LATENCY_MS = Long.getLong("benchmark.latency.ms", 20);
+    
+    @Test
+    @DisplayName("Deve comparar estratégia dinâmica com virtual threads no fan-out de I/O")
+    @Description("Mede o tempo total para executar chamadas bloqueantes simuladas em cada modo de execução")
+    public void compareDynamicFactorWithVirtualThreads() throws Exception {
+        int parallelism = Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * DYNAMIC_FACTOR));
+        
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Tarefas", TASKS);
+        metrics.put("Latência simulada (ms)", LATENCY_MS);
+        metrics.put("Paralelismo dinâmico", parallelism);
+        metrics.put("Estratégia dinâmica (ms)", measure(new ForkJoinPool(parallelism)));
+        
+        if (VirtualThreads.isSupported()) {
+            metrics.put("Virtual threads (ms)", measure(VirtualThreads.newPerTaskExecutor()));
+        } else {
+            metrics.put("Virtual threads (ms)", "não suportado em Java " + System.getProperty("java.version"));
+        }
+        
+        ReportManager.attachMetrics("Benchmark de modos de execução", metrics);
+    }
+    
+    private long measure(ExecutorService executor) throws Exception {
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                futures.add(executor.submit(() -> {
+                    Thread.sleep(LATENCY_MS);
+                    return 1;
+                }));
+            }
+            int completed = 0;
+            for (Future<Integer> future : futures) {
+                completed += future.get();
+            }
+            assertEquals(TASKS, completed, "Todas as tarefas devem ser concluídas");
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
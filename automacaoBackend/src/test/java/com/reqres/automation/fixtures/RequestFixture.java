@@ -1,6 +1,7 @@
 package com.reqres.automation.fixtures;
 
 import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.transport.PooledHttpClientFactory;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.filter.log.RequestLoggingFilter;
@@ -13,6 +14,10 @@ import org.springframework.stereotype.Component;
 /**
  * Classe responsável por criar e configurar as especificações de requisição
  * Implementa o padrão de projeto Fixture para isolamento dos testes
+ * 
+ * @implNote Todas as especificações usam o cliente HTTP compartilhado e a negociação
+ * de compressão gzip/deflate definidos pela {@link PooledHttpClientFactory}, inclusive
+ * quando os testes chamam {@code RestAssured.given().spec(...)} diretamente
  */
 @Component
 public class RequestFixture {
@@ -20,6 +25,9 @@ public class RequestFixture {
     @Autowired
     private ApiConfig apiConfig;
 
+    @Autowired
+    private PooledHttpClientFactory httpClientFactory;
+
     /**
      * Cria uma especificação de requisição base com configurações comuns
      * @return Especificação de requisição configurada
@@ -28,6 +36,7 @@ public class RequestFixture {
         return new RequestSpecBuilder()
                 .setBaseUri(apiConfig.getBaseUrl())
                 .setContentType(ContentType.JSON)
+                .setConfig(httpClientFactory.applyTo(null))
                 .addFilter(new AllureRestAssured())
                 .addFilter(new RequestLoggingFilter())
                 .addFilter(new ResponseLoggingFilter())
@@ -42,6 +51,7 @@ public class RequestFixture {
         return new RequestSpecBuilder()
                 .setBaseUri(apiConfig.getBaseUrl())
                 .setContentType(ContentType.JSON)
+                .setConfig(httpClientFactory.applyTo(null))
                 .addHeader("X-API-KEY", apiConfig.getApiKey())
                 .addFilter(new AllureRestAssured())
                 .addFilter(new RequestLoggingFilter())
@@ -58,6 +68,7 @@ public class RequestFixture {
         RequestSpecBuilder builder = new RequestSpecBuilder()
                 .setBaseUri(apiConfig.getBaseUrl())
                 .setContentType(ContentType.JSON)
+                .setConfig(httpClientFactory.applyTo(null))
                 .addHeader("X-API-KEY", apiConfig.getApiKey())
                 .addFilter(new AllureRestAssured())
                 .addFilter(new RequestLoggingFilter())
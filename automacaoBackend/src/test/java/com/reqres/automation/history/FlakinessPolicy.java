@@ -0,0 +1,133 @@
+package com.reqres.automation.history;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Política de detecção e reexecução de testes instáveis
+ *
+ * @implNote Uma falha só é reexecutada quando o teste tem ao menos
+ * {@code reqres.flaky.min.runs} resultados no histórico e índice de instabilidade
+ * a partir de {@code reqres.flaky.threshold}; falhas de testes estáveis indicam
+ * regressões e não são repetidas. Cada teste é reexecutado até
+ * {@code reqres.flaky.rerun.max.attempts} vezes e a execução inteira consome no
+ * máximo {@code reqres.flaky.rerun.budget} reexecuções
+ *
+ * @implSpec A política é criada uma única vez por JVM e o orçamento é compartilhado
+ * por todas as threads; cada reexecução o consome de forma atômica
+ */
+public class FlakinessPolicy {
+
+    /** Parâmetro de configuração do JUnit que habilita as reexecuções */
+    public static final String RERUN_ENABLED_PARAMETER = "reqres.flaky.rerun.enabled";
+
+    /** Parâmetro de configuração do JUnit com o índice mínimo de instabilidade */
+    public static final String THRESHOLD_PARAMETER = "reqres.flaky.threshold";
+
+    /** Parâmetro de configuração do JUnit com o número mínimo de resultados no histórico */
+    public static final String MIN_RUNS_PARAMETER = "reqres.flaky.min.runs";
+
+    /** Parâmetro de configuração do JUnit com o número máximo de reexecuções por teste */
+    public static final String MAX_ATTEMPTS_PARAMETER = "reqres.flaky.rerun.max.attempts";
+
+    /** Parâmetro de configuração do JUnit com o número máximo de reexecuções na execução */
+    public static final String BUDGET_PARAMETER = "reqres.flaky.rerun.budget";
+
+    /** Parâmetro de configuração do JUnit com o arquivo do relatório de testes instáveis */
+    public static final String REPORT_PARAMETER = "reqres.flaky.report.path";
+
+    private static FlakinessPolicy loaded;
+
+    private final boolean rerunEnabled;
+    private final double threshold;
+    private final int minRuns;
+    private final int maxAttempts;
+    private final int budget;
+    private final String reportPath;
+    private final AtomicInteger remaining;
+
+    private FlakinessPolicy(boolean rerunEnabled, double threshold, int minRuns, int maxAttempts, int budget,
+                            String reportPath) {
+        this.rerunEnabled = rerunEnabled;
+        this.threshold = threshold;
+        this.minRuns = minRuns;
+        this.maxAttempts = maxAttempts;
+        this.budget = budget;
+        this.reportPath = reportPath;
+        this.remaining = new AtomicInteger(budget);
+    }
+
+    /**
+     * Obtém a política da execução
+     *
+     * @param parameters Acesso aos parâmetros de configuração do JUnit
+     * @return Política compartilhada da JVM, com os valores configurados ou os padrões
+     */
+    public static synchronized FlakinessPolicy load(Function<String, Optional<String>> parameters) {
+        if (loaded == null) {
+            loaded = from(parameters);
+        }
+        return loaded;
+    }
+
+    private static FlakinessPolicy from(Function<String, Optional<String>> parameters) {
+        return new FlakinessPolicy(
+                parameters.apply(RERUN_ENABLED_PARAMETER).map(Boolean::parseBoolean).orElse(true),
+                parameters.apply(THRESHOLD_PARAMETER).map(Double::parseDouble).orElse(0.3),
+                parameters.apply(MIN_RUNS_PARAMETER).map(Integer::parseInt).orElse(5),
+                parameters.apply(MAX_ATTEMPTS_PARAMETER).map(Integer::parseInt).orElse(2),
+                parameters.apply(BUDGET_PARAMETER).map(Integer::parseInt).orElse(10),
+                parameters.apply(REPORT_PARAMETER).orElse("target/flaky-tests.json"));
+    }
+
+    /**
+     * Indica se a falha de um teste pode ser reexecutada
+     *
+     * @param history Histórico de resultados
+     * @param testId Identificação no formato {@code Classe#método}
+     * @return true quando as reexecuções estão habilitadas e o teste é considerado instável
+     */
+    public boolean isRerunCandidate(TestHistory history, String testId) {
+        return rerunEnabled && history.outcomeCount(testId) >= minRuns
+                && history.flakinessScore(testId) >= threshold;
+    }
+
+    /**
+     * Consome uma reexecução do orçamento da execução
+     *
+     * @return true quando havia orçamento disponível
+     */
+    public boolean tryAcquireRerun() {
+        return remaining.getAndUpdate(value -> value > 0 ? value - 1 : value) > 0;
+    }
+
+    /**
+     * Obtém o número de reexecuções já consumidas
+     *
+     * @return Reexecuções realizadas na execução
+     */
+    public int getRerunsUsed() {
+        return budget - remaining.get();
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public int getMinRuns() {
+        return minRuns;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public String getReportPath() {
+        return reportPath;
+    }
+}
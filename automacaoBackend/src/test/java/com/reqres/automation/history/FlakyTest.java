@@ -0,0 +1,28 @@
+package com.reqres.automation.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Teste com resultados instáveis segundo o histórico
+ *
+ * @implNote Utiliza o padrão de design DTO para o relatório de testes instáveis
+ * gravado ao final da execução
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlakyTest {
+    /** Identificação no formato {@code Classe#método} */
+    private String testId;
+
+    /** Índice de instabilidade, entre 0 e 1 */
+    private double score;
+
+    /** Número de resultados considerados */
+    private int runs;
+
+    /** Número de falhas entre os resultados considerados */
+    private long failures;
+}
@@ -0,0 +1,33 @@
+package com.reqres.automation.history;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * Ordena as classes de teste da maior para a menor duração histórica (LPT)
+ *
+ * @implNote Na execução paralela as classes são submetidas ao pool na ordem
+ * definida aqui; iniciar primeiro as mais longas evita que uma classe lenta comece
+ * tarde e estenda o tempo total enquanto os demais workers ficam ociosos, como no
+ * escalonamento Longest Processing Time. Classes sem histórico recebem a duração
+ * média por teste
+ *
+ * @apiNote Com {@code reqres.scheduling.order=default} a ordem de descoberta é
+ * mantida, permitindo comparar o makespan das duas ordenações
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        if (!TestHistory.isLptOrdering(context::getConfigurationParameter)) {
+            return;
+        }
+        TestHistory history = TestHistory.load(context::getConfigurationParameter);
+        context.getClassDescriptors().sort(Comparator.comparingDouble(
+                (ClassDescriptor descriptor) -> history.estimateClassMs(descriptor.getTestClass().getName()))
+                .reversed());
+    }
+}
@@ -0,0 +1,29 @@
+package com.reqres.automation.history;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * Ordena os testes de uma classe da maior para a menor duração histórica (LPT)
+ *
+ * @implNote Complementa o {@link LongestFirstClassOrderer} dentro de cada classe,
+ * substituindo a ordem fixa por {@code @Order}, que não reflete o custo real dos
+ * testes na execução concorrente. Testes sem histórico recebem a duração média
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        if (!TestHistory.isLptOrdering(context::getConfigurationParameter)) {
+            return;
+        }
+        TestHistory history = TestHistory.load(context::getConfigurationParameter);
+        String className = context.getTestClass().getName();
+        context.getMethodDescriptors().sort(Comparator.comparingDouble(
+                (MethodDescriptor descriptor) -> history.estimateOrMeanMs(className + "#" + descriptor.getMethod().getName()))
+                .reversed());
+    }
+}
@@ -0,0 +1,181 @@
+package com.reqres.automation.history;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cache incremental de resultados de testes aprovados
+ *
+ * @implNote Associa o identificador único de cada teste aprovado à
+ * {@link TestFingerprint} das suas entradas na execução em que passou. Enquanto a
+ * impressão digital não muda, o teste pode ser ignorado e reportado como resultado
+ * em cache, como no cache de build do Gradle; uma falha remove a entrada
+ *
+ * @implSpec Habilitado com {@code reqres.result.cache.enabled=true} e gravado por
+ * padrão em {@code .test-history/result-cache.json} ({@code reqres.result.cache.path})
+ *
+ * @implNote Na execução em shards cada JVM grava o cache em um arquivo próprio
+ * ({@code reqres.result.cache.output}) e o {@code ShardedTestRunner} incorpora ao
+ * cache principal apenas as entradas das classes executadas por cada shard, de modo
+ * que um shard não sobrescreve com o estado lido na partida o que outro invalidou
+ */
+public class ResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+
+    /** Parâmetro de configuração do JUnit que habilita o cache */
+    public static final String ENABLED_PARAMETER = "reqres.result.cache.enabled";
+
+    /** Parâmetro de configuração do JUnit com o caminho do arquivo do cache */
+    public static final String PATH_PARAMETER = "reqres.result.cache.path";
+
+    /** Parâmetro de configuração do JUnit com o arquivo em que o cache é gravado, quando diferente do lido */
+    public static final String OUTPUT_PARAMETER = "reqres.result.cache.output";
+
+    /** Caminho padrão do arquivo do cache, relativo ao módulo */
+    public static final String DEFAULT_PATH = ".test-history/result-cache.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final File output;
+    private final Map<String, String> passed;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger stored = new AtomicInteger();
+
+    private ResultCache(File output, Map<String, String> passed) {
+        this.output = output;
+        this.passed = passed;
+    }
+
+    /**
+     * Indica se o cache está habilitado
+     *
+     * @param parameters Acesso aos parâmetros de configuração do JUnit
+     * @return true quando {@code reqres.result.cache.enabled=true}
+     */
+    public static boolean isEnabled(Function<String, Optional<String>> parameters) {
+        return parameters.apply(ENABLED_PARAMETER).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Lê o cache do arquivo configurado
+     *
+     * @param parameters Acesso aos parâmetros de configuração do JUnit
+     * @return Cache lido, vazio quando o arquivo não existe ou é ilegível
+     * @implNote Com {@code reqres.result.cache.output} o cache é lido do caminho
+     * configurado e gravado no arquivo indicado, como fazem as JVMs de cada shard
+     */
+    public static ResultCache load(Function<String, Optional<String>> parameters) {
+        String path = parameters.apply(PATH_PARAMETER).orElse(DEFAULT_PATH);
+        return read(new File(path), new File(parameters.apply(OUTPUT_PARAMETER).orElse(path)));
+    }
+
+    /**
+     * Lê um arquivo de cache
+     *
+     * @param file Arquivo de cache; um arquivo inexistente resulta em cache vazio
+     * @return Cache lido, gravado no mesmo arquivo
+     */
+    public static ResultCache read(File file) {
+        return read(file, file);
+    }
+
+    private static ResultCache read(File file, File output) {
+        if (!file.isFile()) {
+            return new ResultCache(output, new TreeMap<>());
+        }
+        try {
+            return new ResultCache(output, OBJECT_MAPPER.readValue(file, new TypeReference<TreeMap<String, String>>() { }));
+        } catch (IOException e) {
+            logger.warn("Cache de resultados {} ignorado: {}", file, e.getMessage());
+            return new ResultCache(output, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Verifica se um teste passou com as mesmas entradas
+     *
+     * @param uniqueId Identificador único do teste na JUnit Platform
+     * @param fingerprint Impressão digital atual das entradas do teste
+     * @return true quando o resultado aprovado em cache pode ser reaproveitado
+     */
+    public synchronized boolean isCached(String uniqueId, String fingerprint) {
+        boolean cached = fingerprint.equals(passed.get(uniqueId));
+        if (cached) {
+            hits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * Registra a aprovação de um teste
+     *
+     * @param uniqueId Identificador único do teste na JUnit Platform
+     * @param fingerprint Impressão digital das entradas na execução
+     */
+    public synchronized void recordPassed(String uniqueId, String fingerprint) {
+        passed.put(uniqueId, fingerprint);
+        stored.incrementAndGet();
+    }
+
+    /**
+     * Remove um teste que falhou ou foi abortado
+     *
+     * @param uniqueId Identificador único do teste na JUnit Platform
+     */
+    public synchronized void invalidate(String uniqueId) {
+        passed.remove(uniqueId);
+    }
+
+    /**
+     * Substitui as entradas de um conjunto de testes pelas de outro cache
+     *
+     * @param other Cache gravado por um shard
+     * @param uniqueIds Seleção dos testes executados pelo shard
+     * @return Número de testes aprovados incorporados
+     * @implNote Entradas selecionadas ausentes em {@code other} são removidas: o
+     * shard invalidou o teste ou o executou sem aprovação
+     */
+    public int mergeTests(ResultCache other, Predicate<String> uniqueIds) {
+        Map<String, String> selected = new TreeMap<>();
+        synchronized (other) {
+            other.passed.forEach((uniqueId, fingerprint) -> {
+                if (uniqueIds.test(uniqueId)) {
+                    selected.put(uniqueId, fingerprint);
+                }
+            });
+        }
+        synchronized (this) {
+            passed.keySet().removeIf(uniqueIds);
+            passed.putAll(selected);
+        }
+        return selected.size();
+    }
+
+    /**
+     * Grava o cache e registra o resumo da execução
+     */
+    public synchronized void save() {
+        try {
+            if (output.getParentFile() != null) {
+                output.getParentFile().mkdirs();
+            }
+            OBJECT_MAPPER.writeValue(output, passed);
+        } catch (IOException e) {
+            logger.error("Falha ao gravar o cache de resultados {}: {}", output, e.getMessage());
+        }
+        logger.info("Cache de resultados: {} testes reaproveitados, {} aprovações registradas", hits.get(), stored.get());
+    }
+}
@@ -0,0 +1,64 @@
+package com.reqres.automation.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da consolidação do cache de resultados gravado pelos shards
+ *
+ * @implNote Cada shard é simulado por um cache lido do arquivo principal e gravado
+ * no seu próprio arquivo, como configura o {@code ShardedTestRunner}
+ */
+public class ResultCacheTest {
+
+    private static final String TEST_A = "[engine:junit-jupiter]/[class:com.example.ATests]/[method:test()]";
+    private static final String TEST_B = "[engine:junit-jupiter]/[class:com.example.BTests]/[method:test()]";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Não deve restaurar a aprovação de um teste invalidado por outro shard")
+    public void shouldKeepInvalidationFromOtherShard() {
+        // Arrange
+        Path main = directory.resolve("result-cache.json");
+        ResultCache initial = ResultCache.read(main.toFile());
+        initial.recordPassed(TEST_A, "a1");
+        initial.recordPassed(TEST_B, "b1");
+        initial.save();
+
+        ResultCache shardA = shard(main, "shard-a.json");
+        ResultCache shardB = shard(main, "shard-b.json");
+        shardB.invalidate(TEST_B);
+        shardB.save();
+        shardA.recordPassed(TEST_A, "a2");
+        shardA.save();
+
+        // Act
+        ResultCache merged = ResultCache.read(main.toFile());
+        merged.mergeTests(ResultCache.read(directory.resolve("shard-b.json").toFile()), id -> id.contains("BTests"));
+        merged.mergeTests(ResultCache.read(directory.resolve("shard-a.json").toFile()), id -> id.contains("ATests"));
+        merged.save();
+
+        // Assert
+        ResultCache reloaded = ResultCache.read(main.toFile());
+        assertTrue(reloaded.isCached(TEST_A, "a2"), "A aprovação do shard A deveria ser mantida");
+        assertFalse(reloaded.isCached(TEST_B, "b1"),
+                "O estado antigo lido pelo shard A não deveria restaurar o teste invalidado pelo shard B");
+    }
+
+    private ResultCache shard(Path main, String output) {
+        Map<String, String> parameters = Map.of(
+                ResultCache.PATH_PARAMETER, main.toString(),
+                ResultCache.OUTPUT_PARAMETER, directory.resolve(output).toString());
+        return ResultCache.load(key -> Optional.ofNullable(parameters.get(key)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.reqres.automation.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resumo de uma execução completa da suíte
+ *
+ * @implNote Permite comparar o makespan (tempo de parede do início do primeiro teste
+ * ao fim do último) entre execuções com ordenações diferentes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunSummary {
+    /** Início da execução em formato ISO-8601 */
+    private String startedAt;
+
+    /** Ordenação utilizada: lpt ou default */
+    private String ordering;
+
+    /** Número de testes executados */
+    private int tests;
+
+    /** Tempo de parede da execução, em milissegundos */
+    private long makespanMs;
+
+    /** Soma das durações individuais dos testes, em milissegundos */
+    private long totalTestMs;
+}
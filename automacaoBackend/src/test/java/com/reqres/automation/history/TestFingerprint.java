@@ -0,0 +1,292 @@
+package com.reqres.automation.history;
+
+import com.reqres.automation.config.ApiConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Impressão digital das entradas que determinam o resultado de uma classe de teste
+ *
+ * @implNote Combina o SHA-256 de:
+ * <ul>
+ *     <li>bytecode da classe de teste, das classes externas ({@code @Nested}) e das
+ *     superclasses do projeto, como o {@code AbstractApiTest};</li>
+ *     <li>bytecode de todas as classes de teste do projeto referenciadas por essas
+ *     classes (fixtures, assertions, validators, extensões e o servidor local),
+ *     identificadas no pool de constantes e seguidas transitivamente; referências em
+ *     anotações, como {@code @ContextConfiguration(initializers = ...)}, também
+ *     ficam no pool de constantes;</li>
+ *     <li>conteúdo de todos os recursos de teste, como os schemas JSON, que são
+ *     carregados pelo caminho e não aparecem no bytecode;</li>
+ *     <li>bytecode do cliente de API em {@code src/main}, cujas mudanças alteram o
+ *     comportamento de todos os testes;</li>
+ *     <li>valores efetivos de {@code application.properties}, incluindo as
+ *     propriedades {@code api.*} sobrescritas na linha de comando;</li>
+ *     <li>conteúdo do cassete quando {@code api.mode=replay}.</li>
+ * </ul>
+ *
+ * @implSpec Segue o padrão de design Utility Class com construtor privado. As partes
+ * comuns a todas as classes são calculadas uma única vez por JVM e as impressões
+ * de cada classe são memorizadas
+ */
+public class TestFingerprint {
+
+    /** Pacote raiz do projeto, no formato interno da JVM */
+    private static final String PROJECT_INTERNAL_PACKAGE = "com/reqres/automation/";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    /** Pacote raiz do projeto */
+    private static final String PROJECT_PACKAGE = "com.reqres.automation.";
+
+    private static final Map<Class<?>, String> CLASS_FINGERPRINTS = new ConcurrentHashMap<>();
+
+    private static volatile String sharedFingerprint;
+
+    private TestFingerprint() {
+    }
+
+    /**
+     * Obtém a impressão digital de uma classe de teste
+     *
+     * @param testClass Classe que declara o teste
+     * @return SHA-256 em hexadecimal
+     */
+    public static String of(Class<?> testClass) {
+        return CLASS_FINGERPRINTS.computeIfAbsent(testClass, type -> compute(type, testOutput()));
+    }
+
+    /**
+     * Calcula a impressão digital de uma classe de teste a partir de um diretório de saída dos testes
+     *
+     * @param testClass Classe que declara o teste
+     * @param testOutput Diretório com as classes e os recursos compilados dos testes
+     * @return SHA-256 em hexadecimal
+     * @apiNote Sem memorização; exposto para que os testes verifiquem a invalidação
+     * sobre uma cópia do diretório de saída
+     */
+    static String compute(Class<?> testClass, Path testOutput) {
+        MessageDigest digest = sha256();
+        digest.update(shared().getBytes(StandardCharsets.UTF_8));
+        digest.update(resourcesDigest(testOutput));
+
+        Deque<String> pending = new ArrayDeque<>();
+        for (Class<?> type : projectHierarchy(testClass)) {
+            pending.add(type.getName().replace('.', '/'));
+        }
+        Map<String, byte[]> visited = new TreeMap<>();
+        while (!pending.isEmpty()) {
+            String type = pending.pop();
+            if (!visited.containsKey(type)) {
+                byte[] bytecode = bytecode(testOutput, type);
+                visited.put(type, bytecode);
+                pending.addAll(projectReferences(bytecode));
+            }
+        }
+        visited.forEach((type, bytecode) -> {
+            digest.update(type.getBytes(StandardCharsets.UTF_8));
+            digest.update(bytecode);
+        });
+        return hex(digest.digest());
+    }
+
+    private static Set<Class<?>> projectHierarchy(Class<?> testClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> outer = testClass; outer != null; outer = outer.getEnclosingClass()) {
+            for (Class<?> type = outer; type != null && type.getName().startsWith(PROJECT_PACKAGE); type = type.getSuperclass()) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Localiza as classes do projeto referenciadas no pool de constantes de uma classe
+     *
+     * @param bytecode Conteúdo do arquivo .class
+     * @return Nomes internos das classes do pacote raiz do projeto
+     * @implNote Nomes de classes aparecem no pool de constantes como texto em UTF-8
+     * modificado, tanto em referências diretas quanto em descritores
+     * ({@code Lcom/reqres/automation/fixtures/UserFixture;}); classes que não estão
+     * no diretório de saída dos testes, como as de {@code src/main}, são ignoradas
+     * na leitura do bytecode
+     */
+    static Set<String> projectReferences(byte[] bytecode) {
+        String text = new String(bytecode, StandardCharsets.ISO_8859_1);
+        Set<String> references = new TreeSet<>();
+        int prefix = PROJECT_INTERNAL_PACKAGE.length();
+        for (int start = text.indexOf(PROJECT_INTERNAL_PACKAGE); start >= 0;
+             start = text.indexOf(PROJECT_INTERNAL_PACKAGE, start + 1)) {
+            int end = start + prefix;
+            while (end < text.length() && isNameChar(text.charAt(end))) {
+                end++;
+            }
+            if (end > start + prefix && text.charAt(end - 1) != '/') {
+                references.add(text.substring(start, end));
+            }
+        }
+        return references;
+    }
+
+    /**
+     * Indica se o caractere pode compor o nome interno de uma classe do projeto
+     *
+     * @param value Caractere do pool de constantes
+     * @return true para letras e dígitos ASCII, '_', '$' e '/'
+     * @implNote {@link Character#isJavaIdentifierPart(char)} aceita caracteres de
+     * controle, como os bytes de tag que seguem cada entrada do pool de constantes
+     */
+    private static boolean isNameChar(char value) {
+        return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z') || (value >= '0' && value <= '9')
+                || value == '_' || value == '$' || value == '/';
+    }
+
+    /**
+     * Calcula o resumo dos recursos de teste
+     *
+     * @param testOutput Diretório de saída dos testes
+     * @return SHA-256 dos caminhos relativos e do conteúdo de todos os arquivos que não são classes
+     */
+    private static byte[] resourcesDigest(Path testOutput) {
+        MessageDigest digest = sha256();
+        try (Stream<Path> files = Files.walk(testOutput)) {
+            for (Path file : files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(CLASS_SUFFIX))
+                    .sorted().collect(Collectors.toList())) {
+                digest.update(testOutput.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest.digest();
+    }
+
+    private static String shared() {
+        String fingerprint = sharedFingerprint;
+        if (fingerprint == null) {
+            synchronized (TestFingerprint.class) {
+                if (sharedFingerprint == null) {
+                    MessageDigest digest = sha256();
+                    digest.update(mainCodeDigest());
+                    Map<String, String> properties = effectiveProperties();
+                    properties.forEach((key, value) -> digest.update((key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8)));
+                    if ("replay".equalsIgnoreCase(properties.get("api.mode"))) {
+                        digest.update(fileContent(properties.get("api.cassette.path")));
+                    }
+                    sharedFingerprint = hex(digest.digest());
+                }
+                fingerprint = sharedFingerprint;
+            }
+        }
+        return fingerprint;
+    }
+
+    private static Map<String, String> effectiveProperties() {
+        Properties loaded = new Properties();
+        try (InputStream input = TestFingerprint.class.getClassLoader().getResourceAsStream("application.properties")) {
+            if (input != null) {
+                loaded.load(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Map<String, String> properties = new TreeMap<>();
+        loaded.stringPropertyNames().forEach(key -> properties.put(key, loaded.getProperty(key).trim()));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith("api.") || properties.containsKey(key))
+                .forEach(key -> properties.put(key, System.getProperty(key).trim()));
+        return properties;
+    }
+
+    private static byte[] mainCodeDigest() {
+        MessageDigest digest = sha256();
+        try {
+            Path location = codeLocation(ApiConfig.class);
+            if (Files.isDirectory(location)) {
+                try (Stream<Path> files = Files.walk(location)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                        digest.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                        digest.update(Files.readAllBytes(file));
+                    }
+                }
+            } else {
+                digest.update(Files.readAllBytes(location));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest.digest();
+    }
+
+    private static Path testOutput() {
+        return codeLocation(TestFingerprint.class);
+    }
+
+    private static Path codeLocation(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Local do código de " + type.getName() + " inválido", e);
+        }
+    }
+
+    private static byte[] bytecode(Path testOutput, String internalName) {
+        Path file = testOutput.resolve(internalName + CLASS_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return new byte[0];
+        }
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] fileContent(String path) {
+        if (path == null || !new File(path).isFile()) {
+            return new byte[0];
+        }
+        try {
+            return Files.readAllBytes(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
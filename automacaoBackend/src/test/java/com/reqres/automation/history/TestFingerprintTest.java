@@ -0,0 +1,110 @@
+package com.reqres.automation.history;
+
+import com.reqres.automation.tests.UserApiTests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da invalidação do cache de resultados pela impressão digital dos testes
+ *
+ * @implNote Cada teste copia o diretório de saída dos testes para um diretório
+ * temporário e simula a edição de um arquivo acrescentando um byte ao seu conteúdo
+ */
+public class TestFingerprintTest {
+
+    @TempDir
+    Path testOutput;
+
+    private String original;
+
+    @BeforeEach
+    public void setUp() throws IOException, URISyntaxException {
+        Path compiled = Path.of(TestFingerprint.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (Stream<Path> files = Files.walk(compiled)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                Path copy = testOutput.resolve(compiled.relativize(file).toString());
+                Files.createDirectories(copy.getParent());
+                Files.copy(file, copy);
+            }
+        }
+        original = TestFingerprint.compute(UserApiTests.class, testOutput);
+    }
+
+    @Test
+    @DisplayName("Deve manter a impressão digital quando nada muda")
+    public void shouldBeStableWithoutChanges() {
+        // Act & Assert
+        assertEquals(original, TestFingerprint.compute(UserApiTests.class, testOutput),
+                "A mesma árvore deveria produzir a mesma impressão digital");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao editar um validator")
+    public void shouldChangeWhenValidatorChanges() throws IOException {
+        // Act
+        edit("com/reqres/automation/validators/ResponseValidator.class");
+
+        // Assert
+        assertNotEquals(original, TestFingerprint.compute(UserApiTests.class, testOutput),
+                "A edição de um validator deveria invalidar o resultado em cache");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao editar assertions, o servidor local ou um schema")
+    public void shouldChangeWhenTestSupportChanges() throws IOException {
+        // Arrange
+        List<String> files = List.of(
+                "com/reqres/automation/assertions/UserAssertions.class",
+                "com/reqres/automation/stub/ReqresStubServer.class",
+                "schemas/auth-error-schema.json");
+
+        // Act & Assert
+        String previous = original;
+        for (String file : files) {
+            edit(file);
+            String changed = TestFingerprint.compute(UserApiTests.class, testOutput);
+            assertNotEquals(previous, changed, "A edição de " + file + " deveria invalidar o resultado em cache");
+            previous = changed;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve localizar apenas referências completas a classes do projeto")
+    public void shouldFindProjectReferences() throws IOException {
+        // Arrange
+        byte[] bytecode = Files.readAllBytes(testOutput.resolve("com/reqres/automation/tests/AbstractApiTest.class"));
+
+        // Act
+        Set<String> references = TestFingerprint.projectReferences(bytecode);
+
+        // Assert
+        assertTrue(references.contains("com/reqres/automation/stub/ReqresStubInitializer"),
+                "A classe da anotação @ContextConfiguration deveria ser referenciada");
+        assertTrue(references.contains("com/reqres/automation/validators/ResponseValidator"),
+                "O validator usado pela classe deveria ser referenciado");
+        assertTrue(references.stream().allMatch(reference -> reference.matches("[\\w/$]+[\\w$]")),
+                "Referências não deveriam conter caracteres fora do nome da classe: " + references);
+    }
+
+    private void edit(String file) throws IOException {
+        Path path = testOutput.resolve(file);
+        assertTrue(Files.isRegularFile(path), "Arquivo inexistente na saída dos testes: " + file);
+        Files.write(path, new byte[]{0}, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,386 @@
+package com.reqres.automation.history;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Histórico persistente das execuções da suíte, usado para agendar os testes por duração
+ *
+ * @implNote O histórico é um arquivo JSON local (por padrão {@code .test-history/history.json},
+ * configurável em {@code reqres.history.path}) com as últimas durações de cada teste e
+ * o resumo das últimas execuções. O arquivo é carregado uma única vez por JVM e
+ * regravado pelo {@link TestHistoryListener} ao final da execução
+ *
+ * @implSpec Os testes são identificados por {@code Classe#método}, com classes
+ * {@code @Nested} no formato binário ({@code Externa$Interna}). A duração estimada
+ * é a mediana das execuções mantidas, resistente a execuções atípicas
+ *
+ * @implNote Os resultados de cada tentativa, inclusive as falhas seguidas de uma
+ * reexecução aprovada, alimentam o índice de instabilidade usado pelo
+ * {@link FlakinessPolicy} para decidir quais falhas reexecutar
+ */
+public class TestHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestHistory.class);
+
+    /** Parâmetro de configuração do JUnit com o caminho do arquivo de histórico */
+    public static final String PATH_PARAMETER = "reqres.history.path";
+
+    /** Parâmetro de configuração do JUnit com o arquivo em que o histórico é gravado, quando diferente do lido */
+    public static final String OUTPUT_PARAMETER = "reqres.history.output";
+
+    /** Parâmetro de configuração do JUnit com a ordenação: lpt ou default */
+    public static final String ORDERING_PARAMETER = "reqres.scheduling.order";
+
+    /** Caminho padrão do arquivo de histórico, relativo ao módulo */
+    public static final String DEFAULT_PATH = ".test-history/history.json";
+
+    /** Ordenação pela maior duração primeiro (Longest Processing Time) */
+    public static final String LPT_ORDERING = "lpt";
+
+    /** Quantidade de durações mantidas por teste */
+    static final int MAX_SAMPLES = 10;
+
+    /** Quantidade de resultados mantidos por teste para o cálculo de instabilidade */
+    static final int MAX_OUTCOMES = 20;
+
+    /** Resultado de uma tentativa aprovada */
+    public static final String PASSED = "SUCCESSFUL";
+
+    /** Resultado de uma tentativa com falha */
+    public static final String FAILED = "FAILED";
+
+    /** Quantidade de resumos de execução mantidos */
+    static final int MAX_RUNS = 50;
+
+    private static final Map<String, TestHistory> LOADED = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final File file;
+    private final Map<String, TestRecord> tests;
+    private final List<RunSummary> runs;
+
+    private TestHistory(File file, HistoryFile content) {
+        this.file = file;
+        this.tests = new TreeMap<>(content.getTests());
+        this.runs = new ArrayList<>(content.getRuns());
+    }
+
+    /**
+     * Obtém o histórico do arquivo configurado
+     *
+     * @param parameters Acesso aos parâmetros de configuração do JUnit
+     * @return Histórico compartilhado da JVM para o caminho configurado
+     * @implNote Com {@code reqres.history.output} o histórico é lido do caminho
+     * configurado e gravado no arquivo indicado, como fazem as JVMs de cada shard
+     */
+    public static TestHistory load(Function<String, Optional<String>> parameters) {
+        String path = parameters.apply(PATH_PARAMETER).orElse(DEFAULT_PATH);
+        String output = parameters.apply(OUTPUT_PARAMETER).orElse(path);
+        return LOADED.computeIfAbsent(path, key -> read(new File(key), new File(output)));
+    }
+
+    /**
+     * Lê um arquivo de histórico fora do cache da JVM
+     *
+     * @param file Arquivo de histórico; um arquivo inexistente resulta em histórico vazio
+     * @return Histórico lido, gravado no mesmo arquivo
+     */
+    public static TestHistory read(File file) {
+        return read(file, file);
+    }
+
+    /**
+     * Indica se a ordenação por duração está habilitada
+     *
+     * @param parameters Acesso aos parâmetros de configuração do JUnit
+     * @return true quando {@code reqres.scheduling.order=lpt}
+     */
+    public static boolean isLptOrdering(Function<String, Optional<String>> parameters) {
+        return LPT_ORDERING.equalsIgnoreCase(ordering(parameters));
+    }
+
+    /**
+     * Obtém a ordenação configurada
+     *
+     * @param parameters Acesso aos parâmetros de configuração do JUnit
+     * @return Nome da ordenação, {@code lpt} por padrão
+     */
+    public static String ordering(Function<String, Optional<String>> parameters) {
+        return parameters.apply(ORDERING_PARAMETER).orElse(LPT_ORDERING).trim();
+    }
+
+    /**
+     * Obtém a duração estimada de um teste
+     *
+     * @param testId Identificação no formato {@code Classe#método}
+     * @return Mediana das durações registradas, ou vazio para testes sem histórico
+     */
+    public synchronized OptionalDouble estimateMs(String testId) {
+        TestRecord record = tests.get(testId);
+        if (record == null || record.getDurationsMs().isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        List<Long> sorted = new ArrayList<>(record.getDurationsMs());
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return OptionalDouble.of(sorted.size() % 2 == 1 ? sorted.get(middle)
+                : (sorted.get(middle - 1) + sorted.get(middle)) / 2.0);
+    }
+
+    /**
+     * Obtém a duração estimada de um teste, usando a média dos testes conhecidos quando não há histórico
+     *
+     * @param testId Identificação no formato {@code Classe#método}
+     * @return Duração estimada em milissegundos
+     */
+    public double estimateOrMeanMs(String testId) {
+        return estimateMs(testId).orElseGet(this::meanEstimateMs);
+    }
+
+    /**
+     * Obtém o custo estimado de uma classe de teste, somando seus testes e os das classes aninhadas
+     *
+     * @param className Nome binário da classe
+     * @return Soma das durações estimadas em milissegundos, ou a média por teste quando não há histórico
+     */
+    public synchronized double estimateClassMs(String className) {
+        double total = 0;
+        boolean known = false;
+        for (String testId : tests.keySet()) {
+            if (testId.startsWith(className + "#") || testId.startsWith(className + "$")) {
+                OptionalDouble estimate = estimateMs(testId);
+                if (estimate.isPresent()) {
+                    total += estimate.getAsDouble();
+                    known = true;
+                }
+            }
+        }
+        return known ? total : meanEstimateMs();
+    }
+
+    /**
+     * Obtém a média das durações estimadas de todos os testes com histórico
+     *
+     * @return Média em milissegundos, ou zero sem histórico
+     */
+    public synchronized double meanEstimateMs() {
+        return tests.keySet().stream()
+                .map(this::estimateMs)
+                .filter(OptionalDouble::isPresent)
+                .mapToDouble(OptionalDouble::getAsDouble)
+                .average()
+                .orElse(0);
+    }
+
+    /**
+     * Registra a execução de um teste
+     *
+     * @param testId Identificação no formato {@code Classe#método}
+     * @param durationMs Duração da execução em milissegundos
+     * @param status Resultado da execução
+     */
+    public synchronized void recordTest(String testId, long durationMs, String status) {
+        TestRecord record = tests.computeIfAbsent(testId, key -> new TestRecord());
+        record.getDurationsMs().add(durationMs);
+        if (record.getDurationsMs().size() > MAX_SAMPLES) {
+            record.getDurationsMs().remove(0);
+        }
+        record.setLastStatus(status);
+        appendOutcome(record, status);
+    }
+
+    /**
+     * Registra o resultado de uma tentativa sem duração, como a falha que antecede uma reexecução
+     *
+     * @param testId Identificação no formato {@code Classe#método}
+     * @param status Resultado da tentativa
+     */
+    public synchronized void recordOutcome(String testId, String status) {
+        appendOutcome(tests.computeIfAbsent(testId, key -> new TestRecord()), status);
+    }
+
+    /**
+     * Calcula o índice de instabilidade de um teste
+     *
+     * @param testId Identificação no formato {@code Classe#método}
+     * @return Taxa de alternância entre aprovação e falha nos resultados mantidos, entre 0 e 1
+     * @implNote Usa a taxa de alternância (flip rate) em vez da taxa de falhas: um
+     * teste que falha sempre indica uma regressão, com índice zero, enquanto um teste
+     * que alterna entre os resultados aproxima-se de 1
+     */
+    public synchronized double flakinessScore(String testId) {
+        TestRecord record = tests.get(testId);
+        List<String> outcomes = record != null ? record.getOutcomes() : Collections.emptyList();
+        if (outcomes.size() < 2) {
+            return 0;
+        }
+        int flips = 0;
+        for (int i = 1; i < outcomes.size(); i++) {
+            if (!outcomes.get(i).equals(outcomes.get(i - 1))) {
+                flips++;
+            }
+        }
+        return (double) flips / (outcomes.size() - 1);
+    }
+
+    /**
+     * Obtém o número de resultados mantidos de um teste
+     *
+     * @param testId Identificação no formato {@code Classe#método}
+     * @return Quantidade de tentativas registradas, até {@value #MAX_OUTCOMES}
+     */
+    public synchronized int outcomeCount(String testId) {
+        TestRecord record = tests.get(testId);
+        return record != null ? record.getOutcomes().size() : 0;
+    }
+
+    /**
+     * Lista os testes instáveis
+     *
+     * @param threshold Índice mínimo de instabilidade
+     * @param minRuns Número mínimo de resultados para que o índice seja considerado
+     * @return Testes acima do limite, do mais para o menos instável
+     */
+    public synchronized List<FlakyTest> flakyTests(double threshold, int minRuns) {
+        List<FlakyTest> flaky = new ArrayList<>();
+        tests.forEach((testId, record) -> {
+            double score = flakinessScore(testId);
+            if (record.getOutcomes().size() >= minRuns && score >= threshold) {
+                long failures = record.getOutcomes().stream().filter(FAILED::equals).count();
+                flaky.add(new FlakyTest(testId, score, record.getOutcomes().size(), failures));
+            }
+        });
+        flaky.sort(Comparator.comparingDouble(FlakyTest::getScore).reversed().thenComparing(FlakyTest::getTestId));
+        return flaky;
+    }
+
+    /**
+     * Copia as execuções registradas em outro histórico
+     *
+     * @param other Histórico de origem, como o gravado por um shard
+     * @param testIds Seleção dos testes copiados
+     * @return Número de testes copiados
+     * @implNote Os registros selecionados substituem os deste histórico; como cada shard
+     * parte do mesmo arquivo, eles já contêm as durações anteriores
+     */
+    public int mergeTests(TestHistory other, Predicate<String> testIds) {
+        Map<String, TestRecord> selected = new TreeMap<>();
+        synchronized (other) {
+            other.tests.forEach((testId, record) -> {
+                if (testIds.test(testId)) {
+                    selected.put(testId, record);
+                }
+            });
+        }
+        synchronized (this) {
+            tests.putAll(selected);
+        }
+        return selected.size();
+    }
+
+    /**
+     * Registra o resumo de uma execução completa
+     *
+     * @param summary Resumo da execução
+     */
+    public synchronized void recordRun(RunSummary summary) {
+        runs.add(summary);
+        if (runs.size() > MAX_RUNS) {
+            runs.remove(0);
+        }
+    }
+
+    /**
+     * Obtém o makespan médio das execuções registradas com uma ordenação
+     *
+     * @param ordering Nome da ordenação
+     * @return Média em milissegundos, ou vazio se nenhuma execução usou a ordenação
+     */
+    public synchronized OptionalDouble averageMakespanMs(String ordering) {
+        return runs.stream()
+                .filter(run -> ordering.equalsIgnoreCase(run.getOrdering()))
+                .mapToLong(RunSummary::getMakespanMs)
+                .average();
+    }
+
+    /**
+     * Obtém o resumo da execução mais recente
+     *
+     * @return Último resumo registrado, ou vazio sem execuções
+     */
+    public synchronized Optional<RunSummary> lastRun() {
+        return runs.isEmpty() ? Optional.empty() : Optional.of(runs.get(runs.size() - 1));
+    }
+
+    /**
+     * Grava o histórico no arquivo de destino, por padrão o mesmo de origem
+     */
+    public synchronized void save() {
+        HistoryFile content = new HistoryFile();
+        content.setTests(new TreeMap<>(tests));
+        content.setRuns(new ArrayList<>(runs));
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            OBJECT_MAPPER.writeValue(file, content);
+        } catch (IOException e) {
+            logger.error("Falha ao gravar o histórico de testes {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void appendOutcome(TestRecord record, String status) {
+        if (status == null || (!PASSED.equals(status) && !FAILED.equals(status))) {
+            return;
+        }
+        record.getOutcomes().add(status);
+        if (record.getOutcomes().size() > MAX_OUTCOMES) {
+            record.getOutcomes().remove(0);
+        }
+    }
+
+    private static TestHistory read(File file, File output) {
+        if (!file.isFile()) {
+            return new TestHistory(output, new HistoryFile());
+        }
+        try {
+            return new TestHistory(output, OBJECT_MAPPER.readValue(file, HistoryFile.class));
+        } catch (IOException e) {
+            logger.warn("Histórico de testes {} ignorado: {}", file, e.getMessage());
+            return new TestHistory(output, new HistoryFile());
+        }
+    }
+
+    /**
+     * Conteúdo serializado do arquivo de histórico
+     */
+    @Data
+    @NoArgsConstructor
+    static class HistoryFile {
+        private Map<String, TestRecord> tests = new TreeMap<>();
+        private List<RunSummary> runs = new ArrayList<>();
+    }
+}
@@ -0,0 +1,139 @@
+package com.reqres.automation.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener da JUnit Platform que registra a duração de cada teste no {@link TestHistory}
+ *
+ * @implNote Registrado via {@code META-INF/services}, observa a execução de todos os
+ * engines sem exigir anotações nas classes de teste. Ao final da execução grava o
+ * histórico e registra o makespan, comparando-o com a média das execuções anteriores
+ * na outra ordenação, e reporta os testes instáveis reincidentes segundo o
+ * {@link FlakinessPolicy}
+ *
+ * @implSpec Os callbacks são invocados concorrentemente pelas threads do pool
+ * paralelo; o estado por execução é mantido em estruturas thread-safe
+ */
+public class TestHistoryListener implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestHistoryListener.class);
+
+    private static final ObjectMapper REPORT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger tests = new AtomicInteger();
+    private final AtomicLong totalTestNanos = new AtomicLong();
+
+    private TestHistory history;
+    private String ordering;
+    private Instant planStartedAt;
+    private long planStartNanos;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        history = TestHistory.load(testPlan.getConfigurationParameters()::get);
+        ordering = TestHistory.ordering(testPlan.getConfigurationParameters()::get);
+        planStartedAt = Instant.now();
+        planStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            startedAt.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long start = startedAt.remove(testIdentifier.getUniqueId());
+        String testId = testId(testIdentifier);
+        if (start == null || testId == null || history == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        tests.incrementAndGet();
+        totalTestNanos.addAndGet(elapsedNanos);
+        history.recordTest(testId, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), result.getStatus().name());
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (history == null || tests.get() == 0) {
+            return;
+        }
+        long makespanMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - planStartNanos);
+        long totalTestMs = TimeUnit.NANOSECONDS.toMillis(totalTestNanos.get());
+        String otherOrdering = TestHistory.LPT_ORDERING.equalsIgnoreCase(ordering) ? "default" : TestHistory.LPT_ORDERING;
+        OptionalDouble otherMakespan = history.averageMakespanMs(otherOrdering);
+
+        history.recordRun(new RunSummary(planStartedAt.toString(), ordering, tests.get(), makespanMs, totalTestMs));
+        history.save();
+
+        logger.info("Execução ({}): {} testes, makespan de {} ms, soma das durações de {} ms{}",
+                ordering, tests.get(), makespanMs, totalTestMs,
+                otherMakespan.isPresent()
+                        ? String.format(", média com ordenação %s: %.0f ms", otherOrdering, otherMakespan.getAsDouble())
+                        : "");
+        reportFlakyTests(FlakinessPolicy.load(testPlan.getConfigurationParameters()::get));
+    }
+
+    /**
+     * Registra os testes instáveis reincidentes e grava o relatório
+     *
+     * @param policy Política de instabilidade da execução
+     * @implNote O relatório é gravado mesmo vazio, para que a CI possa acompanhar
+     * a lista de reincidentes a cada execução
+     */
+    private void reportFlakyTests(FlakinessPolicy policy) {
+        List<FlakyTest> flaky = history.flakyTests(policy.getThreshold(), policy.getMinRuns());
+        if (policy.getRerunsUsed() > 0) {
+            logger.info("Reexecuções de testes instáveis: {} de {} do orçamento", policy.getRerunsUsed(), policy.getBudget());
+        }
+        flaky.forEach(test -> logger.warn("Teste instável reincidente: {} (índice {}, {} falhas em {} execuções)",
+                test.getTestId(), String.format("%.2f", test.getScore()), test.getFailures(), test.getRuns()));
+
+        File report = new File(policy.getReportPath());
+        try {
+            if (report.getParentFile() != null) {
+                report.getParentFile().mkdirs();
+            }
+            REPORT_MAPPER.writeValue(report, flaky);
+        } catch (IOException e) {
+            logger.error("Falha ao gravar o relatório de testes instáveis {}: {}", report, e.getMessage());
+        }
+    }
+
+    /**
+     * Obtém a identificação de um teste no histórico
+     *
+     * @param testIdentifier Identificador da JUnit Platform
+     * @return {@code Classe#método}, ou null para testes sem método de origem
+     */
+    public static String testId(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .map(source -> source.getClassName() + "#" + source.getMethodName())
+                .orElse(null);
+    }
+}
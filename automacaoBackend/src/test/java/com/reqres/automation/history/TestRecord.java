@@ -0,0 +1,31 @@
+package com.reqres.automation.history;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Histórico de execuções de um caso de teste
+ *
+ * @implNote Utiliza o padrão de design DTO para a serialização do histórico em JSON;
+ * apenas as execuções mais recentes são mantidas
+ */
+@Data
+@NoArgsConstructor
+public class TestRecord {
+    /** Durações das execuções mais recentes, em milissegundos, da mais antiga para a mais nova */
+    private List<Long> durationsMs = new ArrayList<>();
+
+    /** Resultado da última execução: SUCCESSFUL, FAILED ou ABORTED */
+    private String lastStatus;
+
+    /**
+     * Resultados das tentativas mais recentes, da mais antiga para a mais nova
+     *
+     * @implNote Inclui as tentativas que falharam antes de uma reexecução aprovada,
+     * base do {@link TestHistory#flakinessScore(String)}
+     */
+    private List<String> outcomes = new ArrayList<>();
+}
@@ -0,0 +1,93 @@
+package com.reqres.automation.listeners;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import io.qameta.allure.Severity;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extensão JUnit que aplica um prazo a cada caso de teste e o propaga às chamadas HTTP
+ * 
+ * @implNote O prazo é publicado no {@link DeadlineContext} antes dos métodos
+ * {@code @BeforeEach} e removido após os {@code @AfterEach}. Cada requisição feita
+ * no teste recebe como timeout de leitura apenas o tempo restante, e chamadas
+ * iniciadas após o prazo falham com {@link DeadlineExceededException}; um teste que
+ * trava em uma resposta é interrompido no prazo, liberando a thread do pool paralelo
+ * 
+ * @implSpec O orçamento é resolvido nesta ordem: {@link TestDeadline} no método, na
+ * classe ou na classe externa ({@code @Nested}); propriedade
+ * {@code api.deadline.<severidade>.ms} conforme o {@link Severity} do método;
+ * {@link ApiConfig#getDeadlineDefaultMs()}
+ * 
+ * @apiNote Um teste que termina sem erro, mas após o prazo, também falha, para que
+ * o orçamento não seja excedido silenciosamente por trechos sem chamadas HTTP
+ */
+public class DeadlineExtension implements BeforeEachCallback, AfterEachCallback {
+    
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DeadlineExtension.class);
+    
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        ApiConfig apiConfig = applicationContext.getBean(ApiConfig.class);
+        if (!apiConfig.isDeadlineEnabled()) {
+            return;
+        }
+        
+        long budgetMs = resolveBudget(context, applicationContext, apiConfig);
+        Deadline deadline = Deadline.after(context.getDisplayName(), budgetMs);
+        DeadlineContext.set(deadline);
+        context.getStore(NAMESPACE).put(Deadline.class, deadline);
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+    }
+    
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        Deadline deadline = store.remove(Deadline.class, Deadline.class);
+        Long start = store.remove("start", Long.class);
+        DeadlineContext.clear();
+        
+        if (deadline != null && deadline.isExpired() && context.getExecutionException().isEmpty()) {
+            throw new DeadlineExceededException(deadline, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+    
+    private long resolveBudget(ExtensionContext context, ApplicationContext applicationContext, ApiConfig apiConfig) {
+        Optional<TestDeadline> explicit = findDeadline(context);
+        if (explicit.isPresent()) {
+            return explicit.get().value();
+        }
+        
+        Optional<Severity> severity = AnnotationSupport.findAnnotation(context.getTestMethod(), Severity.class);
+        if (severity.isPresent()) {
+            String property = "api.deadline." + severity.get().value().value() + ".ms";
+            return applicationContext.getEnvironment().getProperty(property, Long.class, apiConfig.getDeadlineDefaultMs());
+        }
+        return apiConfig.getDeadlineDefaultMs();
+    }
+    
+    private Optional<TestDeadline> findDeadline(ExtensionContext context) {
+        Optional<TestDeadline> onMethod = AnnotationSupport.findAnnotation(context.getTestMethod(), TestDeadline.class);
+        if (onMethod.isPresent()) {
+            return onMethod;
+        }
+        for (Class<?> type = context.getRequiredTestClass(); type != null; type = type.getEnclosingClass()) {
+            Optional<TestDeadline> onClass = AnnotationSupport.findAnnotation(type, TestDeadline.class);
+            if (onClass.isPresent()) {
+                return onClass;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.reqres.automation.listeners;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da resolução do prazo de cada caso de teste pela extensão
+ *
+ * @implNote O contexto Spring contém apenas o {@link ApiConfig}, com os prazos por
+ * severidade de {@code application.properties} (blocker de 15 s e padrão de 60 s)
+ */
+@SpringBootTest(classes = ApiConfig.class)
+@ExtendWith(DeadlineExtension.class)
+public class DeadlineExtensionTest {
+
+    @Test
+    @TestDeadline(2000)
+    @DisplayName("Deve publicar na thread o prazo do @TestDeadline do método")
+    public void shouldUseMethodDeadline() {
+        // Act
+        Deadline deadline = DeadlineContext.current();
+
+        // Assert
+        assertNotNull(deadline, "O prazo deveria estar disponível durante o teste");
+        assertEquals(2000, deadline.getBudgetMs(), "O prazo do método não foi aplicado");
+        assertTrue(deadline.remainingMs() <= 2000, "O tempo restante não pode exceder o orçamento");
+    }
+
+    @Test
+    @Severity(SeverityLevel.BLOCKER)
+    @DisplayName("Deve derivar o prazo da severidade do teste")
+    public void shouldUseSeverityDeadline() {
+        // Act & Assert
+        assertEquals(15_000, DeadlineContext.current().getBudgetMs(), "O prazo de api.deadline.blocker.ms não foi aplicado");
+    }
+
+    @Test
+    @DisplayName("Deve usar o prazo padrão sem anotação nem severidade")
+    public void shouldUseDefaultDeadline() {
+        // Act & Assert
+        assertEquals(60_000, DeadlineContext.current().getBudgetMs(), "O prazo padrão não foi aplicado");
+    }
+
+    @Nested
+    @TestDeadline(3000)
+    @DisplayName("Com prazo na classe")
+    public class WithClassDeadline {
+
+        @Test
+        @Severity(SeverityLevel.BLOCKER)
+        @DisplayName("Deve preferir o prazo da classe à severidade")
+        public void shouldPreferClassDeadlineOverSeverity() {
+            // Act & Assert
+            assertEquals(3000, DeadlineContext.current().getBudgetMs(), "O prazo da classe não foi aplicado");
+        }
+
+        @Test
+        @TestDeadline(1000)
+        @DisplayName("Deve preferir o prazo do método ao da classe")
+        public void shouldPreferMethodDeadlineOverClass() {
+            // Act & Assert
+            assertEquals(1000, DeadlineContext.current().getBudgetMs(), "O prazo do método não foi aplicado");
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.reqres.automation.listeners;
+
+import com.reqres.automation.history.FlakinessPolicy;
+import com.reqres.automation.history.TestHistory;
+import com.reqres.automation.util.ReportManager;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.opentest4j.TestAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Extensão JUnit que reexecuta apenas as falhas de testes sabidamente instáveis
+ * 
+ * @implNote Fornece as invocações dos métodos {@link RerunnableTest}. Testes que o
+ * {@link TestHistory} aponta como instáveis, segundo o {@link FlakinessPolicy},
+ * recebem uma sequência preguiçosa de tentativas: quando o corpo de uma tentativa
+ * falha e há orçamento de reexecuções, a falha é registrada no histórico, a
+ * tentativa é reportada como abortada e uma nova invocação é produzida. Cada
+ * reexecução passa por todo o ciclo de vida do JUnit (nova instância,
+ * {@code @BeforeEach}, {@code @AfterEach}, prazo da {@link DeadlineExtension} e demais
+ * extensões) e é anexada ao Allure
+ * 
+ * @implNote O JUnit pode executar cada invocação em outra thread do pool paralelo;
+ * antes de produzir a próxima tentativa, a sequência aguarda o término da anterior
+ * com {@link ForkJoinPool#managedBlock}, que compensa a thread bloqueada. Testes
+ * estáveis recebem uma única invocação e nunca aguardam
+ * 
+ * @implSpec Falhas de testes estáveis, sem histórico suficiente, abortadas por
+ * suposições ou ocorridas fora do corpo do teste são propagadas sem reexecução. Se
+ * todas as tentativas falharem, a última falha é lançada com as anteriores como
+ * suprimidas
+ * 
+ * @apiNote Substitui a reexecução da suíte inteira: apenas os testes instáveis são
+ * repetidos e o relatório de reincidentes é gravado pelo
+ * {@link com.reqres.automation.history.TestHistoryListener}
+ */
+public class FlakyRerunExtension implements TestTemplateInvocationContextProvider {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FlakyRerunExtension.class);
+    
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod().map(method -> method.isAnnotationPresent(RerunnableTest.class)).orElse(false);
+    }
+    
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        TestHistory history = TestHistory.load(context::getConfigurationParameter);
+        FlakinessPolicy policy = FlakinessPolicy.load(context::getConfigurationParameter);
+        String testId = context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName();
+        String displayName = context.getDisplayName();
+        if (!policy.isRerunCandidate(history, testId)) {
+            return Stream.of(new Attempt(displayName, 1, List.of()));
+        }
+        Reruns reruns = new Reruns(testId, displayName, history, policy);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reruns, Spliterator.ORDERED), false);
+    }
+    
+    /**
+     * Tentativa de execução de um teste
+     */
+    private static class Attempt implements TestTemplateInvocationContext {
+        
+        private final String displayName;
+        private final int number;
+        private final List<Extension> extensions;
+        
+        Attempt(String displayName, int number, List<Extension> extensions) {
+            this.displayName = displayName;
+            this.number = number;
+            this.extensions = extensions;
+        }
+        
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return number == 1 ? displayName : displayName + " (reexecução " + (number - 1) + ")";
+        }
+        
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return extensions;
+        }
+    }
+    
+    /**
+     * Sequência de tentativas de um teste instável
+     * 
+     * @implNote Registrada como extensão de cada tentativa: decide no tratamento da
+     * falha se haverá reexecução e sinaliza o término da tentativa ao ser notificada
+     * como observadora do resultado
+     */
+    private static class Reruns implements Iterator<TestTemplateInvocationContext>, TestExecutionExceptionHandler,
+            TestWatcher {
+        
+        private final String testId;
+        private final String displayName;
+        private final TestHistory history;
+        private final FlakinessPolicy policy;
+        private final Semaphore finished = new Semaphore(0);
+        private final List<Throwable> failures = new ArrayList<>();
+        
+        private int attempts;
+        private int awaited;
+        private volatile boolean rerunScheduled;
+        
+        Reruns(String testId, String displayName, TestHistory history, FlakinessPolicy policy) {
+            this.testId = testId;
+            this.displayName = displayName;
+            this.history = history;
+            this.policy = policy;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (attempts == 0) {
+                return true;
+            }
+            if (awaited < attempts) {
+                awaitPreviousAttempt();
+                awaited = attempts;
+            }
+            return rerunScheduled;
+        }
+        
+        @Override
+        public TestTemplateInvocationContext next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Sem novas tentativas para " + testId);
+            }
+            rerunScheduled = false;
+            attempts++;
+            return new Attempt(displayName, attempts, List.of(this));
+        }
+        
+        @Override
+        public void handleTestExecutionException(ExtensionContext context, Throwable failure) throws Throwable {
+            if (failure instanceof TestAbortedException) {
+                throw failure;
+            }
+            synchronized (failures) {
+                failures.forEach(failure::addSuppressed);
+                failures.add(failure);
+            }
+            int reruns = attempts - 1;
+            if (reruns >= policy.getMaxAttempts()) {
+                throw reject(failure, reruns);
+            }
+            if (!policy.tryAcquireRerun()) {
+                logger.warn("Orçamento de reexecuções esgotado; falha de {} mantida", testId);
+                throw reject(failure, reruns);
+            }
+            history.recordOutcome(testId, TestHistory.FAILED);
+            logger.warn("Reexecutando teste instável {} (tentativa {} de {}, índice {}): {}", testId, reruns + 1,
+                    policy.getMaxAttempts(), String.format("%.2f", history.flakinessScore(testId)), failure.toString());
+            rerunScheduled = true;
+            throw new TestAbortedException("Falha de teste instável; será reexecutado: " + failure, failure);
+        }
+        
+        @Override
+        public void testSuccessful(ExtensionContext context) {
+            if (attempts > 1) {
+                attachRerun(attempts - 1, "aprovado");
+            }
+            finished.release();
+        }
+        
+        @Override
+        public void testFailed(ExtensionContext context, Throwable cause) {
+            finished.release();
+        }
+        
+        @Override
+        public void testAborted(ExtensionContext context, Throwable cause) {
+            finished.release();
+        }
+        
+        @Override
+        public void testDisabled(ExtensionContext context, Optional<String> reason) {
+            finished.release();
+        }
+        
+        private Throwable reject(Throwable failure, int reruns) {
+            if (reruns > 0) {
+                attachRerun(reruns, "reprovado");
+            }
+            return failure;
+        }
+        
+        private void attachRerun(int reruns, String result) {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("Teste", testId);
+            metrics.put("Índice de instabilidade", String.format("%.2f", history.flakinessScore(testId)));
+            metrics.put("Reexecuções", reruns);
+            synchronized (failures) {
+                metrics.put("Falha original", failures.get(0).toString());
+            }
+            metrics.put("Resultado", result);
+            ReportManager.attachMetrics("Reexecução de teste instável", metrics);
+        }
+        
+        private void awaitPreviousAttempt() {
+            try {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                    private boolean released;
+                    
+                    @Override
+                    public boolean block() throws InterruptedException {
+                        finished.acquire();
+                        released = true;
+                        return true;
+                    }
+                    
+                    @Override
+                    public boolean isReleasable() {
+                        if (!released) {
+                            released = finished.tryAcquire();
+                        }
+                        return released;
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Aguardando a tentativa anterior de " + testId + " interrompido", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.reqres.automation.listeners;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declara um caso de teste cujas falhas são reexecutadas quando o histórico o aponta como instável
+ * 
+ * @implNote Substitui {@code @Test}: o método é um {@link TestTemplate} e cada
+ * tentativa é uma invocação completa do JUnit, com nova instância da classe,
+ * {@code @BeforeEach}, {@code @AfterEach} e todas as extensões registradas
+ * 
+ * @apiNote Testes parametrizados já são templates e não podem ser combinados com
+ * esta anotação; suas falhas não são reexecutadas
+ * 
+ * @see FlakyRerunExtension
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@TestTemplate
+@ExtendWith(FlakyRerunExtension.class)
+public @interface RerunnableTest {
+}
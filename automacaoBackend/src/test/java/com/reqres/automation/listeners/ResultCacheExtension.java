@@ -0,0 +1,106 @@
+package com.reqres.automation.listeners;
+
+import com.reqres.automation.history.ResultCache;
+import com.reqres.automation.history.TestFingerprint;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+/**
+ * Extensão JUnit que ignora testes aprovados cujas entradas não mudaram
+ * 
+ * @implNote Antes de cada teste compara a {@link TestFingerprint} da sua classe com
+ * a registrada no {@link ResultCache} na última aprovação; sendo igual, o teste é
+ * ignorado com o motivo "resultado em cache", exibido como tal no Allure e no
+ * surefire. Como a condição é avaliada antes da criação da instância, uma classe
+ * inteiramente em cache nem chega a iniciar o contexto Spring
+ * 
+ * @implNote As tentativas de um {@link RerunnableTest} compartilham a chave do
+ * método: o resultado em cache é o da última tentativa, e um método em cache é
+ * ignorado por inteiro, sem nenhuma invocação
+ * 
+ * @implSpec O cache é compartilhado por todas as classes por meio do store raiz da
+ * execução e gravado quando o engine do JUnit Jupiter termina
+ * 
+ * @apiNote Desabilitado por padrão; em CI, habilitar com
+ * {@code -Dreqres.result.cache.enabled=true} e preservar o diretório
+ * {@code .test-history} entre as execuções
+ */
+public class ResultCacheExtension implements ExecutionCondition, TestWatcher {
+    
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ResultCacheExtension.class);
+    
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getTestMethod().isEmpty() || !ResultCache.isEnabled(context::getConfigurationParameter)) {
+            return ConditionEvaluationResult.enabled("Cache de resultados não se aplica");
+        }
+        String fingerprint = TestFingerprint.of(context.getRequiredTestClass());
+        if (cache(context).isCached(testKey(context), fingerprint)) {
+            return ConditionEvaluationResult.disabled("Resultado em cache: aprovado sem mudanças desde a última execução");
+        }
+        return ConditionEvaluationResult.enabled("Entradas alteradas ou sem aprovação registrada");
+    }
+    
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        if (ResultCache.isEnabled(context::getConfigurationParameter)) {
+            cache(context).recordPassed(testKey(context), TestFingerprint.of(context.getRequiredTestClass()));
+        }
+    }
+    
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        invalidate(context);
+    }
+    
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        invalidate(context);
+    }
+    
+    private void invalidate(ExtensionContext context) {
+        if (ResultCache.isEnabled(context::getConfigurationParameter)) {
+            cache(context).invalidate(testKey(context));
+        }
+    }
+    
+    /**
+     * Obtém a chave de um teste no cache
+     * 
+     * @param context Contexto do teste, do template ou de uma de suas invocações
+     * @return Identificador único do método, igual para todas as tentativas
+     */
+    private static String testKey(ExtensionContext context) {
+        return context.getParent()
+                .filter(parent -> parent.getTestMethod().equals(context.getTestMethod()))
+                .map(ExtensionContext::getUniqueId)
+                .orElse(context.getUniqueId());
+    }
+    
+    private ResultCache cache(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(ResultCacheResource.class,
+                        key -> new ResultCacheResource(ResultCache.load(context::getConfigurationParameter)),
+                        ResultCacheResource.class)
+                .cache;
+    }
+    
+    /**
+     * Grava o cache ao encerrar a execução
+     */
+    private static class ResultCacheResource implements ExtensionContext.Store.CloseableResource {
+        
+        private final ResultCache cache;
+        
+        ResultCacheResource(ResultCache cache) {
+            this.cache = cache;
+        }
+        
+        @Override
+        public void close() {
+            cache.save();
+        }
+    }
+}
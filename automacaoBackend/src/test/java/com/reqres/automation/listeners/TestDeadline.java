@@ -0,0 +1,30 @@
+package com.reqres.automation.listeners;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Define o prazo de execução de um caso de teste ou de todos os testes de uma classe
+ * 
+ * @implNote Tem precedência sobre o prazo derivado da severidade Allure; a anotação
+ * no método prevalece sobre a da classe
+ * 
+ * @see DeadlineExtension
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface TestDeadline {
+    
+    /**
+     * Orçamento total do teste, incluindo a preparação em {@code @BeforeEach}
+     * 
+     * @return Prazo em milissegundos
+     */
+    long value();
+}
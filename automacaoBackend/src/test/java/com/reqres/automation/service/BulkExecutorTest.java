@@ -0,0 +1,126 @@
+package com.reqres.automation.service;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.BulkItemResult;
+import com.reqres.automation.model.BulkResult;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da execução em lote com concorrência limitada
+ *
+ * @implNote As requisições são simuladas por funções que devolvem respostas
+ * construídas em memória, executadas em um executor próprio do teste
+ */
+public class BulkExecutorTest {
+
+    private ExecutorService ioExecutor;
+    private BulkExecutor bulkExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        ApiConfig apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "bulkConcurrency", 4);
+
+        ioExecutor = Executors.newCachedThreadPool();
+        bulkExecutor = new BulkExecutor();
+        ReflectionTestUtils.setField(bulkExecutor, "apiConfig", apiConfig);
+        ReflectionTestUtils.setField(bulkExecutor, "ioExecutor", ioExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ioExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de concorrência e manter a ordem de entrada")
+    public void shouldLimitConcurrencyAndKeepOrder() {
+        // Arrange
+        List<Integer> items = IntStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        // Act
+        BulkResult<Integer> result = bulkExecutor.execute(items, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(10);
+            inFlight.decrementAndGet();
+            return response(201);
+        }, 3);
+
+        // Assert
+        assertTrue(maxInFlight.get() <= 3, "Mais requisições simultâneas que o limite: " + maxInFlight.get());
+        assertEquals(items, result.getItems().stream().map(BulkItemResult::getKey).collect(Collectors.toList()),
+                "Os resultados deveriam seguir a ordem de entrada");
+        assertEquals(20, result.getSuccessCount(), "Todos os itens deveriam ter sucesso");
+    }
+
+    @Test
+    @DisplayName("Deve registrar um Error como falha do item sem interromper o lote")
+    public void shouldRecordErrorAsItemFailure() {
+        // Arrange
+        List<Integer> items = IntStream.rangeClosed(1, 6).boxed().collect(Collectors.toList());
+
+        // Act
+        BulkResult<Integer> result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> bulkExecutor.execute(items, item -> {
+                    if (item % 2 == 0) {
+                        throw new AssertionError("Falha simulada do item " + item);
+                    }
+                    return response(200);
+                }, 1), "O lote não deveria ficar bloqueado após um Error");
+
+        // Assert
+        assertEquals(6, result.getItems().size(), "Todos os itens deveriam ter resultado");
+        assertEquals(3, result.getSuccessCount(), "Os itens ímpares deveriam ter sucesso");
+        BulkItemResult<Integer> failed = result.getItems().get(1);
+        assertFalse(failed.isSuccess(), "O item com Error deveria falhar");
+        assertInstanceOf(AssertionError.class, failed.getError(), "O Error deveria ser preservado no item");
+    }
+
+    @Test
+    @DisplayName("Deve usar a concorrência configurada e rejeitar limites menores que um")
+    public void shouldUseConfiguredConcurrencyAndRejectInvalidLimit() {
+        // Act
+        BulkResult<Integer> result = bulkExecutor.execute(List.of(1, 2), item -> response(204));
+
+        // Assert
+        assertEquals(4, result.getConcurrency(), "A concorrência de api.bulk.concurrency deveria ser usada");
+        assertThrows(IllegalArgumentException.class, () -> bulkExecutor.execute(List.of(1), item -> response(200), 0),
+                "Concorrência zero deveria ser rejeitada");
+    }
+
+    private static Response response(int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setStatusLine("HTTP/1.1 " + statusCode).setBody("").build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.reqres.automation.service.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineContext;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.stub.ReqresStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do cache de tokens: login single-flight, invalidação, backoff e renovação
+ *
+ * @implNote O login é feito contra um {@link ReqresStubServer} próprio do teste,
+ * cujo contador de requisições mostra quantas chamadas chegaram a {@code /login}
+ */
+public class AuthTokenCacheTest {
+
+    private static final String API_KEY = "test-key";
+    private static final String IDENTITY = "eve.holt@reqres.in";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReqresStubServer stub;
+    private ApiConfig apiConfig;
+    private AuthTokenCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        stub = ReqresStubServer.start(List.of(API_KEY));
+
+        apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "authTokenCacheEnabled", true);
+        ReflectionTestUtils.setField(apiConfig, "authTokenTtlMs", 60_000L);
+        ReflectionTestUtils.setField(apiConfig, "authTokenRefreshEnabled", false);
+        ReflectionTestUtils.setField(apiConfig, "authTokenRefreshFraction", 0.8);
+        ReflectionTestUtils.setField(apiConfig, "authTokenRefreshBackoffBaseMs", 10_000L);
+        ReflectionTestUtils.setField(apiConfig, "authTokenRefreshBackoffMaxMs", 60_000L);
+
+        cache = new AuthTokenCache();
+        ReflectionTestUtils.setField(cache, "apiConfig", apiConfig);
+        cache.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.shutdown();
+        stub.stop();
+    }
+
+    @Test
+    @DisplayName("Deve executar um único login para chamadas concorrentes da mesma identidade")
+    public void shouldLoginOnceForConcurrentCallers() throws Exception {
+        // Arrange
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        Supplier<String> slowLogin = () -> {
+            sleep(200);
+            return login(IDENTITY);
+        };
+        List<CompletableFuture<String>> tokens = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < callers; i++) {
+                tokens.add(CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return cache.get(IDENTITY, slowLogin);
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(tokens.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, stub.getRequestCount(), "Apenas uma chamada deveria chegar a /login");
+        assertTrue(tokens.stream().allMatch(token -> ReqresStubServer.TOKEN.equals(token.join())),
+                "Todas as chamadas deveriam receber o token do login único");
+        assertEquals(1, cache.getLogins(), "Logins contabilizados incorretamente");
+        assertEquals(callers - 1, cache.getSharedLogins() + cache.getHits(),
+                "As demais chamadas deveriam compartilhar o login ou o token em cache");
+    }
+
+    @Test
+    @DisplayName("Deve descartar o token de um login iniciado antes da invalidação")
+    public void shouldDropTokenOfLoginStartedBeforeInvalidation() throws Exception {
+        // Arrange
+        CountDownLatch loginStarted = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        AtomicInteger logins = new AtomicInteger();
+        Supplier<String> blockingLogin = () -> {
+            if (logins.incrementAndGet() == 1) {
+                loginStarted.countDown();
+                await(invalidated);
+            }
+            return login(IDENTITY);
+        };
+
+        // Act
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> cache.get(IDENTITY, blockingLogin));
+        assertTrue(loginStarted.await(5, TimeUnit.SECONDS), "O login não foi iniciado");
+        cache.invalidate(IDENTITY);
+        invalidated.countDown();
+        String stale = inFlight.get(5, TimeUnit.SECONDS);
+        String fresh = cache.get(IDENTITY, blockingLogin);
+
+        // Assert
+        assertEquals(ReqresStubServer.TOKEN, stale, "Quem aguardava o login deveria receber o token");
+        assertEquals(ReqresStubServer.TOKEN, fresh, "O novo login deveria obter o token");
+        assertEquals(2, stub.getRequestCount(), "O token anterior à invalidação não deveria ser reaproveitado");
+        cache.get(IDENTITY, blockingLogin);
+        assertEquals(2, stub.getRequestCount(), "O token do novo login deveria estar em cache");
+    }
+
+    @Test
+    @DisplayName("Deve falhar sem aguardar quando o backoff do login termina após o prazo")
+    public void shouldFailFastWhenBackoffExceedsDeadline() {
+        // Arrange
+        assertEquals("", cache.get(IDENTITY, () -> login("sem-senha")), "O login sem senha deveria falhar");
+        long start = System.nanoTime();
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> DeadlineContext.callWith(
+                Deadline.after("teste", 500), () -> cache.get(IDENTITY, () -> login(IDENTITY))),
+                "O backoff de 10 s não cabe no prazo de 500 ms");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs < 500, "A chamada não deveria aguardar o backoff: " + elapsedMs + " ms");
+        assertEquals(1, stub.getRequestCount(), "Nenhum novo login deveria ser enviado");
+    }
+
+    @Test
+    @DisplayName("Deve renovar apenas o token usado desde a renovação anterior")
+    public void shouldRefreshOnlyTokensInUse() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(apiConfig, "authTokenTtlMs", 400L);
+        ReflectionTestUtils.setField(apiConfig, "authTokenRefreshEnabled", true);
+        ReflectionTestUtils.setField(apiConfig, "authTokenRefreshFraction", 0.5);
+        cache.init();
+        cache.get(IDENTITY, () -> login(IDENTITY));
+        cache.get(IDENTITY, () -> login(IDENTITY));
+
+        // Act
+        Thread.sleep(300);
+        long afterUsedRefresh = stub.getRequestCount();
+        Thread.sleep(500);
+
+        // Assert
+        assertEquals(2, afterUsedRefresh, "O token usado após o login deveria ser renovado");
+        assertEquals(1, cache.getRefreshes(), "Renovações contabilizadas incorretamente");
+        assertEquals(2, stub.getRequestCount(), "O token sem uso desde a renovação não deveria ser renovado");
+    }
+
+    private String login(String email) {
+        String body = "sem-senha".equals(email)
+                ? "{\"email\":\"" + IDENTITY + "\"}"
+                : "{\"email\":\"" + email + "\",\"password\":\"cityslicka\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(stub.getBaseUrl() + "/login"))
+                .header("Content-Type", "application/json")
+                .header("X-API-KEY", API_KEY)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 ? objectMapper.readTree(response.body()).path("token").asText() : "";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
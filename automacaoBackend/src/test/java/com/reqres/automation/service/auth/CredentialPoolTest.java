@@ -0,0 +1,131 @@
+package com.reqres.automation.service.auth;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.Credential;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testes do aluguel e da devolução de identidades do pool de credenciais
+ *
+ * @implNote Os aluguéis por thread são feitos em threads próprias do teste, que
+ * terminam sem devolver a identidade, para simular aluguéis ativos concorrentes
+ */
+public class CredentialPoolTest {
+
+    private static final String CREDENTIALS = "eve.holt@reqres.in:cityslicka, george.bluth@reqres.in:pistol";
+
+    @Test
+    @DisplayName("Deve usar a conta padrão quando nenhuma credencial é configurada")
+    public void shouldFallBackToDefaultAccount() {
+        // Act
+        CredentialPool pool = poolWith("");
+
+        // Assert
+        assertEquals(1, pool.size(), "O pool deveria conter apenas a conta padrão");
+        assertEquals("eve.holt@reqres.in", pool.lease().getEmail(), "Conta padrão não utilizada");
+        pool.release();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar uma credencial sem senha na lista")
+    public void shouldRejectInvalidCredentialEntry() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> poolWith("eve.holt@reqres.in"), "Entrada sem senha aceita");
+    }
+
+    @Test
+    @DisplayName("Deve manter a identidade da thread e distribuir as demais pela menos alugada")
+    public void shouldBalanceLeasesAcrossThreads() {
+        // Arrange
+        CredentialPool pool = poolWith(CREDENTIALS);
+
+        // Act
+        Credential first = pool.lease();
+        Credential again = pool.lease();
+        Credential other = CompletableFuture.supplyAsync(pool::lease).join();
+
+        // Assert
+        assertEquals(2, pool.size(), "Credenciais da lista não carregadas");
+        assertSame(first, again, "A thread deveria manter a identidade alugada");
+        assertNotEquals(first.getEmail(), other.getEmail(), "A outra thread deveria receber a identidade livre");
+        pool.release();
+    }
+
+    @Test
+    @DisplayName("Deve consultar a identidade da thread sem alugar uma nova")
+    public void shouldReturnCurrentLeaseWithoutAcquiring() {
+        // Arrange
+        CredentialPool pool = poolWith(CREDENTIALS);
+
+        // Act
+        Credential none = pool.current();
+        Credential other = CompletableFuture.supplyAsync(pool::lease).join();
+        Credential leased = pool.lease();
+
+        // Assert
+        assertNull(none, "Sem aluguel ativo não deveria haver identidade corrente");
+        assertNotEquals(other.getEmail(), leased.getEmail(),
+                "A consulta não deveria ter ocupado a identidade livre");
+        assertSame(leased, pool.current(), "A identidade corrente deveria ser a alugada");
+        pool.release();
+        assertNull(pool.current(), "A devolução deveria encerrar o aluguel da thread");
+    }
+
+    @Test
+    @DisplayName("Deve disponibilizar a identidade devolvida para o próximo aluguel")
+    public void shouldReuseReleasedIdentity() {
+        // Arrange
+        CredentialPool pool = poolWith(CREDENTIALS);
+        Credential released = pool.lease();
+        CompletableFuture.supplyAsync(pool::lease).join();
+
+        // Act
+        pool.release();
+        Credential next = CompletableFuture.supplyAsync(pool::lease).join();
+
+        // Assert
+        assertEquals(released.getEmail(), next.getEmail(), "A identidade devolvida deveria ser a menos alugada");
+    }
+
+    @Test
+    @DisplayName("Deve manter a identidade do usuário virtual até a devolução")
+    public void shouldLeasePerVirtualUser() {
+        // Arrange
+        CredentialPool pool = poolWith(CREDENTIALS);
+
+        // Act
+        Credential alice = pool.lease("alice");
+        Credential aliceElsewhere = CompletableFuture.supplyAsync(() -> pool.lease("alice")).join();
+        Credential bob = pool.lease("bob");
+        pool.release("alice");
+        Credential carol = pool.lease("carol");
+
+        // Assert
+        assertSame(alice, aliceElsewhere, "O usuário virtual deveria manter a identidade entre threads");
+        assertNotEquals(alice.getEmail(), bob.getEmail(), "Usuários virtuais deveriam receber identidades distintas");
+        assertEquals(alice.getEmail(), carol.getEmail(), "A identidade devolvida deveria ser alugada novamente");
+    }
+
+    private static CredentialPool poolWith(String credentials) {
+        ApiConfig apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "authEmail", "eve.holt@reqres.in");
+        ReflectionTestUtils.setField(apiConfig, "authPassword", "cityslicka");
+        ReflectionTestUtils.setField(apiConfig, "authCredentialsFile", "");
+        ReflectionTestUtils.setField(apiConfig, "authCredentials", credentials);
+
+        CredentialPool pool = new CredentialPool();
+        ReflectionTestUtils.setField(pool, "apiConfig", apiConfig);
+        pool.init();
+        return pool;
+    }
+}
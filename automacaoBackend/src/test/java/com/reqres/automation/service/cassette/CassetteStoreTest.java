@@ -0,0 +1,141 @@
+package com.reqres.automation.service.cassette;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.User;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import com.reqres.automation.stub.ReqresStubServer;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes da gravação e da reprodução de interações pelo cassete
+ *
+ * @implNote Cada fase usa o seu próprio {@link ReqresStubServer}, em uma porta
+ * aleatória diferente, e o cassete é carregado e gravado sem o {@code init()}, para
+ * não registrar o filtro global do RestAssured enquanto outros testes executam
+ */
+public class CassetteStoreTest {
+
+    private static final String API_KEY = "reqres-free-v1";
+
+    @TempDir
+    Path directory;
+
+    private ReqresStubServer recordStub;
+    private ReqresStubServer replayStub;
+
+    @BeforeEach
+    public void setUp() {
+        recordStub = ReqresStubServer.start(List.of(API_KEY));
+        replayStub = ReqresStubServer.start(List.of(API_KEY));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recordStub.stop();
+        replayStub.stop();
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir em outra porta as interações gravadas sem acessar a rede")
+    public void shouldReplayRecordingWithoutNetwork() throws IOException {
+        // Arrange
+        Path cassette = directory.resolve("reqres.json");
+        CassetteInterceptor recorder = interceptor(store("record", recordStub, cassette));
+        Response recordedGet = recorder.intercept(get(recordStub), CassetteStoreTest::send);
+        Response recordedPost = recorder.intercept(post(recordStub), CassetteStoreTest::send);
+        storeOf(recorder).save();
+
+        CassetteStore replayStore = store("replay", replayStub, cassette);
+        CassetteInterceptor player = interceptor(replayStore);
+        ApiInterceptorChain network = request -> {
+            throw new AssertionError("A requisição não deveria acessar a rede em modo replay: " + request);
+        };
+
+        // Act
+        Response replayedGet = player.intercept(get(replayStub), network);
+        Response replayedPost = player.intercept(post(replayStub), network);
+
+        // Assert
+        assertEquals(2, recordStub.getRequestCount(), "A gravação deveria acessar o servidor");
+        assertEquals(0, replayStub.getRequestCount(), "A reprodução não deveria acessar o servidor");
+        assertEquals(2, replayStore.getReplayed(), "As duas interações deveriam ser reproduzidas");
+        assertEquals(recordedGet.getStatusCode(), replayedGet.getStatusCode(), "Status do GET divergente");
+        assertEquals(recordedGet.asString(), replayedGet.asString(), "Corpo do GET divergente");
+        assertEquals(recordedPost.getStatusCode(), replayedPost.getStatusCode(), "Status do POST divergente");
+        assertEquals(recordedPost.asString(), replayedPost.asString(), "Corpo do POST divergente");
+        assertEquals(List.of("reqres.json"), files(), "A gravação não deveria deixar arquivos temporários");
+    }
+
+    private CassetteStore store(String mode, ReqresStubServer stub, Path cassette) {
+        ApiConfig apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "mode", mode);
+        ReflectionTestUtils.setField(apiConfig, "baseUrl", stub.getBaseUrl());
+        ReflectionTestUtils.setField(apiConfig, "cassettePath", cassette.toString());
+
+        CassetteStore store = new CassetteStore();
+        ReflectionTestUtils.setField(store, "apiConfig", apiConfig);
+        store.load();
+        return store;
+    }
+
+    private static CassetteInterceptor interceptor(CassetteStore store) {
+        CassetteInterceptor interceptor = new CassetteInterceptor();
+        ReflectionTestUtils.setField(interceptor, "cassetteStore", store);
+        return interceptor;
+    }
+
+    private static CassetteStore storeOf(CassetteInterceptor interceptor) {
+        return (CassetteStore) ReflectionTestUtils.getField(interceptor, "cassetteStore");
+    }
+
+    private static ApiRequest get(ReqresStubServer stub) {
+        return new ApiRequest(Method.GET, spec(stub), "/users/2", null);
+    }
+
+    private static ApiRequest post(ReqresStubServer stub) {
+        return new ApiRequest(Method.POST, spec(stub), "/users", User.builder().firstName("Morpheus").job("leader").build());
+    }
+
+    private static RequestSpecification spec(ReqresStubServer stub) {
+        return new RequestSpecBuilder()
+                .setBaseUri(stub.getBaseUrl())
+                .setContentType(ContentType.JSON)
+                .addHeader("X-API-KEY", API_KEY)
+                .build();
+    }
+
+    private static Response send(ApiRequest request) {
+        RequestSpecification spec = given().spec(request.toSpec());
+        if (request.getPayload() != null) {
+            spec.body(request.getPayload());
+        }
+        return spec.request(request.getMethod(), request.getEndpoint()).then().extract().response();
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.reqres.automation.service.circuit;
+
+import com.reqres.automation.service.circuit.CircuitBreaker.State;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes das transições de estado do circuit breaker
+ *
+ * @implNote Janela de 4 chamadas, mínimo de 4, abertura com 50% de falhas ou de
+ * chamadas lentas (a partir de 100 ms), 50 ms em aberto e 2 chamadas de teste
+ */
+public class CircuitBreakerTest {
+
+    private static final long OPEN_MS = 50;
+
+    private final List<String> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker("/api/users/{id}",
+            new CircuitBreaker.Settings(4, 4, 50, 100, 50, OPEN_MS, 2),
+            (circuit, from, to) -> transitions.add(from + "->" + to));
+
+    @Test
+    @DisplayName("Deve permanecer fechado enquanto não há chamadas suficientes")
+    public void shouldStayClosedBelowMinimumCalls() {
+        // Act
+        call(true);
+        call(true);
+        call(true);
+
+        // Assert
+        assertEquals(State.CLOSED, breaker.getState(), "Três chamadas não atingem o mínimo da janela");
+        assertTrue(breaker.tryAcquirePermission(), "Chamadas deveriam continuar permitidas");
+    }
+
+    @Test
+    @DisplayName("Deve abrir ao atingir a taxa de falhas e recusar chamadas")
+    public void shouldOpenOnFailureRate() {
+        // Act
+        call(false);
+        call(true);
+        call(false);
+        call(true);
+
+        // Assert
+        assertEquals(State.OPEN, breaker.getState(), "50% de falhas deveria abrir o circuito");
+        assertFalse(breaker.tryAcquirePermission(), "O circuito aberto deveria recusar chamadas");
+        assertTrue(breaker.getRemainingOpenMs() > 0, "Tempo restante em aberto não informado");
+        assertEquals(List.of("CLOSED->OPEN"), transitions, "Transições incorretas");
+    }
+
+    @Test
+    @DisplayName("Deve abrir ao atingir a taxa de chamadas lentas")
+    public void shouldOpenOnSlowCallRate() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquirePermission(), "Chamada recusada no estado fechado");
+            breaker.onResult(false, i % 2 == 0 ? 150 : 10);
+        }
+
+        // Assert
+        assertEquals(State.OPEN, breaker.getState(), "50% de chamadas lentas deveria abrir o circuito");
+    }
+
+    @Test
+    @DisplayName("Deve descartar da janela as falhas mais antigas")
+    public void shouldSlideWindowOverOldFailures() {
+        // Arrange
+        call(true);
+        call(false);
+        call(false);
+        call(false);
+
+        // Act
+        call(false);
+
+        // Assert
+        assertEquals(State.CLOSED, breaker.getState(), "A falha antiga deveria ter saído da janela");
+        assertEquals(0, breaker.getFailureRatePercent(), "Taxa de falhas deveria considerar apenas a janela");
+    }
+
+    @Test
+    @DisplayName("Deve liberar chamadas de teste após o tempo em aberto e fechar com sucesso")
+    public void shouldCloseAfterSuccessfulHalfOpenCalls() throws InterruptedException {
+        // Arrange
+        open();
+        Thread.sleep(OPEN_MS * 2);
+
+        // Act
+        assertTrue(breaker.tryAcquirePermission(), "A primeira chamada de teste deveria ser liberada");
+        assertTrue(breaker.tryAcquirePermission(), "A segunda chamada de teste deveria ser liberada");
+        boolean thirdAllowed = breaker.tryAcquirePermission();
+        breaker.onResult(false, 10);
+        State afterFirstSuccess = breaker.getState();
+        breaker.onResult(false, 10);
+
+        // Assert
+        assertFalse(thirdAllowed, "O semiaberto deveria liberar apenas as chamadas de teste configuradas");
+        assertEquals(State.HALF_OPEN, afterFirstSuccess, "Deveria aguardar todas as chamadas de teste");
+        assertEquals(State.CLOSED, breaker.getState(), "As chamadas de teste bem-sucedidas deveriam fechar o circuito");
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions,
+                "Transições incorretas");
+        assertEquals(0, breaker.getFailureRatePercent(), "A janela deveria recomeçar ao fechar");
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando uma chamada de teste falha")
+    public void shouldReopenOnHalfOpenFailure() throws InterruptedException {
+        // Arrange
+        open();
+        Thread.sleep(OPEN_MS * 2);
+
+        // Act
+        assertTrue(breaker.tryAcquirePermission(), "A chamada de teste deveria ser liberada");
+        breaker.onResult(true, 10);
+
+        // Assert
+        assertEquals(State.OPEN, breaker.getState(), "A falha no semiaberto deveria reabrir o circuito");
+        assertFalse(breaker.tryAcquirePermission(), "O circuito reaberto deveria recusar chamadas");
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions,
+                "Transições incorretas");
+    }
+
+    @Test
+    @DisplayName("Não deve fechar o circuito com chamadas de teste devolvidas sem resultado")
+    public void shouldNotCloseOnReleasedHalfOpenPermits() throws InterruptedException {
+        // Arrange
+        open();
+        Thread.sleep(OPEN_MS * 2);
+
+        // Act
+        assertTrue(breaker.tryAcquirePermission(), "A primeira chamada de teste deveria ser liberada");
+        assertTrue(breaker.tryAcquirePermission(), "A segunda chamada de teste deveria ser liberada");
+        breaker.releasePermission();
+        breaker.releasePermission();
+        boolean reacquired = breaker.tryAcquirePermission();
+
+        // Assert
+        assertEquals(State.HALF_OPEN, breaker.getState(), "Chamadas sem resultado não deveriam fechar o circuito");
+        assertTrue(reacquired, "A vaga devolvida deveria ficar disponível para outra chamada de teste");
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN"), transitions, "Transições incorretas");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar resultados tardios de chamadas iniciadas antes da abertura")
+    public void shouldIgnoreLateResultsWhileOpen() {
+        // Arrange
+        open();
+
+        // Act
+        breaker.onResult(false, 10);
+
+        // Assert
+        assertEquals(State.OPEN, breaker.getState(), "Um resultado tardio não deveria alterar o estado");
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertEquals(State.OPEN, breaker.getState(), "O circuito deveria estar aberto");
+    }
+
+    private void call(boolean failed) {
+        assertTrue(breaker.tryAcquirePermission(), "Chamada recusada no estado fechado");
+        breaker.onResult(failed, 10);
+    }
+}
@@ -0,0 +1,148 @@
+package com.reqres.automation.service.deadline;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.endpoint.EndpointPolicy;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Method;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da propagação do prazo da thread para o timeout de leitura das chamadas
+ *
+ * @implNote A cadeia é simulada por uma função que registra o timeout que o
+ * {@code BaseApiService} aplicaria no envio de cada requisição
+ */
+public class DeadlineInterceptorTest {
+
+    private static final int ENDPOINT_TIMEOUT_MS = 30_000;
+
+    private final List<Integer> timeouts = new ArrayList<>();
+    private final List<Deadline> deadlines = new ArrayList<>();
+    private final ApiInterceptorChain network = request -> {
+        deadlines.add(request.getDeadline());
+        timeouts.add(request.getTimeoutMs());
+        return new ResponseBuilder().setStatusCode(200).setStatusLine("HTTP/1.1 200 OK").setBody("").build();
+    };
+
+    private ApiConfig apiConfig;
+    private DeadlineInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "deadlineEnabled", true);
+
+        interceptor = new DeadlineInterceptor();
+        ReflectionTestUtils.setField(interceptor, "apiConfig", apiConfig);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o timeout de leitura à medida que o prazo se esgota")
+    public void shouldShrinkReadTimeoutAsBudgetRunsDown() throws InterruptedException {
+        // Arrange
+        ApiRequest request = request();
+        Deadline deadline = Deadline.after("teste", 5000);
+
+        // Act
+        DeadlineContext.callWith(deadline, () -> interceptor.intercept(request, network));
+        Thread.sleep(300);
+        DeadlineContext.callWith(deadline, () -> interceptor.intercept(request, network));
+
+        // Assert
+        assertSame(deadline, deadlines.get(0), "O prazo da thread deveria acompanhar a requisição");
+        assertTrue(timeouts.get(0) <= 5000, "O timeout deveria ser limitado ao prazo: " + timeouts.get(0));
+        assertTrue(timeouts.get(1) <= timeouts.get(0) - 300,
+                "O timeout deveria descontar o tempo já consumido: " + timeouts);
+    }
+
+    @Test
+    @DisplayName("Deve manter o timeout do endpoint quando ele é menor que o tempo restante")
+    public void shouldKeepEndpointTimeoutWithinBudget() {
+        // Arrange
+        Deadline deadline = Deadline.after("teste", 60_000);
+
+        // Act
+        DeadlineContext.callWith(deadline, () -> interceptor.intercept(request(), network));
+
+        // Assert
+        assertEquals(ENDPOINT_TIMEOUT_MS, timeouts.get(0), "O timeout do endpoint deveria prevalecer");
+    }
+
+    @Test
+    @DisplayName("Deve recusar a chamada iniciada após o prazo sem acessar a rede")
+    public void shouldRefuseCallAfterDeadline() throws InterruptedException {
+        // Arrange
+        ApiRequest request = request();
+        Deadline deadline = Deadline.after("teste", 20);
+        Thread.sleep(50);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class,
+                () -> DeadlineContext.callWith(deadline, () -> interceptor.intercept(request, network)),
+                "A chamada após o prazo deveria falhar");
+        assertTrue(timeouts.isEmpty(), "A requisição não deveria chegar à rede");
+    }
+
+    @Test
+    @DisplayName("Deve recusar o envio quando o prazo expira durante a cadeia")
+    public void shouldRefuseSendWhenDeadlineExpiresInChain() {
+        // Arrange
+        ApiRequest request = request();
+        Deadline deadline = Deadline.after("teste", 20);
+        ApiInterceptorChain slowChain = next -> {
+            sleep(50);
+            return network.proceed(next);
+        };
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class,
+                () -> DeadlineContext.callWith(deadline, () -> interceptor.intercept(request, slowChain)),
+                "O timeout não deveria ser calculado após o prazo");
+    }
+
+    @Test
+    @DisplayName("Deve seguir apenas com o timeout do endpoint sem prazo ou com o prazo desabilitado")
+    public void shouldUseEndpointTimeoutWithoutDeadline() {
+        // Arrange
+        Deadline deadline = Deadline.after("teste", 1000);
+
+        // Act
+        interceptor.intercept(request(), network);
+        ReflectionTestUtils.setField(apiConfig, "deadlineEnabled", false);
+        DeadlineContext.callWith(deadline, () -> interceptor.intercept(request(), network));
+
+        // Assert
+        assertNull(deadlines.get(0), "Sem prazo na thread nenhum prazo deveria ser anexado");
+        assertNull(deadlines.get(1), "Com o prazo desabilitado nenhum prazo deveria ser anexado");
+        assertEquals(List.of(ENDPOINT_TIMEOUT_MS, ENDPOINT_TIMEOUT_MS), timeouts, "O timeout do endpoint deveria ser usado");
+    }
+
+    private static ApiRequest request() {
+        return new ApiRequest(Method.GET, new RequestSpecBuilder().setBaseUri("http://localhost:8080/api").build(),
+                "/users/2", null, new EndpointPolicy("user", ENDPOINT_TIMEOUT_MS, 0, true));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
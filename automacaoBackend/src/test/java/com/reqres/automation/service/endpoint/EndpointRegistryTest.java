@@ -0,0 +1,130 @@
+package com.reqres.automation.service.endpoint;
+
+import com.reqres.automation.config.ApiConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testes da expansão de templates de URI e da resolução de políticas por endpoint
+ */
+public class EndpointRegistryTest {
+
+    private EndpointRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        ApiConfig apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "usersEndpoint", "/users");
+        ReflectionTestUtils.setField(apiConfig, "loginEndpoint", "/login");
+        ReflectionTestUtils.setField(apiConfig, "endpointTimeoutMs", 30_000);
+        ReflectionTestUtils.setField(apiConfig, "endpointRatePerSecond", 0.0);
+        ReflectionTestUtils.setField(apiConfig, "endpointCacheable", true);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("api.endpoint.login.timeout.ms", "10000")
+                .withProperty("api.endpoint.login.cacheable", "false")
+                .withProperty("api.endpoint.user.rate.per.second", "5");
+
+        registry = new EndpointRegistry();
+        ReflectionTestUtils.setField(registry, "apiConfig", apiConfig);
+        ReflectionTestUtils.setField(registry, "environment", environment);
+        registry.init();
+    }
+
+    @Test
+    @DisplayName("Deve expandir as variáveis de path e de query")
+    public void shouldExpandPathAndQueryVariables() {
+        // Act & Assert
+        assertEquals("/users/2", registry.expand(ApiEndpoint.USER, 2), "Variável de path expandida incorretamente");
+        assertEquals("/users?page=3", registry.expand(ApiEndpoint.USER_PAGE, 3), "Variável de query expandida incorretamente");
+        assertEquals("/login", registry.expand(ApiEndpoint.LOGIN), "Template sem variáveis deveria ser mantido");
+    }
+
+    @Test
+    @DisplayName("Deve codificar apenas valores com caracteres reservados")
+    public void shouldEncodeReservedCharacters() {
+        // Arrange
+        UriTemplate template = UriTemplate.parse("/users/{id}/tags/{tag}");
+
+        // Act & Assert
+        assertEquals("/users/abc-1_2.3~/tags/x", template.expand("abc-1_2.3~", "x"), "Valor não reservado foi codificado");
+        assertEquals("/users/a%2Fb/tags/c%20d%26e", template.expand("a/b", "c d&e"), "Valor reservado não foi codificado");
+        assertEquals("/users/%C3%A9/tags/1", template.expand("é", 1), "Valor não ASCII deveria usar UTF-8");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar templates inválidos e quantidade incorreta de valores")
+    public void shouldRejectInvalidTemplatesAndValues() {
+        // Arrange
+        UriTemplate template = UriTemplate.parse("/users/{id}");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> UriTemplate.parse("/users/{id"), "Chave sem fechamento");
+        assertThrows(IllegalArgumentException.class, () -> UriTemplate.parse("/users/{}"), "Variável sem nome");
+        assertThrows(IllegalArgumentException.class, template::expand, "Valores a menos");
+        assertThrows(IllegalArgumentException.class, () -> template.expand(1, 2), "Valores a mais");
+        assertThrows(IllegalArgumentException.class, () -> template.expand((Object) null), "Valor nulo");
+    }
+
+    @Test
+    @DisplayName("Deve normalizar a chave do template como o path das chamadas")
+    public void shouldNormalizeTemplateKey() {
+        // Arrange
+        UriTemplate template = UriTemplate.parse("/users/{id}/orders/{order}?expand={field}");
+
+        // Act & Assert
+        assertEquals("/users/{id}/orders/{id}", template.getKey(), "Chave deveria omitir a query e usar {id}");
+        assertEquals(List.of("id", "order", "field"), template.getVariables(), "Variáveis na ordem do template");
+        assertEquals("/users", registry.template(ApiEndpoint.USER_PAGE).getKey(), "A query não faz parte da chave");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as políticas configuradas por endpoint")
+    public void shouldLoadPoliciesPerEndpoint() {
+        // Act
+        EndpointPolicy login = registry.policy(ApiEndpoint.LOGIN);
+        EndpointPolicy user = registry.policy(ApiEndpoint.USER);
+        EndpointPolicy users = registry.policy(ApiEndpoint.USERS);
+
+        // Assert
+        assertEquals(10_000, login.getTimeoutMs(), "Timeout específico do login não aplicado");
+        assertFalse(login.isCacheable(), "Cacheabilidade específica do login não aplicada");
+        assertEquals(5, user.getRatePerSecond(), "Taxa específica do usuário não aplicada");
+        assertEquals(30_000, users.getTimeoutMs(), "Endpoint sem configuração própria deveria usar o padrão");
+        assertSame(users, registry.policy(ApiEndpoint.USER_PAGE), "Endpoints com o mesmo nome deveriam compartilhar a política");
+    }
+
+    @Test
+    @DisplayName("Deve localizar a política de paths e URLs em texto")
+    public void shouldResolvePolicyForTextEndpoints() {
+        // Act & Assert
+        assertSame(registry.policy(ApiEndpoint.USER), registry.policyFor("/users/7"), "Path com ID deveria usar a política de usuário");
+        assertSame(registry.policy(ApiEndpoint.USERS), registry.policyFor("/users?page=2"), "A query deveria ser ignorada");
+        assertSame(registry.policy(ApiEndpoint.LOGIN), registry.policyFor("/login"), "Path do login não reconhecido");
+        assertEquals("default", registry.policyFor("/unknown/2").getName(), "Endpoint desconhecido deveria usar a política padrão");
+    }
+
+    @Test
+    @DisplayName("Deve associar as URIs expandidas à política do seu endpoint")
+    public void shouldResolvePolicyForExpandedEndpoints() {
+        // Act
+        String user = registry.expand(ApiEndpoint.USER, 7);
+        String page = registry.expand(ApiEndpoint.USER_PAGE, 2);
+
+        // Assert
+        assertSame(registry.policy(ApiEndpoint.USER), registry.policyFor(user), "URI expandida sem a política do usuário");
+        assertSame(registry.policy(ApiEndpoint.USER_PAGE), registry.policyFor(page), "URI expandida sem a política da listagem");
+        assertSame(registry.policyFor("/unknown/2"), registry.policyFor("/unknown/2"),
+                "Consultas repetidas deveriam retornar a mesma política");
+    }
+}
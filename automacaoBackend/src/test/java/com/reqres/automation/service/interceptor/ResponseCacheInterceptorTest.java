@@ -0,0 +1,152 @@
+package com.reqres.automation.service.interceptor;
+
+import com.reqres.automation.config.ApiConfig;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes do cache local de respostas GET
+ *
+ * @implNote A cadeia é simulada por uma função que conta as idas à rede e devolve
+ * no corpo o número da chamada, de modo que uma resposta servida pelo cache é
+ * reconhecida por repetir o corpo anterior
+ */
+public class ResponseCacheInterceptorTest {
+
+    private static final String BASE_URL = "http://localhost:8080/api";
+
+    private final List<String> networkCalls = new ArrayList<>();
+    private final ApiInterceptorChain network = request -> {
+        networkCalls.add(request.getMethod() + " " + request.getEndpoint());
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody("{\"call\":" + networkCalls.size() + "}")
+                .build();
+    };
+
+    private ResponseCacheInterceptor cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = cacheWith(30_000, 256);
+    }
+
+    @Test
+    @DisplayName("Deve atender a segunda chamada GET pelo cache")
+    public void shouldServeRepeatedGetFromCache() {
+        // Act
+        Response first = get("/users/2");
+        Response second = get("/users/2");
+
+        // Assert
+        assertEquals(1, networkCalls.size(), "A segunda chamada não deveria ir à rede");
+        assertEquals(first.asString(), second.asString(), "Resposta em cache difere da original");
+        assertEquals(1, cache.getHits(), "Acerto não contabilizado");
+    }
+
+    @Test
+    @DisplayName("Deve ir à rede novamente após o TTL da entrada")
+    public void shouldExpireEntriesAfterTtl() throws InterruptedException {
+        // Arrange
+        cache = cacheWith(50, 256);
+        get("/users/2");
+
+        // Act
+        Thread.sleep(100);
+        get("/users/2");
+
+        // Assert
+        assertEquals(2, networkCalls.size(), "Entrada expirada não deveria ser servida");
+    }
+
+    @Test
+    @DisplayName("Deve remover a entrada menos usada recentemente ao atingir o limite")
+    public void shouldEvictLeastRecentlyUsedEntry() {
+        // Arrange
+        cache = cacheWith(30_000, 2);
+        get("/users/1");
+        get("/users/2");
+        get("/users/1");
+
+        // Act
+        get("/users/3");
+        get("/users/1");
+        get("/users/2");
+
+        // Assert
+        assertEquals(List.of("GET /users/1", "GET /users/2", "GET /users/3", "GET /users/2"), networkCalls,
+                "A entrada removida deveria ser /users/2, a menos usada recentemente");
+        assertEquals(2, cache.getEvictions(), "Remoções LRU não contabilizadas");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o cache com Cache-Control: no-cache e substituir a entrada")
+    public void shouldBypassCacheWithNoCacheHeader() {
+        // Arrange
+        get("/users/2");
+
+        // Act
+        Response bypassed = cache.intercept(request(Method.GET, "/users/2")
+                .withHeader(ResponseCacheInterceptor.CACHE_CONTROL, "no-cache"), network);
+        Response cached = get("/users/2");
+
+        // Assert
+        assertEquals(2, networkCalls.size(), "A chamada com no-cache deveria ir à rede");
+        assertEquals(bypassed.asString(), cached.asString(), "A resposta obtida deveria substituir a entrada");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar as páginas da coleção e o recurso após uma escrita")
+    public void shouldInvalidateCollectionAndResourceOnWrite() {
+        // Arrange
+        get("/users?page=1");
+        get("/users?page=2");
+        get("/users/2");
+        get("/unknown/2");
+
+        // Act
+        cache.intercept(request(Method.PUT, "/users/2"), network);
+
+        // Assert
+        assertEquals(1, cache.size(), "Apenas /unknown/2 deveria permanecer em cache");
+        get("/unknown/2");
+        assertEquals(5, networkCalls.size(), "/unknown/2 deveria continuar em cache");
+    }
+
+    private Response get(String endpoint) {
+        return cache.intercept(request(Method.GET, endpoint), network);
+    }
+
+    private static ApiRequest request(Method method, String endpoint) {
+        RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(BASE_URL)
+                .addHeader("Authorization", "Bearer token")
+                .build();
+        return new ApiRequest(method, spec, endpoint, null);
+    }
+
+    private static ResponseCacheInterceptor cacheWith(long ttlMs, int maxEntries) {
+        ApiConfig apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "responseCacheEnabled", true);
+        ReflectionTestUtils.setField(apiConfig, "responseCacheTtlMs", ttlMs);
+        ReflectionTestUtils.setField(apiConfig, "responseCacheMaxEntries", maxEntries);
+
+        ResponseCacheInterceptor interceptor = new ResponseCacheInterceptor();
+        ReflectionTestUtils.setField(interceptor, "apiConfig", apiConfig);
+        return interceptor;
+    }
+}
@@ -0,0 +1,173 @@
+package com.reqres.automation.service.ratelimit;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.model.RateSample;
+import com.reqres.automation.service.deadline.Deadline;
+import com.reqres.automation.service.deadline.DeadlineExceededException;
+import com.reqres.automation.service.transport.RequestCancellation;
+import com.reqres.automation.util.TokenBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do controle adaptativo AIMD da taxa de requisições
+ *
+ * @implNote Taxa inicial de 4 req/s entre 1 e 10, incremento de 1 req/s por
+ * segundo de tráfego, redução pela metade, latência limite de 100 ms e intervalo
+ * mínimo de 50 ms entre reduções
+ */
+public class AimdRateControllerTest {
+
+    private static final long COOLDOWN_MS = 50;
+    private static final Path SERIES = Paths.get("target", "test-aimd", "aimd-rate.csv");
+
+    private final TokenBucket bucket = new TokenBucket(4, 1);
+    private AimdRateController controller;
+
+    @BeforeEach
+    public void setUp() {
+        ApiConfig apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "aimdEnabled", true);
+        ReflectionTestUtils.setField(apiConfig, "aimdMinRate", 1.0);
+        ReflectionTestUtils.setField(apiConfig, "aimdMaxRate", 10.0);
+        ReflectionTestUtils.setField(apiConfig, "aimdIncrease", 1.0);
+        ReflectionTestUtils.setField(apiConfig, "aimdDecreaseFactor", 0.5);
+        ReflectionTestUtils.setField(apiConfig, "aimdLatencyThresholdMs", 100L);
+        ReflectionTestUtils.setField(apiConfig, "aimdCooldownMs", COOLDOWN_MS);
+        ReflectionTestUtils.setField(apiConfig, "aimdSeriesPath", SERIES.toString());
+
+        controller = new AimdRateController();
+        ReflectionTestUtils.setField(controller, "apiConfig", apiConfig);
+        controller.attach(bucket);
+    }
+
+    @Test
+    @DisplayName("Deve aumentar a taxa aditivamente com respostas saudáveis")
+    public void shouldIncreaseAdditivelyOnHealthyResponses() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            controller.onResponse(200, 10);
+        }
+
+        // Assert
+        assertTrue(controller.getRate() > 4.9 && controller.getRate() < 5,
+                "Quatro respostas a ~4 req/s deveriam somar quase 1 req/s: " + controller.getRate());
+        assertEquals(controller.getRate(), bucket.getRatePerSecond(), "A taxa do balde não acompanhou o controle");
+        assertEquals(4, controller.getIncreases(), "Aumentos não contabilizados");
+    }
+
+    @Test
+    @DisplayName("Deve reduzir a taxa multiplicativamente em 429, latência alta e falha de I/O")
+    public void shouldDecreaseMultiplicativelyOnCongestion() throws InterruptedException {
+        // Act
+        controller.onResponse(429, 10);
+        double after429 = controller.getRate();
+        Thread.sleep(COOLDOWN_MS * 2);
+        controller.onResponse(200, 500);
+        double afterLatency = controller.getRate();
+        Thread.sleep(COOLDOWN_MS * 2);
+        controller.onFailure(new SocketTimeoutException("Read timed out"));
+
+        // Assert
+        assertEquals(2, after429, "O 429 deveria reduzir a taxa pela metade");
+        assertEquals(1, afterLatency, "A latência alta deveria reduzir a taxa pela metade");
+        assertEquals(1, controller.getRate(), "A taxa não deveria ficar abaixo do mínimo");
+        assertEquals(3, controller.getDecreases(), "Reduções não contabilizadas");
+    }
+
+    @Test
+    @DisplayName("Deve reduzir uma única vez por intervalo e ignorar respostas 5XX")
+    public void shouldDecreaseOncePerCooldownAndIgnoreServerErrors() {
+        // Act
+        controller.onResponse(429, 10);
+        controller.onResponse(429, 10);
+        controller.onResponse(429, 10);
+        controller.onResponse(503, 10);
+
+        // Assert
+        assertEquals(2, controller.getRate(), "Os 429 da mesma rajada deveriam causar uma única redução");
+        assertEquals(1, controller.getDecreases(), "Reduções durante o intervalo não deveriam contar");
+        assertEquals(0, controller.getIncreases(), "Um 5XX não deveria aumentar a taxa");
+    }
+
+    @Test
+    @DisplayName("Não deve reduzir a taxa quando a requisição foi cancelada pelo próprio cliente")
+    public void shouldIgnoreFailureOfCancelledRequest() {
+        // Arrange
+        RequestCancellation cancellation = new RequestCancellation();
+
+        // Act
+        cancellation.run(() -> {
+            cancellation.cancel();
+            controller.onFailure(new SocketException("Socket closed"));
+            return null;
+        });
+
+        // Assert
+        assertEquals(4, controller.getRate(), "A tentativa perdedora do hedging não deveria reduzir a taxa");
+        assertEquals(0, controller.getDecreases(), "Nenhuma redução deveria ser contabilizada");
+    }
+
+    @Test
+    @DisplayName("Não deve reduzir a taxa quando o prazo do chamador se esgota")
+    public void shouldIgnoreDeadlineExceeded() {
+        // Arrange
+        Deadline deadline = Deadline.after("teste", 1);
+
+        // Act
+        controller.onFailure(new DeadlineExceededException(deadline, "GET /users/2"));
+
+        // Assert
+        assertEquals(4, controller.getRate(), "O prazo esgotado do teste não indica congestionamento");
+        assertEquals(0, controller.getDecreases(), "Nenhuma redução deveria ser contabilizada");
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a taxa máxima configurada")
+    public void shouldClampToMaxRate() {
+        // Act
+        for (int i = 0; i < 500; i++) {
+            controller.onResponse(200, 10);
+        }
+
+        // Assert
+        assertEquals(10, controller.getRate(), "A taxa não deveria exceder o máximo");
+    }
+
+    @Test
+    @DisplayName("Deve registrar a série de ajustes e gravá-la em CSV")
+    public void shouldRecordAndWriteRateSeries() throws IOException {
+        // Arrange
+        Files.deleteIfExists(SERIES);
+        controller.onResponse(200, 10);
+        controller.onResponse(429, 10);
+
+        // Act
+        List<RateSample> series = controller.getSeries();
+        controller.shutdown();
+
+        // Assert
+        assertEquals(List.of("START", "INCREASE", "DECREASE"),
+                series.stream().map(RateSample::getEvent).collect(Collectors.toList()), "Série de ajustes incorreta");
+        assertEquals(4, series.get(0).getRatePerSecond(), "A primeira amostra deveria conter a taxa inicial");
+        List<String> lines = Files.readAllLines(SERIES, StandardCharsets.UTF_8);
+        assertEquals("elapsed_ms,rate_per_second,event,cause", lines.get(0), "Cabeçalho do CSV incorreto");
+        assertEquals(4, lines.size(), "O CSV deveria conter uma linha por amostra");
+        assertTrue(lines.get(3).contains("DECREASE,\"429\""), "Causa da redução ausente: " + lines.get(3));
+    }
+}
@@ -0,0 +1,250 @@
+package com.reqres.automation.service.retry;
+
+import com.reqres.automation.config.ApiConfig;
+import com.reqres.automation.service.interceptor.ApiInterceptorChain;
+import com.reqres.automation.service.interceptor.ApiRequest;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da repetição de falhas transitórias
+ *
+ * @implNote As respostas de erro são produzidas por uma cadeia simulada, já que o
+ * servidor local não devolve 429 nem 503; as esperas usam atrasos de poucos
+ * milissegundos para manter os testes rápidos
+ */
+public class RetryInterceptorTest {
+
+    private ApiConfig apiConfig;
+    private JitteredBackoffRetryPolicy policy;
+    private RetryInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        apiConfig = new ApiConfig();
+        ReflectionTestUtils.setField(apiConfig, "retryEnabled", true);
+        ReflectionTestUtils.setField(apiConfig, "retryMaxAttempts", 3);
+        ReflectionTestUtils.setField(apiConfig, "retryBaseDelayMs", 1L);
+        ReflectionTestUtils.setField(apiConfig, "retryMaxDelayMs", 5L);
+        ReflectionTestUtils.setField(apiConfig, "retryMaxRetryAfterMs", 30_000L);
+        ReflectionTestUtils.setField(apiConfig, "retryBudgetPercent", 20.0);
+        ReflectionTestUtils.setField(apiConfig, "retryBudgetMin", 10);
+
+        policy = new JitteredBackoffRetryPolicy();
+        ReflectionTestUtils.setField(policy, "apiConfig", apiConfig);
+
+        interceptor = new RetryInterceptor();
+        ReflectionTestUtils.setField(interceptor, "apiConfig", apiConfig);
+        ReflectionTestUtils.setField(interceptor, "retryPolicy", policy);
+        interceptor.init();
+    }
+
+    @Test
+    @DisplayName("Deve repetir um GET que recebeu 503 até obter sucesso")
+    public void shouldRetryGetOnServiceUnavailable() {
+        // Arrange
+        Deque<Response> responses = new ArrayDeque<>(Arrays.asList(response(503), response(503), response(200)));
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Response response = interceptor.intercept(request(Method.GET), sequence(responses, calls));
+
+        // Assert
+        assertEquals(200, response.getStatusCode(), "A última tentativa deveria ter sucesso");
+        assertEquals(3, calls.get(), "Deveriam ocorrer três tentativas");
+        assertEquals(2, interceptor.getRetries(), "Repetições não contabilizadas");
+    }
+
+    @Test
+    @DisplayName("Deve devolver a última resposta quando as tentativas se esgotam")
+    public void shouldReturnLastResponseWhenAttemptsAreExhausted() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Response response = interceptor.intercept(request(Method.GET), req -> {
+            calls.incrementAndGet();
+            return response(502);
+        });
+
+        // Assert
+        assertEquals(502, response.getStatusCode(), "A resposta final deveria ser devolvida ao chamador");
+        assertEquals(3, calls.get(), "O limite de tentativas não foi respeitado");
+    }
+
+    @Test
+    @DisplayName("Não deve repetir um POST que recebeu 503")
+    public void shouldNotRetryPostOnServerError() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Response response = interceptor.intercept(request(Method.POST), req -> {
+            calls.incrementAndGet();
+            return response(503);
+        });
+
+        // Assert
+        assertEquals(503, response.getStatusCode(), "O 503 deveria ser devolvido sem repetição");
+        assertEquals(1, calls.get(), "Um POST não deveria ser repetido após ser processado pelo servidor");
+    }
+
+    @Test
+    @DisplayName("Não deve repetir um POST após timeout de leitura")
+    public void shouldNotRetryPostOnReadTimeout() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> interceptor.intercept(request(Method.POST), req -> {
+            calls.incrementAndGet();
+            throw new UncheckedIOException(new SocketTimeoutException("Read timed out"));
+        }));
+        assertEquals(1, calls.get(), "O servidor pode ter processado o POST; não deveria haver repetição");
+    }
+
+    @Test
+    @DisplayName("Deve repetir um POST que não chegou a ser enviado ou recebeu 429")
+    public void shouldRetryPostWhenServerDidNotProcessIt() {
+        // Arrange
+        ApiRequest post = request(Method.POST);
+        UncheckedIOException refused = new UncheckedIOException(new ConnectException("Connection refused"));
+
+        // Act & Assert
+        assertTrue(policy.retryDelayMs(post, 1, null, refused) >= 0, "Falha de conexão deveria ser repetida");
+        assertTrue(policy.retryDelayMs(post, 1, response(429), null) >= 0, "429 deveria ser repetido");
+        assertTrue(policy.retryDelayMs(post.withHeader("Idempotency-Key", "abc"), 1, response(503), null) >= 0,
+                "POST com Idempotency-Key deveria ser repetido");
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o Retry-After em segundos e como data HTTP")
+    public void shouldHonorRetryAfter() {
+        // Arrange
+        ApiRequest get = request(Method.GET);
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+
+        // Act
+        long seconds = policy.retryDelayMs(get, 1, response(429, new Header("Retry-After", "2")), null);
+        long httpDate = policy.retryDelayMs(get, 1, response(503, new Header("Retry-After", date)), null);
+
+        // Assert
+        assertEquals(2000, seconds, "Retry-After em segundos deveria definir a espera");
+        assertTrue(httpDate > 8000 && httpDate <= 10_000, "Retry-After como data deveria definir a espera: " + httpDate);
+    }
+
+    @Test
+    @DisplayName("Deve aguardar o Retry-After antes da nova tentativa")
+    public void shouldWaitForRetryAfterBetweenAttempts() {
+        // Arrange
+        Deque<Response> responses = new ArrayDeque<>(Arrays.asList(
+                response(429, new Header("Retry-After", "1")), response(200)));
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        // Act
+        Response response = interceptor.intercept(request(Method.GET), sequence(responses, calls));
+
+        // Assert
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(200, response.getStatusCode(), "A tentativa após o Retry-After deveria ter sucesso");
+        assertTrue(elapsedMs >= 1000, "A nova tentativa ocorreu antes do Retry-After: " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Não deve repetir quando o Retry-After excede o limite configurado")
+    public void shouldNotRetryWhenRetryAfterExceedsLimit() {
+        // Arrange
+        ReflectionTestUtils.setField(apiConfig, "retryMaxRetryAfterMs", 1000L);
+
+        // Act
+        long delay = policy.retryDelayMs(request(Method.GET), 1, response(429, new Header("Retry-After", "120")), null);
+
+        // Assert
+        assertEquals(RetryPolicy.NO_RETRY, delay, "Uma espera acima do limite deveria encerrar as tentativas");
+    }
+
+    @Test
+    @DisplayName("Deve limitar as repetições ao orçamento da execução")
+    public void shouldLimitRetriesToBudget() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(50, 1);
+        for (int i = 0; i < 4; i++) {
+            budget.recordCall();
+        }
+
+        // Act & Assert
+        assertTrue(budget.tryAcquire(), "O mínimo deveria estar disponível");
+        assertTrue(budget.tryAcquire(), "50% de 4 chamadas deveria permitir mais repetições");
+        assertTrue(budget.tryAcquire(), "50% de 4 chamadas deveria permitir mais repetições");
+        assertFalse(budget.tryAcquire(), "O orçamento deveria estar esgotado");
+        assertEquals(3, budget.getRetries(), "Repetições reservadas incorretas");
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta sem repetir quando o orçamento está esgotado")
+    public void shouldStopRetryingWhenBudgetIsExhausted() {
+        // Arrange
+        ReflectionTestUtils.setField(apiConfig, "retryBudgetPercent", 0.0);
+        ReflectionTestUtils.setField(apiConfig, "retryBudgetMin", 0);
+        interceptor.init();
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Response response = interceptor.intercept(request(Method.GET), req -> {
+            calls.incrementAndGet();
+            return response(503);
+        });
+
+        // Assert
+        assertEquals(503, response.getStatusCode(), "A resposta deveria ser devolvida sem repetição");
+        assertEquals(1, calls.get(), "Sem orçamento não deveria haver repetição");
+        assertEquals(1, interceptor.getBudgetExhausted(), "Recusa por orçamento não contabilizada");
+    }
+
+    private static ApiInterceptorChain sequence(Deque<Response> responses, AtomicInteger calls) {
+        return req -> {
+            calls.incrementAndGet();
+            return responses.pop();
+        };
+    }
+
+    private static ApiRequest request(Method method) {
+        RequestSpecification spec = new RequestSpecBuilder().setBaseUri("http://localhost:8080/api").build();
+        return new ApiRequest(method, spec, "/users", method == Method.GET ? null : "{}");
+    }
+
+    private static Response response(int status, Header... headers) {
+        return new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status)
+                .setHeaders(new Headers(headers))
+                .setBody("")
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.reqres.automation.sharding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reqres.automation.history.TestHistoryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/**
+ * Ponto de entrada da JVM de um shard
+ *
+ * @implNote Executa as classes recebidas como argumentos pela JUnit Platform, com as
+ * mesmas configurações de {@code junit-platform.properties} e os listeners
+ * registrados via {@code META-INF/services}. Ao final grava um {@link ShardResult}
+ * com os contadores da execução, lido pelo {@link ShardedTestRunner}
+ *
+ * @implSpec Encerra a JVM com código 1 quando algum teste falha, de modo que os
+ * hooks de encerramento do Spring finalizem os componentes da execução
+ */
+public class ShardLauncher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardLauncher.class);
+
+    /** Propriedade de sistema com o índice do shard */
+    static final String INDEX_PROPERTY = "reqres.shard.index";
+
+    /** Propriedade de sistema com o arquivo de resultado do shard */
+    static final String RESULT_PROPERTY = "reqres.shard.result";
+
+    private ShardLauncher() {
+    }
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        LauncherDiscoveryRequest discoveryRequest = request()
+                .selectors(Arrays.stream(args).map(className -> selectClass(className)).collect(Collectors.toList()))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        LauncherFactory.create().execute(discoveryRequest, listener);
+        TestExecutionSummary summary = listener.getSummary();
+
+        ShardResult result = new ShardResult();
+        result.setIndex(Integer.getInteger(INDEX_PROPERTY, 0));
+        result.setClasses(Arrays.asList(args));
+        result.setTestsFound(summary.getTestsFoundCount());
+        result.setSucceeded(summary.getTestsSucceededCount());
+        result.setFailed(summary.getTotalFailureCount());
+        result.setSkipped(summary.getTestsSkippedCount());
+        result.setAborted(summary.getTestsAbortedCount());
+        result.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        summary.getFailures().forEach(failure -> {
+            String testId = TestHistoryListener.testId(failure.getTestIdentifier());
+            result.getFailures().add((testId != null ? testId : failure.getTestIdentifier().getDisplayName())
+                    + ": " + failure.getException());
+        });
+        write(result);
+
+        System.exit(summary.getTotalFailureCount() == 0 ? 0 : 1);
+    }
+
+    private static void write(ShardResult result) {
+        File file = new File(System.getProperty(RESULT_PROPERTY, "shard-" + result.getIndex() + ".json"));
+        try {
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        } catch (IOException e) {
+            logger.error("Falha ao gravar o resultado do shard em {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.reqres.automation.sharding;
+
+import com.reqres.automation.history.TestHistory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Distribui as classes de teste entre shards pelo custo histórico
+ *
+ * @implNote Aplica o escalonamento Longest Processing Time: as classes são
+ * percorridas da maior para a menor duração estimada por
+ * {@link TestHistory#estimateClassMs(String)} e cada uma é atribuída ao shard com a
+ * menor carga acumulada. O resultado fica a no máximo 4/3 do makespan ótimo
+ *
+ * @implSpec Segue o padrão de design Utility Class com construtor privado. O plano
+ * é determinístico: empates são resolvidos pelo nome da classe, pelo número de
+ * classes do shard e pelo menor índice, o que também distribui as classes sem
+ * histórico de forma uniforme
+ */
+public class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * Calcula o plano de execução
+     *
+     * @param classNames Classes de teste de nível superior
+     * @param history Histórico de durações
+     * @param shardCount Número de shards
+     * @return Um plano por shard, incluindo shards sem classes quando há menos classes que shards
+     */
+    public static List<ShardResult> plan(List<String> classNames, TestHistory history, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("O número de shards deve ser positivo: " + shardCount);
+        }
+        List<ShardResult> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            ShardResult shard = new ShardResult();
+            shard.setIndex(i);
+            shards.add(shard);
+        }
+
+        List<String> ordered = new ArrayList<>(classNames);
+        ordered.sort(Comparator.comparingDouble(history::estimateClassMs).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        for (String className : ordered) {
+            ShardResult lightest = shards.stream()
+                    .min(Comparator.comparingLong(ShardResult::getEstimatedMs)
+                            .thenComparingInt(shard -> shard.getClasses().size()))
+                    .orElseThrow();
+            lightest.getClasses().add(className);
+            lightest.setEstimatedMs(lightest.getEstimatedMs() + Math.round(history.estimateClassMs(className)));
+        }
+        return shards;
+    }
+}
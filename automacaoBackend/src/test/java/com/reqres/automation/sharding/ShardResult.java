@@ -0,0 +1,51 @@
+package com.reqres.automation.sharding;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plano e resultado da execução de um shard
+ *
+ * @implNote Utiliza o padrão de design DTO: o {@link ShardPlanner} define as classes e
+ * o custo estimado, a JVM do shard preenche os contadores ao final da execução e o
+ * {@link ShardedTestRunner} completa o código de saída do processo
+ */
+@Data
+@NoArgsConstructor
+public class ShardResult {
+    /** Índice do shard, a partir de zero */
+    private int index;
+
+    /** Classes de teste de nível superior atribuídas ao shard */
+    private List<String> classes = new ArrayList<>();
+
+    /** Soma das durações estimadas das classes, em milissegundos */
+    private long estimatedMs;
+
+    /** Número de testes encontrados */
+    private long testsFound;
+
+    /** Número de testes bem-sucedidos */
+    private long succeeded;
+
+    /** Número de testes com falha */
+    private long failed;
+
+    /** Número de testes ignorados */
+    private long skipped;
+
+    /** Número de testes abortados por suposições não atendidas */
+    private long aborted;
+
+    /** Tempo de parede do shard, em milissegundos */
+    private long durationMs;
+
+    /** Código de saída da JVM do shard */
+    private int exitCode;
+
+    /** Identificação e mensagem dos testes com falha */
+    private List<String> failures = new ArrayList<>();
+}
@@ -0,0 +1,50 @@
+package com.reqres.automation.sharding;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumo consolidado de uma execução em shards
+ *
+ * @implNote Gravado em {@code target/shards/summary.json} ao final da execução,
+ * somando os contadores de todos os shards
+ */
+@Data
+@NoArgsConstructor
+public class ShardedRunSummary {
+    /** Início da execução em formato ISO-8601 */
+    private String startedAt;
+
+    /** Tempo de parede do início do primeiro shard ao fim do último, em milissegundos */
+    private long makespanMs;
+
+    /** Número total de testes encontrados */
+    private long testsFound;
+
+    /** Número total de testes bem-sucedidos */
+    private long succeeded;
+
+    /** Número total de testes com falha */
+    private long failed;
+
+    /** Número total de testes ignorados */
+    private long skipped;
+
+    /** Número total de testes abortados */
+    private long aborted;
+
+    /** Resultado de cada shard */
+    private List<ShardResult> shards = new ArrayList<>();
+
+    /**
+     * Indica se a execução foi bem-sucedida
+     *
+     * @return true quando nenhum teste falhou e todas as JVMs terminaram normalmente
+     */
+    public boolean isSuccessful() {
+        return failed == 0 && shards.stream().allMatch(shard -> shard.getExitCode() == 0);
+    }
+}
@@ -0,0 +1,365 @@
+package com.reqres.automation.sharding;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reqres.automation.history.FlakinessPolicy;
+import com.reqres.automation.history.FlakyTest;
+import com.reqres.automation.history.ResultCache;
+import com.reqres.automation.history.RunSummary;
+import com.reqres.automation.history.TestHistory;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/**
+ * Executa a suíte dividida em várias JVMs e consolida os resultados
+ *
+ * @implNote Cada shard roda em uma JVM própria, com seu contexto Spring, heap e
+ * pool de conexões, eliminando a contenção entre as classes de teste que hoje
+ * compartilham a JVM do surefire. As classes são distribuídas pelo
+ * {@link ShardPlanner} com base no histórico de durações e, ao final:
+ * <ul>
+ *     <li>os resultados Allure de cada shard são copiados para um único diretório
+ *     ({@code allure.results.directory}, por padrão {@code target/allure-results});</li>
+ *     <li>as durações registradas por cada shard são incorporadas ao histórico;</li>
+ *     <li>as entradas do cache de resultados das classes de cada shard substituem as do cache principal;</li>
+ *     <li>os relatórios de testes instáveis de cada shard são unidos no relatório configurado
+ *     ({@code reqres.flaky.report.path}, por padrão {@code target/flaky-tests.json});</li>
+ *     <li>um resumo consolidado é registrado no log e gravado em {@code target/shards/summary.json}.</li>
+ * </ul>
+ *
+ * @implSpec Ativado pelo perfil Maven {@code sharding}. As propriedades de sistema
+ * {@code api.*}, {@code reqres.*}, {@code spring.*} e {@code junit.*} são repassadas
+ * às JVMs dos shards, junto dos argumentos de {@code reqres.shard.jvm.args}. A saída
+ * de cada JVM é gravada em {@code target/shards/shard-N/output.log}. Como o
+ * {@code GlobalRateLimiter} é único por JVM, a taxa, a rajada e os limites do AIMD
+ * efetivos (propriedade de sistema, {@code application.properties} ou padrão do
+ * {@code ApiConfig}) são divididos pelo número de shards, para que o conjunto das
+ * JVMs respeite o limite configurado para a API
+ *
+ * @apiNote Termina com código 1 quando algum teste falha ou alguma JVM termina de
+ * forma anormal, interrompendo o build
+ */
+public class ShardedTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedTestRunner.class);
+
+    /** Propriedade de sistema com o número de shards */
+    static final String COUNT_PROPERTY = "reqres.shard.count";
+
+    /** Propriedade de sistema com o diretório de trabalho dos shards */
+    static final String DIRECTORY_PROPERTY = "reqres.shard.dir";
+
+    /** Propriedade de sistema com argumentos adicionais das JVMs dos shards, como o agente do AspectJ */
+    static final String JVM_ARGS_PROPERTY = "reqres.shard.jvm.args";
+
+    /** Propriedade de sistema do Allure com o diretório de resultados */
+    static final String ALLURE_RESULTS_PROPERTY = "allure.results.directory";
+
+    /** Pacote raiz das classes de teste */
+    private static final String TEST_PACKAGE = "com.reqres.automation";
+
+    /** Prefixos das propriedades de sistema repassadas aos shards */
+    private static final List<String> FORWARDED_PREFIXES = Arrays.asList("api.", "reqres.", "spring.", "junit.");
+
+    /** Propriedades de taxa divididas entre os shards, com os padrões do {@code ApiConfig} */
+    private static final Map<String, String> SPLIT_RATE_PROPERTIES = Map.of(
+            "api.rate.limit.per.second", "2",
+            "api.rate.limit.burst", "2",
+            "api.aimd.min.rate", "0.5",
+            "api.aimd.max.rate", "20");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final int shardCount;
+    private final File directory;
+    private final File allureResults;
+
+    private ShardedTestRunner(int shardCount, File directory, File allureResults) {
+        this.shardCount = shardCount;
+        this.directory = directory;
+        this.allureResults = allureResults;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int defaultCount = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ShardedTestRunner runner = new ShardedTestRunner(
+                Integer.getInteger(COUNT_PROPERTY, defaultCount),
+                new File(System.getProperty(DIRECTORY_PROPERTY, "target/shards")),
+                new File(System.getProperty(ALLURE_RESULTS_PROPERTY, "target/allure-results")));
+        System.exit(runner.run().isSuccessful() ? 0 : 1);
+    }
+
+    /**
+     * Planeja, executa e consolida os shards
+     *
+     * @return Resumo consolidado da execução
+     * @throws IOException Se não for possível preparar os diretórios ou consolidar os resultados
+     * @throws InterruptedException Se a espera pelas JVMs dos shards for interrompida
+     */
+    ShardedRunSummary run() throws IOException, InterruptedException {
+        TestPlan testPlan = LauncherFactory.create().discover(request()
+                .selectors(selectPackage(TEST_PACKAGE))
+                .filters(ClassNameFilter.includeClassNamePatterns(ClassNameFilter.STANDARD_INCLUDE_PATTERN))
+                .build());
+        TestHistory history = TestHistory.load(testPlan.getConfigurationParameters()::get);
+        ResultCache resultCache = ResultCache.load(testPlan.getConfigurationParameters()::get);
+        File flakyReport = new File(FlakinessPolicy.load(testPlan.getConfigurationParameters()::get).getReportPath());
+        List<ShardResult> plan = ShardPlanner.plan(testClasses(testPlan), history, shardCount);
+        plan.forEach(shard -> logger.info("Shard {}: {} classes, custo estimado de {} ms {}",
+                shard.getIndex(), shard.getClasses().size(), shard.getEstimatedMs(), shard.getClasses()));
+
+        List<ShardResult> active = plan.stream().filter(shard -> !shard.getClasses().isEmpty()).collect(Collectors.toList());
+        Map<String, String> rateOverrides = splitRateProperties(active.size());
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        List<Process> processes = new ArrayList<>();
+        List<ShardResult> launched = new ArrayList<>();
+        for (ShardResult shard : active) {
+            processes.add(launch(shard, rateOverrides));
+            launched.add(shard);
+        }
+        for (int i = 0; i < processes.size(); i++) {
+            launched.get(i).setExitCode(processes.get(i).waitFor());
+        }
+        long makespanMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        ShardedRunSummary summary = new ShardedRunSummary();
+        summary.setStartedAt(startedAt.toString());
+        summary.setMakespanMs(makespanMs);
+        long totalTestMs = 0;
+        Map<String, FlakyTest> flakyTests = new LinkedHashMap<>();
+        for (ShardResult planned : launched) {
+            ShardResult result = readResult(planned);
+            summary.getShards().add(result);
+            summary.setTestsFound(summary.getTestsFound() + result.getTestsFound());
+            summary.setSucceeded(summary.getSucceeded() + result.getSucceeded());
+            summary.setFailed(summary.getFailed() + result.getFailed());
+            summary.setSkipped(summary.getSkipped() + result.getSkipped());
+            summary.setAborted(summary.getAborted() + result.getAborted());
+            mergeAllureResults(planned);
+            totalTestMs += mergeHistory(history, planned);
+            mergeResultCache(resultCache, planned);
+            readFlakyTests(planned).stream()
+                    .filter(test -> ownsTest(planned, test.getTestId()))
+                    .forEach(test -> flakyTests.put(test.getTestId(), test));
+        }
+        writeFlakyReport(flakyReport, flakyTests);
+        if (ResultCache.isEnabled(testPlan.getConfigurationParameters()::get)) {
+            resultCache.save();
+        }
+        history.recordRun(new RunSummary(startedAt.toString(), "shards-" + launched.size(),
+                (int) summary.getTestsFound(), makespanMs, totalTestMs));
+        history.save();
+        OBJECT_MAPPER.writeValue(new File(directory, "summary.json"), summary);
+        report(summary);
+        return summary;
+    }
+
+    private static List<String> testClasses(TestPlan testPlan) {
+        return testPlan.getRoots().stream()
+                .flatMap(root -> testPlan.getChildren(root).stream())
+                .map(TestIdentifier::getSource)
+                .flatMap(source -> source.filter(ClassSource.class::isInstance).stream())
+                .map(source -> ((ClassSource) source).getClassName())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Divide entre os shards os limites de taxa efetivos
+     *
+     * @param shards Número de JVMs executadas
+     * @return Valores por shard de cada propriedade de taxa
+     * @throws IOException Se não for possível ler o {@code application.properties}
+     * @implNote A rajada é inteira e mantém ao menos um token por shard
+     */
+    private static Map<String, String> splitRateProperties(int shards) throws IOException {
+        Properties defaults = new Properties();
+        try (InputStream input = ShardedTestRunner.class.getClassLoader().getResourceAsStream("application.properties")) {
+            if (input != null) {
+                defaults.load(input);
+            }
+        }
+        Map<String, String> overrides = new LinkedHashMap<>();
+        SPLIT_RATE_PROPERTIES.forEach((key, fallback) -> {
+            double total = Double.parseDouble(System.getProperty(key, defaults.getProperty(key, fallback)).trim());
+            overrides.put(key, key.endsWith(".burst")
+                    ? String.valueOf(Math.max(1, (int) (total / Math.max(1, shards))))
+                    : String.valueOf(total / Math.max(1, shards)));
+        });
+        if (shards > 1) {
+            logger.info("Limites de taxa por shard: {}", overrides);
+        }
+        return overrides;
+    }
+
+    private Process launch(ShardResult shard, Map<String, String> rateOverrides) throws IOException {
+        File shardDirectory = shardDirectory(shard);
+        Files.createDirectories(shardDirectory.toPath());
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmArgs = System.getProperty(JVM_ARGS_PROPERTY, "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        for (Map.Entry<Object, Object> property : System.getProperties().entrySet()) {
+            String key = property.getKey().toString();
+            if (FORWARDED_PREFIXES.stream().anyMatch(key::startsWith) && !key.startsWith("reqres.shard.")
+                    && !rateOverrides.containsKey(key)) {
+                command.add("-D" + key + "=" + property.getValue());
+            }
+        }
+        rateOverrides.forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add("-D" + ALLURE_RESULTS_PROPERTY + "=" + new File(shardDirectory, "allure-results").getAbsolutePath());
+        command.add("-D" + TestHistory.OUTPUT_PARAMETER + "=" + new File(shardDirectory, "history.json").getAbsolutePath());
+        command.add("-D" + ResultCache.OUTPUT_PARAMETER + "=" + new File(shardDirectory, "result-cache.json").getAbsolutePath());
+        command.add("-D" + FlakinessPolicy.REPORT_PARAMETER + "=" + new File(shardDirectory, "flaky-tests.json").getAbsolutePath());
+        command.add("-D" + ShardLauncher.INDEX_PROPERTY + "=" + shard.getIndex());
+        command.add("-D" + ShardLauncher.RESULT_PROPERTY + "=" + new File(shardDirectory, "result.json").getAbsolutePath());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardLauncher.class.getName());
+        command.addAll(shard.getClasses());
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(shardDirectory, "output.log"))
+                .start();
+    }
+
+    private ShardResult readResult(ShardResult planned) {
+        File file = new File(shardDirectory(planned), "result.json");
+        ShardResult result = planned;
+        if (file.isFile()) {
+            try {
+                result = OBJECT_MAPPER.readValue(file, ShardResult.class);
+            } catch (IOException e) {
+                logger.error("Resultado do shard {} ilegível: {}", planned.getIndex(), e.getMessage());
+            }
+        } else {
+            logger.error("Shard {} terminou sem gravar o resultado; consulte {}",
+                    planned.getIndex(), new File(shardDirectory(planned), "output.log"));
+        }
+        result.setIndex(planned.getIndex());
+        result.setClasses(planned.getClasses());
+        result.setEstimatedMs(planned.getEstimatedMs());
+        result.setExitCode(planned.getExitCode());
+        return result;
+    }
+
+    private void mergeAllureResults(ShardResult shard) throws IOException {
+        Path source = new File(shardDirectory(shard), "allure-results").toPath();
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+        Path target = allureResults.toPath();
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private long mergeHistory(TestHistory history, ShardResult shard) {
+        File file = new File(shardDirectory(shard), "history.json");
+        if (!file.isFile()) {
+            return 0;
+        }
+        TestHistory shardHistory = TestHistory.read(file);
+        history.mergeTests(shardHistory, testId -> ownsTest(shard, testId));
+        return shardHistory.lastRun().map(RunSummary::getTotalTestMs).orElse(0L);
+    }
+
+    private static boolean ownsTest(ShardResult shard, String testId) {
+        return shard.getClasses().stream()
+                .anyMatch(className -> testId.startsWith(className + "#") || testId.startsWith(className + "$"));
+    }
+
+    private void mergeResultCache(ResultCache resultCache, ShardResult shard) {
+        File file = new File(shardDirectory(shard), "result-cache.json");
+        if (!file.isFile()) {
+            return;
+        }
+        resultCache.mergeTests(ResultCache.read(file), uniqueId -> shard.getClasses().stream()
+                .anyMatch(className -> uniqueId.contains("[class:" + className + "]")));
+    }
+
+    private List<FlakyTest> readFlakyTests(ShardResult shard) {
+        File file = new File(shardDirectory(shard), "flaky-tests.json");
+        if (!file.isFile()) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(file, new TypeReference<List<FlakyTest>>() { });
+        } catch (IOException e) {
+            logger.error("Relatório de testes instáveis do shard {} ilegível: {}", shard.getIndex(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Grava o relatório consolidado de testes instáveis
+     *
+     * @param report Arquivo configurado em {@code reqres.flaky.report.path}
+     * @param flakyTests Testes instáveis de todos os shards, por identificação
+     * @implNote Cada shard lê o mesmo histórico principal e também relata testes de
+     * outras classes, com o estado anterior à execução; por isso apenas os testes das
+     * classes do próprio shard são considerados. O relatório é gravado mesmo vazio,
+     * como na execução em uma única JVM
+     */
+    private static void writeFlakyReport(File report, Map<String, FlakyTest> flakyTests) throws IOException {
+        List<FlakyTest> flaky = new ArrayList<>(flakyTests.values());
+        flaky.sort(Comparator.comparingDouble(FlakyTest::getScore).reversed().thenComparing(FlakyTest::getTestId));
+        if (report.getParentFile() != null) {
+            Files.createDirectories(report.getParentFile().toPath());
+        }
+        OBJECT_MAPPER.writeValue(report, flaky);
+    }
+
+    private void report(ShardedRunSummary summary) {
+        for (ShardResult shard : summary.getShards()) {
+            logger.info("Shard {}: {} testes, {} falhas, {} ignorados em {} ms (estimado {} ms), código de saída {}",
+                    shard.getIndex(), shard.getTestsFound(), shard.getFailed(), shard.getSkipped(),
+                    shard.getDurationMs(), shard.getEstimatedMs(), shard.getExitCode());
+            shard.getFailures().forEach(failure -> logger.error("  {}", failure));
+        }
+        logger.info("Execução em {} shards: {} testes, {} sucessos, {} falhas, {} ignorados, {} abortados; makespan de {} ms",
+                summary.getShards().size(), summary.getTestsFound(), summary.getSucceeded(), summary.getFailed(),
+                summary.getSkipped(), summary.getAborted(), summary.getMakespanMs());
+        logger.info("Resultados Allure consolidados em {}", allureResults);
+    }
+
+    private File shardDirectory(ShardResult shard) {
+        return new File(directory, "shard-" + shard.getIndex());
+    }
+}
@@ -0,0 +1,35 @@
+package com.reqres.automation.stub;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Direciona o contexto de testes para o {@link ReqresStubServer} quando habilitado
+ * 
+ * @implNote Com {@code api.stub.enabled=true} inicia o servidor compartilhado da JVM
+ * e sobrescreve {@code api.base.url} antes da criação dos beans, de modo que
+ * serviços, fixtures e testes passam a usar o servidor local sem alterações.
+ * Como o servidor local não impõe limite de taxa, o limitador global é desabilitado
+ * 
+ * @implSpec As chaves aceitas pelo servidor são as configuradas em {@code api.key}
+ */
+public class ReqresStubInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+    
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        ConfigurableEnvironment environment = context.getEnvironment();
+        if (!environment.getProperty("api.stub.enabled", Boolean.class, false)) {
+            return;
+        }
+        ReqresStubServer server = ReqresStubServer.shared(environment.getProperty("api.key", "reqres-free-v1"));
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put("api.base.url", server.getBaseUrl());
+        overrides.put("api.rate.limit.enabled", false);
+        environment.getPropertySources().addFirst(new MapPropertySource("reqresStub", overrides));
+    }
+}
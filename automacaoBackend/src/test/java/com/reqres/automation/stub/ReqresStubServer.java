@@ -0,0 +1,432 @@
+package com.reqres.automation.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servidor HTTP embarcado compatível com o contrato do reqres.in usado pela suíte
+ * 
+ * @implNote Implementa o padrão de design Test Double (Fake): reproduz em memória
+ * os endpoints {@code /users}, {@code /users/{id}} e {@code /login}, a validação do
+ * header {@code X-API-KEY} e os corpos de erro verificados pelos testes, permitindo
+ * executar a suíte sem rede, sem latência e sem limite de taxa
+ * 
+ * @implSpec Utiliza o {@link HttpServer} do JDK em uma porta aleatória do loopback,
+ * iniciando em poucos milissegundos. As respostas GET trazem {@code ETag} e
+ * respeitam {@code If-None-Match}, como o serviço real. Corpos de resposta a partir de
+ * {@value #GZIP_MIN_BYTES} bytes são comprimidos quando o cliente aceita gzip, e
+ * corpos de requisição com {@code Content-Encoding: gzip} são descomprimidos
+ * 
+ * @apiNote Escritas (POST, PUT, PATCH, DELETE) não alteram os dados, assim como no
+ * reqres.in: o corpo recebido é devolvido acrescido de {@code id}/{@code createdAt}
+ * ou {@code updatedAt}
+ */
+public final class ReqresStubServer {
+    
+    /** Token devolvido pelo reqres.in para logins válidos */
+    public static final String TOKEN = "QpwL5tke4Pnpja7X4";
+    
+    private static final String BASE_PATH = "/api";
+    private static final int PER_PAGE = 6;
+    private static final int GZIP_MIN_BYTES = 256;
+    
+    private static final String[][] USERS = {
+        {"george.bluth@reqres.in", "George", "Bluth"},
+        {"janet.weaver@reqres.in", "Janet", "Weaver"},
+        {"emma.wong@reqres.in", "Emma", "Wong"},
+        {"eve.holt@reqres.in", "Eve", "Holt"},
+        {"charles.morris@reqres.in", "Charles", "Morris"},
+        {"tracey.ramos@reqres.in", "Tracey", "Ramos"},
+        {"michael.lawson@reqres.in", "Michael", "Lawson"},
+        {"lindsay.ferguson@reqres.in", "Lindsay", "Ferguson"},
+        {"tobias.funke@reqres.in", "Tobias", "Funke"},
+        {"byron.fields@reqres.in", "Byron", "Fields"},
+        {"george.edwards@reqres.in", "George", "Edwards"},
+        {"rachel.howell@reqres.in", "Rachel", "Howell"}
+    };
+    
+    private static ReqresStubServer shared;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Set<String> apiKeys;
+    private final AtomicInteger nextId = new AtomicInteger(100);
+    private final AtomicLong requestCount = new AtomicLong();
+    
+    private HttpServer server;
+    private ExecutorService executor;
+    
+    private ReqresStubServer(Collection<String> apiKeys) {
+        this.apiKeys = new HashSet<>();
+        apiKeys.forEach(key -> this.apiKeys.add(key.trim()));
+    }
+    
+    /**
+     * Obtém o servidor compartilhado pela JVM, iniciando-o na primeira chamada
+     * 
+     * @param apiKeys Chaves de API aceitas pelo servidor
+     * @return Servidor em execução
+     */
+    public static synchronized ReqresStubServer shared(String... apiKeys) {
+        if (shared == null) {
+            shared = start(Arrays.asList(apiKeys));
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "reqres-stub-shutdown"));
+        }
+        return shared;
+    }
+    
+    /**
+     * Inicia um novo servidor em uma porta aleatória do loopback
+     * 
+     * @param apiKeys Chaves de API aceitas pelo servidor
+     * @return Servidor em execução
+     */
+    public static ReqresStubServer start(Collection<String> apiKeys) {
+        ReqresStubServer stub = new ReqresStubServer(apiKeys);
+        try {
+            stub.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao iniciar o servidor stub: " + e.getMessage(), e);
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+        stub.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "reqres-stub-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        stub.server.setExecutor(stub.executor);
+        stub.server.createContext("/", stub::handle);
+        stub.server.start();
+        return stub;
+    }
+    
+    /**
+     * Encerra o servidor e suas threads
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Obtém a URL base equivalente a {@code https://reqres.in/api}
+     * 
+     * @return URL base do servidor local
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + BASE_PATH;
+    }
+    
+    /**
+     * Obtém o número de requisições recebidas
+     * 
+     * @return Total de requisições desde a inicialização
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            route(exchange);
+        } catch (RuntimeException e) {
+            send(exchange, 500, error("Internal Server Error: " + e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private void route(HttpExchange exchange) throws IOException {
+        String apiKey = exchange.getRequestHeaders().getFirst("X-API-KEY");
+        if (apiKey == null || apiKey.trim().isEmpty()) {
+            ObjectNode body = error("Missing API key");
+            body.put("how_to_get_one", "https://reqres.in/signup");
+            send(exchange, 401, body);
+            return;
+        }
+        if (!apiKeys.contains(apiKey.trim())) {
+            send(exchange, 403, error("Invalid API key"));
+            return;
+        }
+        
+        String path = exchange.getRequestURI().getPath().trim();
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        String method = exchange.getRequestMethod();
+        
+        if (path.equals(BASE_PATH + "/users")) {
+            if ("GET".equals(method)) {
+                listUsers(exchange);
+            } else if ("POST".equals(method)) {
+                createUser(exchange);
+            } else {
+                send(exchange, 405, error("Method Not Allowed"));
+            }
+        } else if (path.startsWith(BASE_PATH + "/users/")) {
+            handleUser(exchange, method, path.substring((BASE_PATH + "/users/").length()));
+        } else if (path.equals(BASE_PATH + "/login")) {
+            if ("POST".equals(method)) {
+                login(exchange);
+            } else {
+                send(exchange, 405, error("Method Not Allowed"));
+            }
+        } else {
+            send(exchange, 404, objectMapper.createObjectNode());
+        }
+    }
+    
+    private void listUsers(HttpExchange exchange) throws IOException {
+        int page = intParam(exchange, "page", 1);
+        int perPage = intParam(exchange, "per_page", PER_PAGE);
+        int totalPages = (USERS.length + perPage - 1) / perPage;
+        
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("page", page);
+        body.put("per_page", perPage);
+        body.put("total", USERS.length);
+        body.put("total_pages", totalPages);
+        ArrayNode data = body.putArray("data");
+        for (int index = (page - 1) * perPage; index >= 0 && index < Math.min(page * perPage, USERS.length); index++) {
+            data.add(user(index + 1));
+        }
+        body.set("support", support());
+        sendCacheable(exchange, body);
+    }
+    
+    private void handleUser(HttpExchange exchange, String method, String idSegment) throws IOException {
+        int id;
+        try {
+            id = Integer.parseInt(idSegment);
+        } catch (NumberFormatException e) {
+            send(exchange, 404, objectMapper.createObjectNode());
+            return;
+        }
+        switch (method) {
+            case "GET":
+                if (id < 1 || id > USERS.length) {
+                    send(exchange, 404, objectMapper.createObjectNode());
+                    return;
+                }
+                ObjectNode body = objectMapper.createObjectNode();
+                body.set("data", user(id));
+                body.set("support", support());
+                sendCacheable(exchange, body);
+                return;
+            case "PUT":
+            case "PATCH":
+                ObjectNode updated = readJsonObject(exchange);
+                if (updated == null) {
+                    return;
+                }
+                updated.put("updatedAt", Instant.now().toString());
+                send(exchange, 200, updated);
+                return;
+            case "DELETE":
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            default:
+                send(exchange, 405, error("Method Not Allowed"));
+        }
+    }
+    
+    private void createUser(HttpExchange exchange) throws IOException {
+        ObjectNode created = readJsonObject(exchange);
+        if (created == null) {
+            return;
+        }
+        created.put("id", String.valueOf(nextId.incrementAndGet()));
+        created.put("createdAt", Instant.now().toString());
+        send(exchange, 201, created);
+    }
+    
+    private void login(HttpExchange exchange) throws IOException {
+        ObjectNode credentials = readJsonObject(exchange);
+        if (credentials == null) {
+            return;
+        }
+        String email = text(credentials, "email");
+        if (email.isEmpty()) {
+            email = text(credentials, "username");
+        }
+        if (email.isEmpty()) {
+            send(exchange, 400, error("Missing email or username"));
+            return;
+        }
+        if (text(credentials, "password").isEmpty()) {
+            send(exchange, 400, error("Missing password"));
+            return;
+        }
+        for (String[] user : USERS) {
+            if (user[0].equalsIgnoreCase(email)) {
+                ObjectNode body = objectMapper.createObjectNode();
+                body.put("token", TOKEN);
+                send(exchange, 200, body);
+                return;
+            }
+        }
+        send(exchange, 400, error("user not found"));
+    }
+    
+    /**
+     * Lê o corpo como objeto JSON ou formulário, respondendo 400 quando malformado
+     * 
+     * @return Objeto lido, ou null quando a resposta de erro já foi enviada
+     */
+    private ObjectNode readJsonObject(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        try (InputStream input = "gzip".equalsIgnoreCase(encoding)
+                ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            raw = input.readAllBytes();
+        }
+        String body = new String(raw, StandardCharsets.UTF_8).trim();
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        
+        if (contentType != null && contentType.toLowerCase().startsWith("application/x-www-form-urlencoded")) {
+            ObjectNode form = objectMapper.createObjectNode();
+            for (String pair : body.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                }
+            }
+            return form;
+        }
+        if (body.isEmpty()) {
+            return objectMapper.createObjectNode();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            if (node instanceof ObjectNode) {
+                return (ObjectNode) node;
+            }
+        } catch (JsonProcessingException e) {
+            // tratado abaixo como JSON malformado
+        }
+        send(exchange, 400, error("Bad Request: malformed JSON"));
+        return null;
+    }
+    
+    private ObjectNode user(int id) {
+        String[] user = USERS[id - 1];
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", id);
+        node.put("email", user[0]);
+        node.put("first_name", user[1]);
+        node.put("last_name", user[2]);
+        node.put("avatar", "https://reqres.in/img/faces/" + id + "-image.jpg");
+        return node;
+    }
+    
+    private ObjectNode support() {
+        ObjectNode support = objectMapper.createObjectNode();
+        support.put("url", "https://contentcaddy.io?utm_source=reqres&utm_medium=json&utm_campaign=referral");
+        support.put("text", "Tired of writing endless social media content? Let Content Caddy generate it for you.");
+        return support;
+    }
+    
+    private ObjectNode error(String message) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("error", message);
+        return body;
+    }
+    
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? "" : value.asText().trim();
+    }
+    
+    private int intParam(HttpExchange exchange, String name, int defaultValue) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                try {
+                    return Integer.parseInt(pair.substring(separator + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+    
+    /**
+     * Envia uma resposta GET com ETag, respondendo 304 quando o cliente já possui a versão atual
+     */
+    private void sendCacheable(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        String etag = "W/\"" + digest(bytes) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        List<String> ifNoneMatch = exchange.getRequestHeaders().get("If-None-Match");
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        send(exchange, 200, bytes);
+    }
+    
+    private void send(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        send(exchange, status, objectMapper.writeValueAsBytes(body));
+    }
+    
+    private void send(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (bytes.length >= GZIP_MIN_BYTES && acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+    
+    private String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
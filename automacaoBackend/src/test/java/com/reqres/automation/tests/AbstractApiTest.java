@@ -2,7 +2,12 @@ package com.reqres.automation.tests;
 
 import com.reqres.automation.config.ApiConfig;
 import com.reqres.automation.fixtures.RequestFixture;
+import com.reqres.automation.listeners.DeadlineExtension;
+import com.reqres.automation.listeners.FlakyRerunExtension;
+import com.reqres.automation.listeners.RerunnableTest;
+import com.reqres.automation.listeners.ResultCacheExtension;
 import com.reqres.automation.service.IAuthService;
+import com.reqres.automation.stub.ReqresStubInitializer;
 import com.reqres.automation.util.ReportManager;
 import com.reqres.automation.validators.ResponseValidator;
 import io.restassured.RestAssured;
@@ -10,12 +15,14 @@ import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
 
 /**
  * Classe abstrata base para todos os testes de API
@@ -28,8 +35,29 @@ import org.springframework.boot.test.context.SpringBootTest;
  * 
  * @implSpec Gerencia ciclo de vida dos testes com autenticação automática
  * e configuração padrão para requisições REST
+ * 
+ * @implNote Com {@code api.stub.enabled=true} os testes são executados contra o
+ * {@link com.reqres.automation.stub.ReqresStubServer} local em vez do reqres.in
+ * 
+ * @implNote O limite de taxa da API externa é respeitado pelo
+ * {@link com.reqres.automation.service.ratelimit.GlobalRateLimiter}, compartilhado
+ * por todas as threads, e não por intervalos fixos entre os testes
+ * 
+ * @implNote Cada teste tem um prazo, definido pela {@link DeadlineExtension} a partir
+ * de {@code @TestDeadline} ou da severidade, que limita o timeout de todas as suas
+ * chamadas HTTP
+ * 
+ * @implNote Com {@code reqres.result.cache.enabled=true} a {@link ResultCacheExtension}
+ * ignora os testes aprovados cujas entradas (bytecode, fixtures, propriedades e
+ * cassete) não mudaram desde a última execução
+ * 
+ * @implNote Os casos de teste são declarados com {@link RerunnableTest}: falhas de
+ * testes com histórico instável são reexecutadas pela {@link FlakyRerunExtension},
+ * com o ciclo de vida completo, dentro do orçamento de reexecuções da execução
  */
 @SpringBootTest
+@ContextConfiguration(initializers = ReqresStubInitializer.class)
+@ExtendWith({DeadlineExtension.class, ResultCacheExtension.class})
 public abstract class AbstractApiTest {
     
     @Autowired
@@ -60,15 +88,11 @@ public abstract class AbstractApiTest {
      * Inicialização para cada caso de teste individual
      * 
      * @param testInfo Metadados do teste atual para registro e relatório
-     * @implNote Implementa throttling de requisições para evitar problemas de rate limiting
      */
     @BeforeEach
     public void setupEach(TestInfo testInfo) {
         ReportManager.logTestStart(testInfo.getDisplayName());
         
-        // Throttling para evitar rate limiting em APIs externas
-        addDelay(1000);
-        
         // Autenticação centralizada via token JWT/OAuth
         authToken = authService.getAuthToken();
         
@@ -77,28 +101,14 @@ public abstract class AbstractApiTest {
     }
     
     /**
-     * Limpeza após cada caso de teste
+     * Finalização de cada caso de teste individual
      * 
-     * @implNote Implementa delay consistente após execução para evitar
-     * sobrecarga na API durante suítes de teste extensas
+     * @implNote Devolve ao pool a identidade alugada pela thread, que é reaproveitada
+     * pelo executor paralelo em outros testes
      */
     @AfterEach
-    public void tearDown() {
-        addDelay(1000);
-    }
-    
-    /**
-     * Implementa um mecanismo de delay controlado para operações de API
-     * 
-     * @param milliseconds Tempo de espera em milissegundos
-     * @throws RuntimeException em caso de interrupção, preservando sinais de interrupção
-     */
-    protected void addDelay(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    public void tearDownEach() {
+        authService.releaseCredential();
     }
     
     /**
@@ -2,6 +2,7 @@ package com.reqres.automation.tests;
 
 import com.reqres.automation.assertions.AuthAssertions;
 import com.reqres.automation.fixtures.AuthFixture;
+import com.reqres.automation.listeners.RerunnableTest;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -10,9 +11,7 @@ import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Map;
@@ -34,8 +33,7 @@ public class AuthApiTests extends AbstractApiTest {
     @Autowired
     private AuthAssertions authAssertions;
 
-    @Test
-    @Order(1)
+    @RerunnableTest
     @Story("Login com sucesso")
     @DisplayName("Deve realizar login com sucesso")
     @Description("Teste que verifica se a API de login retorna token quando as credenciais são válidas")
@@ -56,8 +54,7 @@ public class AuthApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(2)
+    @RerunnableTest
     @Story("Login com credenciais inválidas")
     @DisplayName("Deve retornar erro ao realizar login com senha inválida")
     @Description("Teste que verifica se a API de login retorna erro quando a senha é inválida")
@@ -83,8 +80,7 @@ public class AuthApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(3)
+    @RerunnableTest
     @Story("Login sem senha")
     @DisplayName("Deve retornar erro ao realizar login sem senha")
     @Description("Teste que verifica se a API de login retorna erro quando a senha não é fornecida")
@@ -105,8 +101,7 @@ public class AuthApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(4)
+    @RerunnableTest
     @Story("Login sem email")
     @DisplayName("Deve retornar erro ao realizar login sem email")
     @Description("Teste que verifica se a API de login retorna erro quando o email não é fornecido")
@@ -1,7 +1,8 @@
 package com.reqres.automation.tests;
 
-import com.reqres.automation.validators.ApiErrorValidator;
+import com.reqres.automation.listeners.RerunnableTest;
 import com.reqres.automation.validators.ApiErrorValidator.ErrorType;
+import com.reqres.automation.validators.ApiErrorValidator;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -17,7 +18,6 @@ import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,7 +64,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
     @DisplayName("Testes de validação de API Key")
     class ApiKeyValidationTests {
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de API Key ausente")
         @DisplayName("Deve validar mensagem de erro quando API Key está ausente")
         @Description("Verifica se a API retorna mensagem de erro específica quando a chave de API não é fornecida")
@@ -85,7 +85,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
             responseValidator.validateFieldExists(response, "how_to_get_one");
         }
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de API Key inválida")
         @DisplayName("Deve validar mensagem de erro quando API Key é inválida")
         @Description("Verifica se a API retorna mensagem de erro específica quando uma chave de API inválida é fornecida")
@@ -109,7 +109,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
     @DisplayName("Testes de validação de autenticação")
     class AuthenticationValidationTests {
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de credenciais inválidas")
         @DisplayName("Deve validar erro quando credenciais são inválidas")
         @Description("Verifica o comportamento da API quando credenciais incorretas são fornecidas")
@@ -179,7 +179,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
     @DisplayName("Testes de validação de formato de requisição")
     class RequestFormatValidationTests {
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de formato JSON inválido")
         @DisplayName("Deve validar erro quando formato JSON da requisição é inválido")
         @Description("Verifica o comportamento da API quando JSON malformado é enviado")
@@ -209,7 +209,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
             }
         }
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de Content-Type")
         @DisplayName("Deve validar erro quando Content-Type é inválido")
         @Description("Verifica o comportamento da API quando Content-Type não é JSON")
@@ -252,7 +252,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
     @DisplayName("Testes de recursos não encontrados")
     class ResourceNotFoundTests {
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de recurso não encontrado")
         @DisplayName("Deve validar erro quando recurso não existe")
         @Description("Verifica se a API retorna 404 quando o recurso solicitado não existe")
@@ -272,7 +272,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
     @DisplayName("Testes de métodos não permitidos")
     class MethodNotAllowedTests {
         
-        @Test
+        @RerunnableTest
         @Story("Validação de erro de método não permitido")
         @DisplayName("Deve validar erro quando método HTTP não é permitido")
         @Description("Verifica se a API retorna 405 quando um método HTTP não permitido é utilizado")
@@ -305,7 +305,7 @@ public class ImprovedApiErrorHandlingTest extends AbstractApiTest {
     @DisplayName("Testes de erros de timeout e servidor")
     class ServerErrorTests {
         
-        @Test
+        @RerunnableTest
         @Story("Simulação de erro de servidor")
         @DisplayName("Deve validar resposta para simulação de erro interno")
         @Description("Verifica o comportamento da API quando um erro interno é simulado")
@@ -2,6 +2,7 @@ package com.reqres.automation.tests;
 
 import com.reqres.automation.assertions.UserAssertions;
 import com.reqres.automation.fixtures.UserFixture;
+import com.reqres.automation.listeners.RerunnableTest;
 import com.reqres.automation.model.User;
 import com.reqres.automation.model.UserListResponse;
 import com.reqres.automation.service.IUserService;
@@ -13,9 +14,7 @@ import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,8 +40,7 @@ public class UserApiTests extends AbstractApiTest {
     private static final int VALID_USER_ID = 2;
     private static final int INVALID_USER_ID = 999;
 
-    @Test
-    @Order(1)
+    @RerunnableTest
     @Story("Listar usuários")
     @DisplayName("Deve retornar lista de usuários com sucesso")
     @Description("Teste que verifica se a API retorna a lista de usuários com sucesso")
@@ -66,8 +64,7 @@ public class UserApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(2)
+    @RerunnableTest
     @Story("Buscar usuário específico")
     @DisplayName("Deve retornar usuário específico com sucesso")
     @Description("Teste que verifica se a API retorna os dados de um usuário específico")
@@ -84,8 +81,7 @@ public class UserApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(3)
+    @RerunnableTest
     @Story("Criar usuário")
     @DisplayName("Deve criar um novo usuário com sucesso")
     @Description("Teste que verifica se a API cria um novo usuário corretamente")
@@ -104,8 +100,7 @@ public class UserApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(4)
+    @RerunnableTest
     @Story("Atualizar usuário")
     @DisplayName("Deve atualizar um usuário existente com sucesso")
     @Description("Teste que verifica se a API atualiza completamente os dados de um usuário")
@@ -124,8 +119,7 @@ public class UserApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(5)
+    @RerunnableTest
     @Story("Atualizar usuário parcialmente")
     @DisplayName("Deve atualizar parcialmente um usuário com sucesso")
     @Description("Teste que verifica se a API atualiza parcialmente os dados de um usuário")
@@ -144,8 +138,7 @@ public class UserApiTests extends AbstractApiTest {
         }, response);
     }
     
-    @Test
-    @Order(6)
+    @RerunnableTest
     @Story("Remover usuário")
     @DisplayName("Deve remover um usuário com sucesso")
     @Description("Teste que verifica se a API remove um usuário corretamente")
@@ -158,8 +151,7 @@ public class UserApiTests extends AbstractApiTest {
         responseValidator.validateStatusCode(204, response);
     }
     
-    @Test
-    @Order(7)
+    @RerunnableTest
     @Story("Erro - Usuário inexistente")
     @DisplayName("Deve retornar erro ao buscar usuário inexistente")
     @Description("Teste que verifica se a API retorna erro ao buscar usuário que não existe")
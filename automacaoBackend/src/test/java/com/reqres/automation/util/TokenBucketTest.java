@@ -0,0 +1,149 @@
+package com.reqres.automation.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do limitador de taxa token bucket
+ *
+ * @implNote As verificações de tempo usam apenas limites inferiores, que não
+ * dependem da carga da máquina; os limites superiores são folgados
+ */
+public class TokenBucketTest {
+
+    @Test
+    @DisplayName("Deve liberar a rajada sem espera e aguardar a reposição em seguida")
+    public void shouldAllowBurstThenWaitForRefill() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(20, 2);
+
+        // Act
+        long first = bucket.acquire();
+        long second = bucket.acquire();
+        long start = System.nanoTime();
+        long third = bucket.acquire();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertEquals(0, first + second, "A rajada não deveria aguardar");
+        assertTrue(third >= 40, "O terceiro token deveria aguardar cerca de 50 ms: " + third);
+        assertTrue(elapsedMs >= 40, "A espera informada não foi cumprida: " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Não deve acumular tokens além da capacidade")
+    public void shouldCapTokensAtCapacity() throws InterruptedException {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(100, 2);
+
+        // Act
+        Thread.sleep(100);
+
+        // Assert
+        assertTrue(bucket.tryAcquire(), "O primeiro token deveria estar disponível");
+        assertTrue(bucket.tryAcquire(), "O segundo token deveria estar disponível");
+        assertFalse(bucket.tryAcquire(), "O tempo ocioso não deveria exceder a capacidade");
+    }
+
+    @Test
+    @DisplayName("Deve coordenar a espera entre threads concorrentes")
+    public void shouldSpreadConcurrentAcquisitions() throws Exception {
+        // Arrange
+        long begin = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(50, 2);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Long>> waits = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < threads; i++) {
+                waits.add(CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return bucket.acquire();
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(waits.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        // Assert
+        long immediate = waits.stream().map(CompletableFuture::join).filter(wait -> wait == 0).count();
+        assertTrue(immediate <= 3, "Apenas a rajada e a reposição deveriam ser liberadas sem espera: " + immediate);
+        assertTrue(elapsedMs >= 115, "Seis tokens além da rajada a 50/s exigem 120 ms: " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a nova taxa nas esperas seguintes")
+    public void shouldApplyRateChange() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1000, 1);
+        bucket.acquire();
+
+        // Act
+        bucket.setRatePerSecond(10);
+        long waited = bucket.acquire();
+
+        // Assert
+        assertEquals(10, bucket.getRatePerSecond(), "Taxa não atualizada");
+        assertTrue(waited >= 90, "A espera deveria seguir a nova taxa de 10/s: " + waited);
+    }
+
+    @Test
+    @DisplayName("Deve recusar sem aguardar nem reservar quando a espera excede o limite")
+    public void shouldRefuseWhenWaitExceedsLimit() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 1);
+        bucket.acquire();
+
+        // Act
+        long start = System.nanoTime();
+        long refused = bucket.acquire(20);
+        long refusedElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long accepted = bucket.acquire(200);
+
+        // Assert
+        assertEquals(TokenBucket.NOT_ACQUIRED, refused, "A espera de ~100 ms excede o limite de 20 ms");
+        assertTrue(refusedElapsedMs < 20, "A recusa não deveria aguardar: " + refusedElapsedMs + " ms");
+        assertTrue(accepted >= 0 && accepted <= 100,
+                "A recusa não deveria ter reservado um token e atrasado o próximo: " + accepted);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar taxa e capacidade inválidas")
+    public void shouldRejectInvalidSettings() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1, 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1), "Taxa zero");
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0.5), "Capacidade menor que um token");
+        assertThrows(IllegalArgumentException.class, () -> bucket.setRatePerSecond(-1), "Taxa negativa");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}